@@ -0,0 +1,46 @@
+package com.beer.dispenser.apis.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.beer.dispenser.apis.service.BeerService;
+
+/**
+ * Recomputes amounts of beers on startup from the beer usage closed before amounts were maintained when a tap is closed, once per database.
+ * 
+ * <p>
+ * 	Runs {@link com.beer.dispenser.apis.service.BeerService#backfillAmounts() BeerService.backfillAmounts}, 
+ * 	which does nothing once it completed, before spending rollups are built from the same beer usage. 
+ * 	It can be disabled with {@code beer.dispenser.amount.backfill.enabled=false}, e.g. when it is run from a single instance.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.BeerService
+ * @see		com.beer.dispenser.apis.config.SpendingRollupInitializer
+ * @since	17th October 2026
+ */
+@Component
+@Order(1)
+public class BeerAmountInitializer implements ApplicationRunner {
+
+	@Autowired
+	private BeerService beerService;
+	
+	@Value("${beer.dispenser.amount.backfill.enabled:true}")
+	private boolean enabled;
+	
+	/**
+	 * Backfill amounts of beers when it was not done yet.
+	 */
+	@Override
+	public void run(ApplicationArguments args) {
+		
+		if(enabled) {
+			beerService.backfillAmounts();
+		}
+	}
+}
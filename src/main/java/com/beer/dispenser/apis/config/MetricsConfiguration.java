@@ -0,0 +1,62 @@
+package com.beer.dispenser.apis.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.beer.dispenser.apis.utils.QueryCountingInterceptor;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configures beans recording metrics of the application.
+ *
+ * <p>
+ * 	Requests to controllers are timed by Spring Boot as {@code http.server.requests} and invocations of repositories
+ * 	as {@code spring.data.repository.invocations}, both tagged by method. Methods annotated with {@code @Timed} are timed by {@link TimedAspect}.
+ * </p>
+ *
+ * <p>
+ * 	SQL statements and loaded entities are counted per request by {@link QueryCountingInterceptor}.
+ * </p>
+ *
+ * @author  Sanchay Yadav
+ * @see		com.beer.dispenser.apis.constants.MetricConstants
+ * @since	17th October 2026
+ */
+@Configuration
+public class MetricsConfiguration {
+
+	/**
+	 * Creates the aspect timing methods annotated with {@code @Timed}, tagged by class, method and exception.
+	 *
+	 * @param	meterRegistry
+	 * 			Registry of the timers.
+	 *
+	 * @return	{@code TimedAspect} timedAspect.
+	 */
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+		return new TimedAspect(meterRegistry);
+	}
+
+	/**
+	 * Registers {@code QueryCountingInterceptor} with Hibernate, as interceptor to count loaded entities
+	 * and as statement inspector to count SQL statements.
+	 *
+	 * @return	{@code HibernatePropertiesCustomizer} queryCountingCustomizer.
+	 */
+	@Bean
+	public HibernatePropertiesCustomizer queryCountingCustomizer() {
+
+		QueryCountingInterceptor queryCountingInterceptor = new QueryCountingInterceptor();
+
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.INTERCEPTOR, queryCountingInterceptor);
+			hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountingInterceptor);
+		};
+	}
+
+}
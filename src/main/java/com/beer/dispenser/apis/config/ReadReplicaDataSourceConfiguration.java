@@ -0,0 +1,76 @@
+package com.beer.dispenser.apis.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Configures a data source routing read-only transactions, such as fetching spending of a beer dispensery, to a read replica.
+ * 
+ * <p>
+ * 	Only enabled when {@code spring.datasource.replica.url} is set, connection properties of the replica are read from 
+ * 	{@code spring.datasource.replica.*} and those of the primary database from {@code spring.datasource.*}.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.config.ReadReplicaRoutingDataSource
+ * @since	17th October 2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.url")
+public class ReadReplicaDataSourceConfiguration {
+
+	/**
+	 * Connection properties of the primary database.
+	 * 
+	 * @return	{@code DataSourceProperties} bound to {@code spring.datasource}.
+	 */
+	@Bean
+	@Primary
+	@ConfigurationProperties("spring.datasource")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+	
+	/**
+	 * Connection properties of the read replica.
+	 * 
+	 * @return	{@code DataSourceProperties} bound to {@code spring.datasource.replica}.
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+	
+	/**
+	 * Creates the data source used by JPA, routing each transaction to primary database or read replica.
+	 * 
+	 * @return	{@code LazyConnectionDataSourceProxy} of {@code ReadReplicaRoutingDataSource}.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource() {
+		
+		Map<Object, Object> dataSources = new HashMap<>();
+		DataSource primaryDataSource = this.primaryDataSourceProperties().initializeDataSourceBuilder().build();
+		dataSources.put(ReadReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+		dataSources.put(ReadReplicaRoutingDataSource.REPLICA, this.replicaDataSourceProperties().initializeDataSourceBuilder().build());
+		
+		ReadReplicaRoutingDataSource readReplicaRoutingDataSource = new ReadReplicaRoutingDataSource();
+		readReplicaRoutingDataSource.setTargetDataSources(dataSources);
+		readReplicaRoutingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		readReplicaRoutingDataSource.afterPropertiesSet();
+		
+		return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+	}
+}
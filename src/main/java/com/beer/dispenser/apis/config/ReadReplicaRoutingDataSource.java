@@ -0,0 +1,32 @@
+package com.beer.dispenser.apis.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Data source sending connections of read-only transactions to the read replica and all others to the primary database.
+ * 
+ * <p>
+ * 	Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy LazyConnectionDataSourceProxy}, 
+ * 	so the connection is fetched after the transaction is marked read-only.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.config.ReadReplicaDataSourceConfiguration
+ * @since	17th October 2026
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	public static final String PRIMARY = "primary";
+	
+	public static final String REPLICA = "replica";
+	
+	/**
+	 * Determine the current lookup key, based on the read-only flag of the current transaction.
+	 */
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+	}
+
+}
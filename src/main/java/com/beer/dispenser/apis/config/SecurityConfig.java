@@ -1,6 +1,7 @@
 package com.beer.dispenser.apis.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,13 +12,19 @@ import org.springframework.security.config.annotation.web.builders.WebSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.beer.dispenser.apis.constants.CacheConstants;
+import com.beer.dispenser.apis.constants.WebSecurityConstants;
 import com.beer.dispenser.apis.service.impl.MyUserDetailsService;
+import com.beer.dispenser.apis.utils.CachingPasswordEncoder;
 import com.beer.dispenser.apis.utils.JwtRequestFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
 /**
  * Sets up security configuration to allow calls only from authenticated users.
  * 
@@ -34,8 +41,22 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter{
 	@Autowired
 	private JwtRequestFilter jwtRequestFilter;
 	
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+	
+	@Value("${beer.dispenser.security.bcrypt-strength:10}")
+	private int bcryptStrength;
+	
+	@Value("${beer.dispenser.security.verification-cache.maximum-size:1000}")
+	private long verificationCacheMaximumSize;
+	
+	@Value("${beer.dispenser.security.verification-cache.ttl-seconds:300}")
+	private long verificationCacheTtlSeconds;
+	
 	private static final String[] AUTH_WHITELISTED_URLS = {
 			   "/security/authenticate",
+			   "/security/refresh",
+			   "/actuator/prometheus",   // metrics scraped by Prometheus
 //			   "/dispenser/{id}/spending",
 			   "/v2/api-docs",           // swagger
                "/webjars/**",            // swagger-ui webjars
@@ -52,7 +73,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter{
 	@Override
 	protected void configure(AuthenticationManagerBuilder auth) throws Exception {
 		
-		auth.userDetailsService(myUserDetailsService);
+		auth.userDetailsService(myUserDetailsService).passwordEncoder(passwordEncoder());
 	}
 
 	/**
@@ -65,6 +86,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter{
 //	    antMatchers("/dispenser/**").authenticated().
 //	    antMatchers("/Security/authenticate").permitAll().
 
+		antMatchers("/actuator/slowqueries/**").hasRole(WebSecurityConstants.ADMIN_ROLE).   // SQL of recent slow queries
 		anyRequest().authenticated().
 		and()
 		.sessionManagement()
@@ -93,11 +115,24 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter{
 
 	/**
 	 * Service interface for encoding passwords.
-	 * @return	{ @code NoOpPasswordEncoder.getInstance() } 
+	 * 
+	 * <p>
+	 * 	Passwords are hashed with BCrypt, whose cost is set by {@code beer.dispenser.security.bcrypt-strength}. 
+	 * 	Successful verifications are cached for a short time, so repeated logins of an operator don't repeat the slow hashing.
+	 * </p>
+	 * 
+	 * @return	{@code CachingPasswordEncoder} of {@code BCryptPasswordEncoder}.
 	 */
 	@Bean
 	public PasswordEncoder passwordEncoder() {
-		return NoOpPasswordEncoder.getInstance();
+		CachingPasswordEncoder cachingPasswordEncoder = new CachingPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), 
+				verificationCacheMaximumSize, verificationCacheTtlSeconds);
+		
+		if(meterRegistry != null && cachingPasswordEncoder.getVerifications() != null) {
+			CaffeineCacheMetrics.monitor(meterRegistry, cachingPasswordEncoder.getVerifications(), CacheConstants.PASSWORD_VERIFICATION_CACHE);
+		}
+		
+		return cachingPasswordEncoder;
 	}
 }
 
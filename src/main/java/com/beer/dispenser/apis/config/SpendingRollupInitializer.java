@@ -0,0 +1,45 @@
+package com.beer.dispenser.apis.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.beer.dispenser.apis.service.SpendingRollupService;
+
+/**
+ * Builds spending rollups on startup from the beer usage closed before rollups existed, once per database.
+ * 
+ * <p>
+ * 	Runs {@link com.beer.dispenser.apis.service.SpendingRollupService#backfill() SpendingRollupService.backfill}, 
+ * 	which does nothing once it completed. It can be disabled with {@code beer.dispenser.rollup.backfill.enabled=false}, 
+ * 	e.g. when it is run from a single instance.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.SpendingRollupService
+ * @since	17th October 2026
+ */
+@Component
+@Order(2)
+public class SpendingRollupInitializer implements ApplicationRunner {
+
+	@Autowired
+	private SpendingRollupService spendingRollupService;
+	
+	@Value("${beer.dispenser.rollup.backfill.enabled:true}")
+	private boolean enabled;
+	
+	/**
+	 * Backfill spending rollups when it was not done yet.
+	 */
+	@Override
+	public void run(ApplicationArguments args) {
+		
+		if(enabled) {
+			spendingRollupService.backfill();
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package com.beer.dispenser.apis.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.beer.dispenser.apis.utils.SqlTraceListener;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Configures tracing of SQL executed through the data source, replacing {@code spring.jpa.show-sql}.
+ * 
+ * <p>
+ * 	Every {@code DataSource} bean, i.e. the connection pool or the {@code ReadReplicaRoutingDataSource} when a read replica is configured, 
+ * 	is wrapped in a {@code ProxyDataSource} notifying {@code SqlTraceListener} of every execution. 
+ * 	Disabled by {@code beer.dispenser.sql-trace.enabled=false}, then the data source is not wrapped at all.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.SqlTraceListener
+ * @since	17th October 2026
+ */
+@Configuration
+@ConditionalOnProperty(name = "beer.dispenser.sql-trace.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTraceConfiguration {
+
+	/**
+	 * Wraps {@code DataSource} beans in a {@code ProxyDataSource} notifying {@code SqlTraceListener}.
+	 * 
+	 * <p>
+	 * 	Static, so post processor is registered without creating this configuration early. 
+	 * 	Listener is looked up only when a data source is created.
+	 * </p>
+	 * 
+	 * @param	sqlTraceListener
+	 * 			Provider of the listener.
+	 * 
+	 * @return	{@code BeanPostProcessor} sqlTraceDataSourcePostProcessor.
+	 */
+	@Bean
+	public static BeanPostProcessor sqlTraceDataSourcePostProcessor(ObjectProvider<SqlTraceListener> sqlTraceListener) {
+		
+		return new BeanPostProcessor() {
+			
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				
+				if(!(bean instanceof DataSource) || bean instanceof ProxyDataSource) {
+					return bean;
+				}
+				
+				return ProxyDataSourceBuilder.create(beanName, (DataSource) bean)
+											 .listener(sqlTraceListener.getObject())
+											 .build();
+			}
+		};
+	}
+}
@@ -1,9 +1,15 @@
 package com.beer.dispenser.apis.config;
 
+import java.lang.reflect.Field;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
 
 import springfox.documentation.builders.ApiInfoBuilder;
 import springfox.documentation.builders.PathSelectors;
@@ -13,6 +19,7 @@ import springfox.documentation.service.ApiKey;
 import springfox.documentation.service.SecurityReference;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spring.web.plugins.Docket;
+import springfox.documentation.spring.web.plugins.WebMvcRequestHandlerProvider;
 import springfox.documentation.swagger2.annotations.EnableSwagger2;
 
 import springfox.documentation.service.AuthorizationScope;
@@ -53,6 +60,41 @@ public class SwaggerConfiguration implements WebMvcConfigurer {
 				.apiInfo(metaData());
 	}
 	
+	/**
+	 * Hides handler mappings which match paths with {@code PathPatternParser}, like the actuator endpoints, from springfox.
+	 * 
+	 * <p>
+	 * 	Springfox reads only ant style patterns of handler mappings and fails to start when actuator is on the classpath.
+	 * </p>
+	 * 
+	 * @return	Post processor of {@code WebMvcRequestHandlerProvider}.
+	 */
+	@Bean
+	public static BeanPostProcessor springfoxHandlerProviderBeanPostProcessor() {
+		
+		return new BeanPostProcessor() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				
+				if(bean instanceof WebMvcRequestHandlerProvider) {
+					Field field = ReflectionUtils.findField(bean.getClass(), "handlerMappings");
+					ReflectionUtils.makeAccessible(field);
+					
+					List<RequestMappingInfoHandlerMapping> handlerMappings = (List<RequestMappingInfoHandlerMapping>) ReflectionUtils.getField(field, bean);
+					List<RequestMappingInfoHandlerMapping> antHandlerMappings = handlerMappings.stream()
+																								.filter(handlerMapping -> handlerMapping.getPatternParser() == null)
+																								.collect(Collectors.toList());
+					handlerMappings.clear();
+					handlerMappings.addAll(antHandlerMappings);
+				}
+				
+				return bean;
+			}
+		};
+	}
+	
 	private ApiInfo metaData() {
 		
 		return new ApiInfoBuilder()
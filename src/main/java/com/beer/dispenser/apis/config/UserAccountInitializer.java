@@ -0,0 +1,71 @@
+package com.beer.dispenser.apis.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.beer.dispenser.apis.entity.UserAccount;
+import com.beer.dispenser.apis.repo.UserAccountRepository;
+
+/**
+ * Creates the first user account on startup, so a new database can be used before any operator is added.
+ * 
+ * <p>
+ * 	The account is named by {@code beer.dispenser.security.bootstrap-user.user-name} and only created when no account has that name, 
+ * 	an existing account, e.g. whose password was changed, is never touched. An empty user name disables it.
+ * </p>
+ * 
+ * <p>
+ * 	No password is shipped, an account is not created until {@code beer.dispenser.security.bootstrap-user.password} is set, 
+ * 	e.g. from environment variable {@code BEER_DISPENSER_BOOTSTRAP_PASSWORD}.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.repo.UserAccountRepository
+ * @since	17th October 2026
+ */
+@Component
+public class UserAccountInitializer implements ApplicationRunner {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(UserAccountInitializer.class);
+	
+	@Autowired
+	private UserAccountRepository userAccountRepository;
+	
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+	
+	@Value("${beer.dispenser.security.bootstrap-user.user-name:}")
+	private String userName;
+	
+	@Value("${beer.dispenser.security.bootstrap-user.password:}")
+	private String password;
+	
+	@Value("${beer.dispenser.security.bootstrap-user.authorities:}")
+	private String authorities;
+	
+	/**
+	 * Create the bootstrap user account when it doesn't exist.
+	 */
+	@Override
+	public void run(ApplicationArguments args) {
+		
+		if(!StringUtils.hasText(userName) || userAccountRepository.existsByUserName(userName)) {
+			return;
+		}
+		
+		if(!StringUtils.hasText(password)) {
+			LOGGER.warn("Bootstrap user account {} is not created, its password is not set", userName);
+			return;
+		}
+		
+		userAccountRepository.save(new UserAccount(null, userName, passwordEncoder.encode(password), authorities, true));
+		LOGGER.info("Created bootstrap user account {}", userName);
+	}
+}
@@ -0,0 +1,23 @@
+package com.beer.dispenser.apis.constants;
+
+import java.math.BigDecimal;
+
+/**
+* Interface containing the price constants used to calculate how much was spent on a beer dispensery.
+* 
+* @author   Sanchay Yadav
+* @since	17th October 2026
+*
+*/
+public interface BeerPriceConstants {
+
+	/**
+	 * Price of one liter of beer coming out of the tap.
+	 */
+	double PRICE_PER_LITER = 12.25;
+	
+	/**
+	 * Amount charged for a beer usage whose tap is still open.
+	 */
+	BigDecimal OPEN_USAGE_SPENT = BigDecimal.valueOf(1.23);
+}
@@ -0,0 +1,40 @@
+package com.beer.dispenser.apis.constants;
+
+/**
+* Interface containing the names of caches used by the application.
+* 
+* <p>
+* 	Size and expiry of the caches managed by Spring are configured by {@code spring.cache.caffeine.spec}.
+* </p>
+* 
+* @author   Sanchay Yadav
+* @since	17th October 2026
+*
+*/
+public interface CacheConstants {
+
+	/**
+	 * Cache of the attributes of beer dispensery which never change, by id of beer dispensery.
+	 */
+	String DISPENSER_METADATA_CACHE = "dispenserMetadata";
+	
+	/**
+	 * Cache of the verified claims of JWT, by digest of JWT. Configured by {@code beer.dispenser.jwt.claims-cache}.
+	 */
+	String JWT_CLAIMS_CACHE = "jwtClaims";
+	
+	/**
+	 * Cache of whether a user is still active, by user name. Configured by {@code beer.dispenser.jwt.user-state-check}.
+	 */
+	String JWT_USER_STATE_CACHE = "jwtUserState";
+	
+	/**
+	 * Store of refresh tokens, by digest of refresh token. Configured by {@code beer.dispenser.jwt.refresh-token}.
+	 */
+	String REFRESH_TOKEN_CACHE = "refreshTokens";
+	
+	/**
+	 * Cache of successful password verifications. Configured by {@code beer.dispenser.security.verification-cache}.
+	 */
+	String PASSWORD_VERIFICATION_CACHE = "passwordVerifications";
+}
@@ -24,5 +24,27 @@ public interface ErrorMessageConstants {
 	 
 	String ERROR_DISPENSER_CLOSING_TIME_LESS_THAN_OPENING_TIME = "error.dispenser.wrong.time";
 	
+	String ERROR_DISPENSER_INVALID_TAP_EVENT = "error.dispenser.invalid.event";
+	
+	String ERROR_INVALID_PAGE_CURSOR = "error.invalid.page.cursor";
+	
+	String ERROR_INVALID_PAGE_LIMIT = "error.invalid.page.limit";
+	
+	String ERROR_INVALID_SPENDING_GRANULARITY = "error.invalid.spending.granularity";
+	
+	String ERROR_INVALID_SPENDING_RANGE = "error.invalid.spending.range";
+	
+	String ERROR_INVALID_TOP_LIMIT = "error.invalid.top.limit";
+	
+	String ERROR_INVALID_DISPENSER_IDS = "error.invalid.dispenser.ids";
+	
+	String ERROR_INVALID_TAP_EVENT_COUNT = "error.invalid.tap.event.count";
+	
+	String ERROR_TOO_MANY_DISPENSER_USAGES = "error.too.many.dispenser.usages";
+	
 	String ERROR_INVALID_USERNAME_OR_PASSWORD = "error.invalid.credentials";
+	
+	String ERROR_INVALID_REFRESH_TOKEN = "error.invalid.refresh.token";
+	
+	String ERROR_INVALID_JSON_WEB_TOKEN = "error.invalid.json.web.token";
 }
@@ -0,0 +1,85 @@
+package com.beer.dispenser.apis.constants;
+
+/**
+* Interface containing the names and tags of metrics recorded by the application.
+*
+* <p>
+* 	Metrics are published at {@code /actuator/metrics} and, in Prometheus format, at {@code /actuator/prometheus}.
+* 	Percentile histograms are enabled by {@code management.metrics.distribution.percentiles-histogram}.
+* </p>
+*
+* @author   Sanchay Yadav
+* @since	17th October 2026
+*
+*/
+public interface MetricConstants {
+
+	/**
+	 * Timer of the methods of {@code BeerService}, tagged by class and method.
+	 */
+	String BEER_SERVICE_TIMER = "beer.dispenser.service";
+
+	/**
+	 * Distribution summary of the number of beer usage loaded by a request, tagged by operation.
+	 */
+	String USAGES_LOADED_SUMMARY = "beer.dispenser.usages.loaded";
+
+	/**
+	 * Counter of rejected changes of beer dispensery, tagged by error message key.
+	 */
+	String CONFLICT_COUNTER = "beer.dispenser.conflicts";
+
+	/**
+	 * Timer of the validation of the JWT of a request, tagged by result.
+	 */
+	String TOKEN_VALIDATION_TIMER = "beer.dispenser.jwt.validation";
+
+	/**
+	 * Distribution summary of the number of SQL statements executed by a request, tagged by method and URI.
+	 */
+	String REQUEST_STATEMENTS_SUMMARY = "beer.dispenser.request.statements";
+
+	/**
+	 * Distribution summary of the number of entities loaded by a request, tagged by method and URI.
+	 */
+	String REQUEST_ENTITIES_LOADED_SUMMARY = "beer.dispenser.request.entities.loaded";
+
+	/**
+	 * Counter of SQL executions slower than {@code beer.dispenser.sql-trace.slow-threshold-ms}.
+	 */
+	String SLOW_SQL_COUNTER = "beer.dispenser.sql.slow";
+
+	/**
+	 * Counter of SQL traces not logged because the queue of the logging thread was full.
+	 */
+	String SQL_TRACE_DROPPED_COUNTER = "beer.dispenser.sql.trace.dropped";
+
+	/**
+	 * Tag of the operation which recorded a metric.
+	 */
+	String TAG_OPERATION = "operation";
+
+	/**
+	 * Tag of the error message key, one of {@code ErrorMessageConstants}.
+	 */
+	String TAG_ERROR = "error";
+
+	/**
+	 * Tag of the result of the validation of a JWT.
+	 */
+	String TAG_RESULT = "result";
+
+	/**
+	 * Tag of the HTTP method of a request.
+	 */
+	String TAG_METHOD = "method";
+
+	/**
+	 * Tag of the URI pattern of a request.
+	 */
+	String TAG_URI = "uri";
+
+	String RESULT_AUTHENTICATED = "authenticated";
+
+	String RESULT_REJECTED = "rejected";
+}
@@ -3,5 +3,15 @@ package com.beer.dispenser.apis.constants;
 public interface WebSecurityConstants {
 
 	 String SECRET_KEY = "secret";
+	 
+	 String AUTHORITIES_CLAIM = "authorities";
+	 
+	 String TOKEN_FAMILY_CLAIM = "fid";
+	 
+	 String ADMIN_ROLE = "ADMIN";
+	 
+	 String PRINCIPAL_SOURCE_USER_DETAILS = "user-details";
+	 
+	 String PRINCIPAL_SOURCE_CLAIMS = "claims";
 
 }
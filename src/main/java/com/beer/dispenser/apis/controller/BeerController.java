@@ -1,6 +1,13 @@
 package com.beer.dispenser.apis.controller;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.validation.Valid;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,14 +18,24 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.beer.dispenser.apis.exception.handler.response.ErrorResponse;
+import com.beer.dispenser.apis.journal.TapEventJournal;
 import com.beer.dispenser.apis.request.dto.BeerRequestDTO;
+import com.beer.dispenser.apis.request.dto.TapEventRequestDTO;
 import com.beer.dispenser.apis.request.dto.UpdateBeerRequestDTO;
 import com.beer.dispenser.apis.response.dto.BeerAndBeerUsageResponseDTO;
 import com.beer.dispenser.apis.response.dto.BeerResponseDTO;
+import com.beer.dispenser.apis.response.dto.DispenserRankResponseDTO;
+import com.beer.dispenser.apis.response.dto.DispenserSpendingResponseDTO;
+import com.beer.dispenser.apis.response.dto.SpendingResponseDTO;
+import com.beer.dispenser.apis.response.dto.TapEventResponseDTO;
 import com.beer.dispenser.apis.service.BeerService;
+import com.beer.dispenser.apis.service.DispenserRankingService;
+import com.beer.dispenser.apis.service.SpendingRollupService;
 
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
@@ -38,11 +55,21 @@ import io.swagger.annotations.ApiResponses;
  */
 @RestController
 @RequestMapping("/dispenser")
+@Validated
 public class BeerController {
       
 	@Autowired
 	private BeerService beerService;
 	
+	@Autowired
+	private SpendingRollupService spendingRollupService;
+	
+	@Autowired
+	private DispenserRankingService dispenserRankingService;
+	
+	@Autowired(required = false)
+	private TapEventJournal tapEventJournal;
+	
 	/**
 	 * REST API endpoint to create/save a beer dispensery.
 	 * 
@@ -69,6 +96,11 @@ public class BeerController {
 	/**
 	 * Update details of beer dispensery.
 	 * 
+	 * <p>
+	 * 	When {@code beer.dispenser.ingestion.mode=journal} the event is only appended to the {@code TapEventJournal} and applied later, 
+	 * 	so a conflict is not reported in response. A dispensery which doesn't exists is still reported, it is checked against cached dispenseries.
+	 * </p>
+	 * 
 	 * @param	beerUsageId
 	 * 			Id of a beer dispensery which we are going to update.
 	 * 
@@ -76,12 +108,16 @@ public class BeerController {
 	 * 			Request object to update in beer dispensery when tap is open/close.
 	 * 
 	 * @return	Message in response.
+	 * 
+	 * @throws	IOException
+	 * 			If event cannot be appended to the journal.
 	 */
 	@PutMapping(value="/{id}/status",
 				consumes=MediaType.APPLICATION_JSON_VALUE,
 				produces=MediaType.APPLICATION_JSON_VALUE)
 	@ApiResponses({
 		@ApiResponse(code = 202, message = "Status of the tap changed correctly"),
+		@ApiResponse(code = 404, message = "Not Found", response = ErrorResponse.class),
 		@ApiResponse(code = 409, message = "Conflict", response = ErrorResponse.class),
 		@ApiResponse(code = 500, message = "Internal Server Error", response = ErrorResponse.class)
 	})
@@ -90,35 +126,250 @@ public class BeerController {
 													   Long beerUsageId,
 													   @Validated @RequestBody 
 													   @ApiParam(value = "List of properties to update a status of tap in dispnesery.")
-													   UpdateBeerRequestDTO updateBeerRequestDTO){
+													   UpdateBeerRequestDTO updateBeerRequestDTO) throws IOException{
 		
-	    beerService.updateBeerDispensery(beerUsageId, updateBeerRequestDTO);
+		if(tapEventJournal != null) {
+			beerService.findMetadataById(beerUsageId);
+			tapEventJournal.append(beerUsageId, updateBeerRequestDTO.getStatus(), updateBeerRequestDTO.getUpdated_at());
+		} else {
+			beerService.updateBeerDispensery(beerUsageId, updateBeerRequestDTO);
+		}
 		
 		return new ResponseEntity<>("Status of the tap changed correctly",HttpStatus.ACCEPTED);
 	}
 	
+	/**
+	 * Update details of many beer dispenseries from open/close events buffered by tap controllers.
+	 * 
+	 * <p>
+	 * 	Every event must have a beer dispensery, a status and a time, otherwise no event is applied.
+	 * </p>
+	 * 
+	 * @param	tapEventRequestDTOs
+	 * 			Ordered list of open/close events of beer taps, of any beer dispensery.
+	 * 
+	 * @return	Result of every event, in the same order as the events.
+	 */
+	@PutMapping(value="/status",
+				consumes=MediaType.APPLICATION_JSON_VALUE,
+				produces=MediaType.APPLICATION_JSON_VALUE)
+	@ApiResponses({
+		@ApiResponse(code = 200, message = "Events are applied, result of every event is in the response", response = TapEventResponseDTO.class, responseContainer = "List"),
+		@ApiResponse(code = 400, message = "Bad Request", response = ErrorResponse.class),
+		@ApiResponse(code = 500, message = "Internal Server Error", response = ErrorResponse.class)
+	})
+	public ResponseEntity<List<TapEventResponseDTO>> updateBeerDispenseries(@RequestBody 
+																			@ApiParam(value = "Ordered list of open/close events of beer taps.")
+																			List<@Valid TapEventRequestDTO> tapEventRequestDTOs){
+		
+		List<TapEventResponseDTO> tapEventResponseDTOs = beerService.updateBeerDispenseries(tapEventRequestDTOs);
+		
+		return new ResponseEntity<>(tapEventResponseDTOs, HttpStatus.OK);
+	}
+	
 	/**
 	 * Fetch all the information related to beer dispensery like : when tap is open/close, total spent.
 	 * 
+	 * <p>
+	 * 	When {@code includeUsages} is false only the amount is returned and beer usage are not read at all. 
+	 * 	When {@code after} or {@code limit} is given, only a page of beer usage is returned along with cursor of next page, 
+	 * 	otherwise all the beer usage are returned.
+	 * </p>
+	 * 
 	 * @param	beerDispenseryId
 	 * 			Id of beer dispensery which we are going to fetch.
 	 * 
+	 * @param	after
+	 * 			Cursor of the previous page.
+	 * 
+	 * @param	limit
+	 * 			Number of beer usage in the page.
+	 * 
+	 * @param	includeUsages
+	 * 			Whether beer usage are returned along with amount.
+	 * 
 	 * @return	Details of beer dispnesery corresponding to input Id {@code beerDispenseryId}.
 	 */
 	@GetMapping(value="/{id}/spending",
 			produces=MediaType.APPLICATION_JSON_VALUE)
 	@ApiResponses({
 		@ApiResponse(code = 200, message = "Total amount spent by the dispenser"),
+		@ApiResponse(code = 400, message = "Bad Request", response = ErrorResponse.class),
 		@ApiResponse(code = 404, message = "Not Found", response = ErrorResponse.class),
 		@ApiResponse(code = 500, message = "Internal Server Error", response = ErrorResponse.class)
 	})
 	public ResponseEntity<BeerAndBeerUsageResponseDTO> getBeerDispensery(@PathVariable(name="id", required = true)
 																		@ApiParam(value = "Id of beer dispensery to get amount and other details like - when tap is open/close, total spent.", required = true, example = "1")												
-																		Long beerDispenseryId){
+																		Long beerDispenseryId,
+																		@RequestParam(name="after", required = false)
+																		@ApiParam(value = "Cursor of the previous page, returned as nextCursor of previous page.")
+																		String after,
+																		@RequestParam(name="limit", required = false)
+																		@ApiParam(value = "Number of beer usage in the page.", example = "100")
+																		Integer limit,
+																		@RequestParam(name="includeUsages", required = false, defaultValue = "true")
+																		@ApiParam(value = "Whether beer usage are returned along with amount.", example = "false")
+																		boolean includeUsages){
+		
+		BeerAndBeerUsageResponseDTO beerAndBeerUsageResponseDTO;
 		
-		BeerAndBeerUsageResponseDTO beerAndBeerUsageResponseDTO = beerService.getBeerDispensery(beerDispenseryId);
+		if(!includeUsages) {
+			beerAndBeerUsageResponseDTO = beerService.getBeerDispenseryAmount(beerDispenseryId);
+		} else if(after == null && limit == null) {
+			beerAndBeerUsageResponseDTO = beerService.getBeerDispensery(beerDispenseryId);
+		} else {
+			beerAndBeerUsageResponseDTO = beerService.getBeerDispensery(beerDispenseryId, after, limit);
+		}
 		
 		return new ResponseEntity<>(beerAndBeerUsageResponseDTO, HttpStatus.OK);
 	}
 	
+	/**
+	 * Fetch amount, and optionally all beer usage, of many beer dispenseries at once, e.g. all the taps of a bar.
+	 * 
+	 * <p>
+	 * 	Dispenseries are read with a single query whatever their number, instead of one request per dispensery.
+	 * </p>
+	 * 
+	 * @param	beerDispenseryIds
+	 * 			Ids of beer dispenseries which we are going to fetch.
+	 * 
+	 * @param	includeUsages
+	 * 			Whether beer usage are returned along with amount.
+	 * 
+	 * @return	Details of beer dispenseries, in the order of {@code beerDispenseryIds}.
+	 */
+	@GetMapping(value="/spending",
+			produces=MediaType.APPLICATION_JSON_VALUE)
+	@ApiResponses({
+		@ApiResponse(code = 200, message = "Total amount spent by every dispenser", response = DispenserSpendingResponseDTO.class, responseContainer = "List"),
+		@ApiResponse(code = 400, message = "Bad Request", response = ErrorResponse.class),
+		@ApiResponse(code = 404, message = "Not Found", response = ErrorResponse.class),
+		@ApiResponse(code = 500, message = "Internal Server Error", response = ErrorResponse.class)
+	})
+	public ResponseEntity<List<DispenserSpendingResponseDTO>> getBeerDispenseries(@RequestParam(name="ids", required = true)
+																				  @ApiParam(value = "Comma separated ids of beer dispenseries, at most 100.", required = true, example = "1,2,3")
+																				  List<Long> beerDispenseryIds,
+																				  @RequestParam(name="includeUsages", required = false, defaultValue = "false")
+																				  @ApiParam(value = "Whether beer usage are returned along with amount.", example = "true")
+																				  boolean includeUsages){
+		
+		List<DispenserSpendingResponseDTO> dispenserSpendingResponseDTOs = beerService.getBeerDispenseries(beerDispenseryIds, includeUsages);
+		
+		return new ResponseEntity<>(dispenserSpendingResponseDTOs, HttpStatus.OK);
+	}
+	
+	/**
+	 * Stream all the information related to beer dispensery like : when tap is open/close, total spent.
+	 * 
+	 * <p>
+	 * 	Beer usage are written to the response while they are read from database, for dispenseries with a long history.
+	 * 	Beer dispensery is checked against cached dispenseries before the response is started, so a dispensery which doesn't exists 
+	 * 	is still reported as not found, and streaming its beer usage is then the only query.
+	 * </p>
+	 * 
+	 * @param	beerDispenseryId
+	 * 			Id of beer dispensery which we are going to fetch.
+	 * 
+	 * @return	Body which writes details of beer dispnesery corresponding to input Id {@code beerDispenseryId}.
+	 */
+	@GetMapping(value="/{id}/spending",
+			params="stream=true",
+			produces=MediaType.APPLICATION_JSON_VALUE)
+	@ApiResponses({
+		@ApiResponse(code = 200, message = "Total amount spent by the dispenser", response = BeerAndBeerUsageResponseDTO.class),
+		@ApiResponse(code = 404, message = "Not Found", response = ErrorResponse.class),
+		@ApiResponse(code = 500, message = "Internal Server Error", response = ErrorResponse.class)
+	})
+	public ResponseEntity<StreamingResponseBody> streamBeerDispensery(@PathVariable(name="id", required = true)
+																	  @ApiParam(value = "Id of beer dispensery to get amount and other details like - when tap is open/close, total spent.", required = true, example = "1")												
+																	  Long beerDispenseryId){
+		
+		beerService.findMetadataById(beerDispenseryId);
+		
+		StreamingResponseBody streamingResponseBody = outputStream -> beerService.writeBeerDispensery(beerDispenseryId, outputStream);
+		
+		return new ResponseEntity<>(streamingResponseBody, HttpStatus.OK);
+	}
+	
+	/**
+	 * Fetch spending of beer dispensery in a time range, per hour or per day, e.g. how much a tap poured last friday.
+	 * 
+	 * <p>
+	 * 	Answered from hourly/daily rollups updated when taps are closed, so at most one row per hour/day of the range is read 
+	 * 	whatever the number of beer usage. The range is widened to whole hours/days and a tap which is still open is not included.
+	 * </p>
+	 * 
+	 * @param	beerDispenseryId
+	 * 			Id of beer dispensery which we are going to fetch.
+	 * 
+	 * @param	from
+	 * 			Start of the range, inclusive.
+	 * 
+	 * @param	to
+	 * 			End of the range, exclusive.
+	 * 
+	 * @param	granularity
+	 * 			Size of the buckets i.e hour/day.
+	 * 
+	 * @return	Spending in the range and in each of its hours/days.
+	 */
+	@GetMapping(value="/{id}/spending",
+			params={"from", "to"},
+			produces=MediaType.APPLICATION_JSON_VALUE)
+	@ApiResponses({
+		@ApiResponse(code = 200, message = "Amount spent by the dispenser in the range", response = SpendingResponseDTO.class),
+		@ApiResponse(code = 400, message = "Bad Request", response = ErrorResponse.class),
+		@ApiResponse(code = 404, message = "Not Found", response = ErrorResponse.class),
+		@ApiResponse(code = 500, message = "Internal Server Error", response = ErrorResponse.class)
+	})
+	public ResponseEntity<SpendingResponseDTO> getSpending(@PathVariable(name="id", required = true)
+														   @ApiParam(value = "Id of beer dispensery to get amount spent in the range.", required = true, example = "1")
+														   Long beerDispenseryId,
+														   @RequestParam(name="from", required = true)
+														   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+														   @ApiParam(value = "Start of the range, inclusive.", required = true, example = "2022-09-09T00:00:00")
+														   LocalDateTime from,
+														   @RequestParam(name="to", required = true)
+														   @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+														   @ApiParam(value = "End of the range, exclusive.", required = true, example = "2022-09-10T00:00:00")
+														   LocalDateTime to,
+														   @RequestParam(name="granularity", required = false, defaultValue = "hour")
+														   @ApiParam(value = "Size of the buckets i.e hour/day.", example = "day")
+														   String granularity){
+		
+		SpendingResponseDTO spendingResponseDTO = spendingRollupService.getSpending(beerDispenseryId, from, to, granularity);
+		
+		return new ResponseEntity<>(spendingResponseDTO, HttpStatus.OK);
+	}
+	
+	/**
+	 * Fetch the beer dispenseries on which the most was spent, across all the dispenseries.
+	 * 
+	 * <p>
+	 * 	Answered from an in-memory leaderboard without reading the database, so it can be refreshed constantly. 
+	 * 	Amount is the amount of closed beer usage, a tap which is still open is not included.
+	 * </p>
+	 * 
+	 * @param	n
+	 * 			Maximum number of beer dispenseries.
+	 * 
+	 * @return	Beer dispenseries with their rank, highest amount first.
+	 */
+	@GetMapping(value="/top",
+			produces=MediaType.APPLICATION_JSON_VALUE)
+	@ApiResponses({
+		@ApiResponse(code = 200, message = "Highest-spending dispensers", response = DispenserRankResponseDTO.class, responseContainer = "List"),
+		@ApiResponse(code = 400, message = "Bad Request", response = ErrorResponse.class),
+		@ApiResponse(code = 500, message = "Internal Server Error", response = ErrorResponse.class)
+	})
+	public ResponseEntity<List<DispenserRankResponseDTO>> getTopDispenseries(@RequestParam(name="n", required = false, defaultValue = "10")
+																			 @ApiParam(value = "Maximum number of dispensers, at most 100.", example = "10")
+																			 int n){
+		
+		List<DispenserRankResponseDTO> dispenserRankResponseDTOs = dispenserRankingService.getTopDispenseries(n);
+		
+		return new ResponseEntity<>(dispenserRankResponseDTOs, HttpStatus.OK);
+	}
+	
 }
@@ -1,16 +1,19 @@
 package com.beer.dispenser.apis.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.beer.dispenser.apis.models.AuthenticationRequest;
 import com.beer.dispenser.apis.models.AuthenticationResponse;
+import com.beer.dispenser.apis.models.RefreshTokenRequest;
 import com.beer.dispenser.apis.service.AuthService;
 
 import io.swagger.annotations.ApiParam;
@@ -56,4 +59,53 @@ public class JwtSpringSecurityContoller {
 
 		return new ResponseEntity<>(authenticationResponse, HttpStatus.OK);
 	}
+	
+	/**
+	 * REST API endpoint to exchange a refresh token for a new JWT, without sending credentials again.
+	 * 
+	 * @param	refreshTokenRequest
+	 * 			Request object containing the refresh token returned with the previous JWT.
+	 * 
+	 * @return	Generated JWT and a new refresh token in form of JSON.
+	 * 
+	 * @throws	Exception
+	 * 			<li>
+	 * 				If refresh token is invalid, expired or already used.
+	 * 			</li> 
+	 */
+	@PostMapping(value = "/refresh",
+			consumes=MediaType.APPLICATION_JSON_VALUE,
+			produces=MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<AuthenticationResponse> refreshAuthenticationToken(@ApiParam(value = "Refresh token returned with the previous json web token (JWT).")
+																			@RequestBody RefreshTokenRequest refreshTokenRequest) throws Exception {
+		
+		AuthenticationResponse authenticationResponse = authService.refreshAuthenticationToken(refreshTokenRequest);
+
+		return new ResponseEntity<>(authenticationResponse, HttpStatus.OK);
+	}
+	
+	/**
+	 * REST API endpoint to revoke the JWT of the request, and optionally its refresh token, e.g. on logout or for a compromised device.
+	 * 
+	 * <p>
+	 * 	The JWT is rejected until it expires, the refresh token cannot be used anymore.
+	 * </p>
+	 * 
+	 * @param	authorization
+	 * 			Authorization header of the request, i.e. {@code Bearer} and the JWT.
+	 * 
+	 * @param	refreshTokenRequest
+	 * 			Request object containing the refresh token to revoke, optional.
+	 * 
+	 * @return	No content.
+	 */
+	@PostMapping(value = "/logout")
+	public ResponseEntity<Void> revokeAuthenticationToken(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+														  @ApiParam(value = "Refresh token to revoke with the json web token (JWT).")
+														  @RequestBody(required = false) RefreshTokenRequest refreshTokenRequest) {
+		
+		authService.revokeAuthenticationToken(authorization.substring("Bearer ".length()), refreshTokenRequest);
+
+		return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+	}
 }
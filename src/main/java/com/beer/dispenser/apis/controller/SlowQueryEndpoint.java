@@ -0,0 +1,43 @@
+package com.beer.dispenser.apis.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.beer.dispenser.apis.models.SqlTrace;
+import com.beer.dispenser.apis.utils.SqlTraceListener;
+
+/**
+ * Actuator endpoint listing the most recent slow SQL executions, at {@code GET /actuator/slowqueries}.
+ * 
+ * <p>
+ * 	Requires a JWT with role {@code ADMIN}, as the SQL of slow queries may hold values of requests. Keeps at most 
+ * 	{@code beer.dispenser.sql-trace.slow-buffer-size} executions, those of {@code beer.dispenser.sql-trace.slow-threshold-ms} or more.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.SqlTraceListener
+ * @since	17th October 2026
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@ConditionalOnProperty(name = "beer.dispenser.sql-trace.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryEndpoint {
+
+	@Autowired
+	private SqlTraceListener sqlTraceListener;
+	
+	/**
+	 * Fetch the most recent slow SQL executions.
+	 * 
+	 * @return	Traces of slow executions with bind parameters and duration, most recent first.
+	 */
+	@ReadOperation
+	public List<SqlTrace> slowQueries() {
+		return sqlTraceListener.getSlowQueries();
+	}
+}
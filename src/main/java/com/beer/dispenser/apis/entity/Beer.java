@@ -6,11 +6,15 @@ import java.util.Set;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
+import javax.persistence.OneToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 
@@ -54,13 +58,24 @@ public class Beer {
 	private Long id;
 	
 	/**
-	 * Calculate amount based on sum of total spent in beer usage for input id.
+	 * Version of the beer, increased on every update.
 	 * 
 	 * <p>
-	 * 	Cannot be updatable.
+	 * 	Used for optimistic locking, an update based on an older version of the beer fails.
+	 * </p>
+	 */
+	@Version
+	@Column(name="version", nullable = false)
+	private long version;
+	
+	/**
+	 * Sum of total spent in closed beer usages for this beer.
+	 * 
+	 * <p>
+	 * 	Cannot be updatable through the entity, it is only increased by {@code BeerRepository.addToAmount} when a tap is closed.
 	 * </p>
 	 */
-	@Column(name="amount", updatable = true)
+	@Column(name="amount", updatable = false)
 	private BigDecimal amount;
 	
 	/**
@@ -88,5 +103,17 @@ public class Beer {
 	@JsonManagedReference
 	private Set<BeerUsage> beerUsage;
 	
+	/**
+	 * Beer usage of the tap which is currently open.
+	 * 
+	 * <p>
+	 * 	Null when the tap is closed. Set when a tap is opened and cleared when it is closed, 
+	 * 	so the status of a tap is known without loading its usage history.
+	 * </p>
+	 */
+	@OneToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name="open_beer_usage_id")
+	@ToString.Exclude
+	private BeerUsage openBeerUsage;
 	
 }
@@ -6,11 +6,16 @@ import java.time.LocalDateTime;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
@@ -34,7 +39,7 @@ import lombok.ToString;
  * @since	26th November 2022
  */
 @Entity
-@Table(name="beer_usage")
+@Table(name="beer_usage", indexes = @Index(name="idx_beer_usage_beer_opened_at", columnList="beer_id, opened_at, id"))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -48,12 +53,36 @@ public class BeerUsage {
 	 * <p>
 	 * 	Cannot be updatable.
 	 * </p>
+	 * 
+	 * <p>
+	 * 	Ids are reserved 50 at a time from {@code hibernate_sequence} with the pooled-lo optimizer, 
+	 * 	so inserting beer usage doesn't need a round-trip per id and inserts can be sent as JDBC batches.
+	 * 	Value stored in {@code hibernate_sequence} stays the next id which is not used yet.
+	 * </p>
 	 */
 	@Id
 	@Column(name="id", updatable = false)
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@GeneratedValue(generator = "beer_usage_id")
+	@GenericGenerator(name = "beer_usage_id", 
+					  strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+					  parameters = {
+						  @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "hibernate_sequence"),
+						  @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50"),
+						  @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+					  })
 	private Long id;
 	
+	/**
+	 * Version of the beer usage, increased on every update.
+	 * 
+	 * <p>
+	 * 	Used for optimistic locking, an update based on an older version of the beer usage fails.
+	 * </p>
+	 */
+	@Version
+	@Column(name="version", nullable = false)
+	private long version;
+	
 	/**
 	 * Store when a tap of beer dispensery is open.
 	 * 
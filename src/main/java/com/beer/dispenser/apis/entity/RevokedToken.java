@@ -0,0 +1,59 @@
+package com.beer.dispenser.apis.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 
+ * Entity class for RevokedToken.
+ * 
+ * <p>
+ * 	This class represent the table 'revoked_token' of the database, i.e. id of JWT which are revoked before they expire.
+ * 	All the fields with either @Column annotated refer to columns of the aforementioned table.
+ * </p>
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.TokenRevocationService
+ * @since	17th October 2026
+ */
+@Entity
+@Table(name="revoked_token", indexes = {
+		@Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"),
+		@Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class RevokedToken {
+
+	/**
+	 * Id of the JWT, i.e. its {@code jti} claim.
+	 */
+	@Id
+	@Column(name="token_id", updatable = false, length = 64)
+	private String tokenId;
+	
+	/**
+	 * When the JWT expires, the row is no longer needed afterwards.
+	 */
+	@Column(name="expires_at", nullable = false, updatable = false)
+	private LocalDateTime expiresAt;
+	
+	/**
+	 * When the JWT was revoked, used by every instance to pick up revocations made by other instances.
+	 */
+	@Column(name="revoked_at", nullable = false, updatable = false)
+	private LocalDateTime revokedAt;
+}
@@ -0,0 +1,83 @@
+package com.beer.dispenser.apis.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+
+import com.beer.dispenser.apis.models.SpendingGranularity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 
+ * Entity class for SpendingRollup.
+ * 
+ * <p>
+ * 	This class represent the table 'spending_rollup' of the database, i.e. amount spent on a beer dispensery per hour and per day.
+ * 	All the fields with either @Column annotated refer to columns of the aforementioned table.
+ * </p>
+ * 
+ * <p>
+ * 	Rows are only increased, when a beer usage is closed, by {@code SpendingRollupRepository.addToRollup}.
+ * 	A beer usage spanning several buckets is split between them in proportion of the seconds the tap was open in each bucket.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.SpendingRollupService
+ * @since	17th October 2026
+ */
+@Entity
+@Table(name="spending_rollup")
+@IdClass(SpendingRollupId.class)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class SpendingRollup {
+
+	/**
+	 * Id of the beer of the rollup.
+	 */
+	@Id
+	@Column(name="beer_id", updatable = false)
+	private Long beerId;
+	
+	/**
+	 * Size of the bucket i.e HOUR/DAY, hourly and daily rollups of a beer are kept in the same table.
+	 */
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(name="granularity", updatable = false, length = 8)
+	private SpendingGranularity granularity;
+	
+	/**
+	 * Start of the bucket, inclusive.
+	 */
+	@Id
+	@Column(name="bucket_start", updatable = false)
+	private LocalDateTime bucketStart;
+	
+	/**
+	 * Amount spent in the bucket.
+	 */
+	@Column(name="total_spent", nullable = false, precision = 19, scale = 2)
+	private BigDecimal totalSpent;
+	
+	/**
+	 * Number of seconds the tap was open in the bucket.
+	 */
+	@Column(name="pour_seconds", nullable = false)
+	private long pourSeconds;
+}
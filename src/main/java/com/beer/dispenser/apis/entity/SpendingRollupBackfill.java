@@ -0,0 +1,50 @@
+package com.beer.dispenser.apis.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 
+ * Entity class for SpendingRollupBackfill.
+ * 
+ * <p>
+ * 	This class represent the table 'spending_rollup_backfill' of the database, i.e. whether spending rollups were built 
+ * 	from the beer usage closed before rollups existed. All the fields with either @Column annotated refer to columns of the aforementioned table.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.SpendingRollupService#backfill()
+ * @since	17th October 2026
+ */
+@Entity
+@Table(name="spending_rollup_backfill")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class SpendingRollupBackfill {
+
+	/**
+	 * Id of the row, the backfill is done once per database.
+	 */
+	@Id
+	@Column(name="id", updatable = false)
+	private Long id;
+	
+	/**
+	 * When rollups of every beer were rebuilt.
+	 */
+	@Column(name="completed_at", nullable = false, updatable = false)
+	private LocalDateTime completedAt;
+}
@@ -0,0 +1,37 @@
+package com.beer.dispenser.apis.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import com.beer.dispenser.apis.models.SpendingGranularity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Primary key of {@link com.beer.dispenser.apis.entity.SpendingRollup SpendingRollup}, i.e. a time bucket of a beer dispensery.
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.entity.SpendingRollup
+ * @since	17th October 2026
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class SpendingRollupId implements Serializable {
+
+	private static final long serialVersionUID = 4218533471009376045L;
+
+	private Long beerId;
+	
+	private SpendingGranularity granularity;
+	
+	private LocalDateTime bucketStart;
+}
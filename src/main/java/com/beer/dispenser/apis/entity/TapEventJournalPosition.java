@@ -0,0 +1,59 @@
+package com.beer.dispenser.apis.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 
+ * Entity class for TapEventJournalPosition.
+ * 
+ * <p>
+ * 	This class represent the table 'tap_event_journal_applied_position' of the database, i.e. position of a tap event journal up to which 
+ * 	events are applied to the database. All the fields with either @Column annotated refer to columns of the aforementioned table.
+ * </p>
+ * 
+ * <p>
+ * 	The row is written in the same transaction as the events, so events applied before a crash are skipped when the journal is replayed, 
+ * 	even if the checkpoint of the journal was not written.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.journal.TapEventJournalFlusher
+ * @since	17th October 2026
+ */
+@Entity
+@Table(name="tap_event_journal_applied_position")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class TapEventJournalPosition {
+
+	/**
+	 * Id of the journal, every instance has its own journal.
+	 */
+	@Id
+	@Column(name="journal_id", length = 36, updatable = false)
+	private String journalId;
+	
+	/**
+	 * Segment of the journal after the last applied event.
+	 */
+	@Column(name="segment", nullable = false)
+	private long segment;
+	
+	/**
+	 * Offset in the segment after the last applied event.
+	 */
+	@Column(name="segment_offset", nullable = false)
+	private int segmentOffset;
+}
@@ -0,0 +1,77 @@
+package com.beer.dispenser.apis.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 
+ * Entity class for UserAccount.
+ * 
+ * <p>
+ * 	This class represent the table 'user_account' of the database, i.e. operators allowed to use beer dispensery.
+ * 	All the fields with either @Column annotated refer to columns of the aforementioned table.
+ * </p>
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.MyUserDetailsService
+ * @since	17th October 2026
+ */
+@Entity
+@Table(name="user_account", uniqueConstraints = @UniqueConstraint(name = "uk_user_account_user_name", columnNames = "user_name"))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(exclude = "password")
+public class UserAccount {
+
+	/**
+	 * Id of the user account.
+	 * 
+	 * <p>
+	 * 	Cannot be updatable.
+	 * </p>
+	 */
+	@Id
+	@Column(name="id", updatable = false)
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+	
+	/**
+	 * Name the user authenticates with.
+	 * 
+	 * <p>
+	 * 	Cannot be null and is unique.
+	 * </p>
+	 */
+	@Column(name="user_name", nullable = false, length = 100)
+	private String userName;
+	
+	/**
+	 * Password of the user, hashed with BCrypt, never the password itself.
+	 */
+	@Column(name="password", nullable = false, length = 100)
+	private String password;
+	
+	/**
+	 * Comma separated authorities of the user, e.g. {@code ROLE_BARTENDER,ROLE_ADMIN}.
+	 */
+	@Column(name="authorities", length = 500)
+	private String authorities;
+	
+	/**
+	 * Whether the user can authenticate, a disabled user is kept but cannot be used.
+	 */
+	@Column(name="enabled", nullable = false)
+	private boolean enabled;
+}
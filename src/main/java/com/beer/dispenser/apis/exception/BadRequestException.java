@@ -0,0 +1,50 @@
+package com.beer.dispenser.apis.exception;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Custom exception which can be thrown when input parameter(s) of a request are not valid.
+ * 
+ * <p>
+ * 	Extends java.lang.RuntimeException and uses constructors to define error messages.
+ * </p>
+ * 
+ * <p>
+ * 	This exception can be thrown by executing: {@code throw new BadRequestException("message");} and is not required to be handled or caught.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		java.lang.RuntimeException
+ * @since	17th October 2026
+ * 
+*/
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BadRequestException extends RuntimeException {
+
+	private static final long serialVersionUID = -2417506340615913317L;
+
+	private List<String> errorParameters;
+	
+	/**
+	 * Throws BadRequestException with an error message.
+	 * 
+	 * @param 	errorMessage
+	 * 			Error message to be shown to user when this exception is thrown.
+	 * 
+	 * @param   errorParameters
+	 * 			Error parameters contain data which is required in user-facing error messages to provide user more 
+	 *          meaningful error messages like name, id etc.
+	 */
+	public BadRequestException(String errorMessage, List<String> errorParameters) {
+		super(errorMessage);
+		this.errorParameters = errorParameters;
+
+	}
+
+}
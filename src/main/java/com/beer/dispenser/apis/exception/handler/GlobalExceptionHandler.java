@@ -2,6 +2,10 @@ package com.beer.dispenser.apis.exception.handler;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
 
 import org.hibernate.hql.internal.ast.ErrorReporter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +17,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.beer.dispenser.apis.exception.BadRequestException;
 import com.beer.dispenser.apis.exception.ConflictException;
 import com.beer.dispenser.apis.exception.EntityNotFoundException;
 import com.beer.dispenser.apis.exception.FileNotFoundException;
@@ -94,6 +99,63 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler{
 		return new ResponseEntity<>(errorResponse,HttpStatus.CONFLICT);
 	}
 	
+	/**
+	 * Handles {@code BadRequestException}.
+	 * 
+	 * <p>
+	 * 	This exception handler is triggered when an {@link com.beer.dispenser.apis.exception.BadRequestException BadRequestException} is thrown.
+	 * </p>
+	 * 
+	 * @param 	e
+	 * 			Instance of {@code BadRequestException}
+	 * 
+	 * @return	List of parameters defined in {@code ErrorResponse} as API response along with a HTTP status code
+	 */
+	@ExceptionHandler({BadRequestException.class})
+	public ResponseEntity<ErrorResponse> handleBadRequestException(BadRequestException e){
+		String errorMessage = messageSource.getMessage(e.getMessage(), null, Locale.ENGLISH);
+		List<String> errorParameters = e.getErrorParameters();
+		
+		if(!CollectionUtils.isEmpty(errorParameters)) {
+			errorMessage = String.format(errorMessage, errorParameters.toArray());
+		}
+		
+		ErrorResponse errorResponse  = ErrorResponse.builder()
+													.errorMessage(errorMessage)
+													.build();
+		
+		return new ResponseEntity<>(errorResponse,HttpStatus.BAD_REQUEST);
+	}
+	
+	/**
+	 * Handles {@code ConstraintViolationException}.
+	 * 
+	 * <p>
+	 * 	This exception handler is triggered when a parameter of a validated controller method, e.g. an element of a list, 
+	 * 	doesn't satisfy its constraints.
+	 * </p>
+	 * 
+	 * @param 	e
+	 * 			Instance of {@code ConstraintViolationException}
+	 * 
+	 * @return	List of parameters defined in {@code ErrorResponse} as API response along with a HTTP status code
+	 */
+	@ExceptionHandler({ConstraintViolationException.class})
+	public ResponseEntity<ErrorResponse> handleConstraintViolationException(ConstraintViolationException e){
+		String errorMessage = e.getConstraintViolations()
+							   .stream()
+							   .map(ConstraintViolation::getMessage)
+							   .distinct()
+							   .sorted()
+							   .collect(Collectors.joining(", "));
+		
+		ErrorResponse errorResponse  = ErrorResponse.builder()
+													.errorMessage(errorMessage)
+													.build();
+		
+		return new ResponseEntity<>(errorResponse,HttpStatus.BAD_REQUEST);
+	}
+	
 	/**
 	 * Handles {@code FileNotFoundException}.
 	 * 
@@ -0,0 +1,442 @@
+package com.beer.dispenser.apis.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.beer.dispenser.apis.request.dto.TapEventRequestDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Append-only journal of open/close events of beer taps, stored in memory-mapped segment files on local disk.
+ * 
+ * <p>
+ * 	Every event is written as a fixed size record protected by a CRC32 checksum. When a segment is full a new one is started. 
+ * 	A checkpoint file stores the position up to which events are applied to the database, 
+ * 	segments before it are deleted and events after it are read again when the application restarts.
+ * 	A record whose checksum doesn't match is skipped and logged when it is read, events are appended after the last valid record 
+ * 	so valid records after a corrupted one are never overwritten.
+ * </p>
+ * 
+ * <p>
+ * 	A random id is created with the journal and kept in its directory, so the position up to which events are applied 
+ * 	can be stored in a database shared by many instances, each of them with its own journal.
+ * </p>
+ * 
+ * <p>
+ * 	Only created when {@code beer.dispenser.ingestion.mode=journal}.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.journal.TapEventJournalFlusher
+ * @since	17th October 2026
+ */
+@Component
+@ConditionalOnProperty(name = "beer.dispenser.ingestion.mode", havingValue = "journal")
+public class TapEventJournal {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TapEventJournal.class);
+	
+	/**
+	 * Size of a record : crc(4) + dispenser id(8) + status(1) + epoch second(8) + nano of second(4).
+	 */
+	static final int RECORD_SIZE = 25;
+	
+	private static final int PAYLOAD_SIZE = RECORD_SIZE - 4;
+	
+	private static final int CHECKPOINT_SIZE = 16;
+	
+	private static final byte STATUS_OPEN = 1;
+	
+	private static final byte STATUS_CLOSE = 2;
+	
+	private static final String SEGMENT_PREFIX = "segment-";
+	
+	private static final String SEGMENT_SUFFIX = ".log";
+	
+	private static final String CHECKPOINT_FILE = "checkpoint";
+	
+	private static final String ID_FILE = "journal-id";
+	
+	private final Path directory;
+	
+	/**
+	 * Id of the journal, which stays the same when the journal is opened again.
+	 */
+	@Getter
+	private String id;
+	
+	private final int segmentSize;
+	
+	private final boolean forceOnAppend;
+	
+	private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+	
+	private final CRC32 crc32 = new CRC32();
+	
+	private final ByteBuffer payload = ByteBuffer.allocate(PAYLOAD_SIZE);
+	
+	private long writeSegment;
+	
+	private int writeOffset;
+	
+	private long checkpointSegment;
+	
+	private int checkpointOffset;
+	
+	/**
+	 * Opens the journal, creating its directory if needed, and finds the positions to read and write from.
+	 * 
+	 * @param	directory
+	 * 			Directory of segment and checkpoint files.
+	 * 
+	 * @param	segmentSize
+	 * 			Maximum size of a segment file in bytes.
+	 * 
+	 * @param	forceOnAppend
+	 * 			Whether every appended event is forced to disk before it is acknowledged.
+	 * 
+	 * @throws	IOException
+	 * 			If journal files cannot be read or created.
+	 */
+	public TapEventJournal(@Value("${beer.dispenser.journal.directory:tap-event-journal}") String directory,
+						   @Value("${beer.dispenser.journal.segment-size:1048576}") int segmentSize,
+						   @Value("${beer.dispenser.journal.force-on-append:true}") boolean forceOnAppend) throws IOException {
+		
+		this.directory = Paths.get(directory);
+		this.segmentSize = Math.max(1, segmentSize / RECORD_SIZE) * RECORD_SIZE;
+		this.forceOnAppend = forceOnAppend;
+		
+		this.open();
+	}
+	
+	/**
+	 * Appends an open/close event of a beer tap to the journal.
+	 * 
+	 * @param	dispenserId
+	 * 			Id of beer dispensery.
+	 * 
+	 * @param	status
+	 * 			Status of the tap i.e open/close, any other status is stored as unknown and rejected when it is applied.
+	 * 
+	 * @param	updatedAt
+	 * 			Time when tap is open/close.
+	 * 
+	 * @throws	IOException
+	 * 			If a new segment file cannot be created.
+	 */
+	public synchronized void append(Long dispenserId, String status, LocalDateTime updatedAt) throws IOException {
+		
+		if(writeOffset + RECORD_SIZE > segmentSize) {
+			segments.get(writeSegment).force();
+			writeSegment++;
+			writeOffset = 0;
+			segments.put(writeSegment, this.mapSegment(writeSegment));
+		}
+		
+		payload.clear();
+		payload.putLong(dispenserId);
+		payload.put("open".equals(status) ? STATUS_OPEN : "close".equals(status) ? STATUS_CLOSE : 0);
+		payload.putLong(updatedAt.toEpochSecond(ZoneOffset.UTC));
+		payload.putInt(updatedAt.getNano());
+		
+		crc32.reset();
+		crc32.update(payload.array(), 0, PAYLOAD_SIZE);
+		
+		MappedByteBuffer segment = segments.get(writeSegment);
+		segment.putInt(writeOffset, (int) crc32.getValue());
+		for(int i=0;i<PAYLOAD_SIZE;++i) {
+			segment.put(writeOffset + 4 + i, payload.get(i));
+		}
+		writeOffset += RECORD_SIZE;
+		
+		if(forceOnAppend) {
+			segment.force();
+		}
+	}
+	
+	/**
+	 * Reads events which are not applied yet, starting at the checkpoint.
+	 * 
+	 * @param	maxEvents
+	 * 			Maximum number of events to read.
+	 * 
+	 * @return	Events in the order they are appended and the position after them, to be passed to {@link #commit(Batch)}. 
+	 * 			Corrupted records are left out.
+	 */
+	public synchronized Batch read(int maxEvents) {
+		
+		List<TapEventRequestDTO> events = new ArrayList<>();
+		long segment = checkpointSegment;
+		int offset = checkpointOffset;
+		
+		while(events.size() < maxEvents && !(segment == writeSegment && offset >= writeOffset)) {
+			
+			if(offset + RECORD_SIZE > segmentSize) {
+				segment = segments.higherKey(segment);
+				offset = 0;
+				continue;
+			}
+			
+			MappedByteBuffer record = segments.get(segment);
+			if(this.isValidRecord(record, offset)) {
+				events.add(this.readRecord(record, offset));
+			} else {
+				LOGGER.error("Skipping corrupted tap event journal record at segment {} offset {}", segment, offset);
+			}
+			offset += RECORD_SIZE;
+		}
+		
+		return new Batch(events, segment, offset);
+	}
+	
+	/**
+	 * Moves the checkpoint after a batch of events which are applied to the database and deletes segments which are fully applied. 
+	 * Nothing is written when the batch ends at the checkpoint.
+	 * 
+	 * @param	batch
+	 * 			Batch returned by {@link #read(int)}.
+	 * 
+	 * @throws	IOException
+	 * 			If checkpoint file cannot be written.
+	 */
+	public synchronized void commit(Batch batch) throws IOException {
+		
+		if(batch.getSegment() == checkpointSegment && batch.getOffset() == checkpointOffset) {
+			return;
+		}
+		
+		this.writeCheckpoint(batch.getSegment(), batch.getOffset());
+		checkpointSegment = batch.getSegment();
+		checkpointOffset = batch.getOffset();
+		
+		while(segments.firstKey() < checkpointSegment) {
+			this.deleteSegment(segments.pollFirstEntry().getKey());
+		}
+	}
+	
+	/**
+	 * Moves the checkpoint to a position up to which events are already applied to the database, 
+	 * i.e. when the checkpoint was not written after they were applied. Nothing is done when the position is not after the checkpoint.
+	 * 
+	 * @param	segment
+	 * 			Segment after the last applied event.
+	 * 
+	 * @param	offset
+	 * 			Offset in the segment after the last applied event.
+	 * 
+	 * @throws	IOException
+	 * 			If checkpoint file cannot be written.
+	 */
+	public synchronized void skipTo(long segment, int offset) throws IOException {
+		
+		if(segment < checkpointSegment || (segment == checkpointSegment && offset <= checkpointOffset)) {
+			return;
+		}
+		if(segment > writeSegment || (segment == writeSegment && offset > writeOffset)) {
+			LOGGER.warn("Ignoring applied position segment {} offset {} which is after the last event of the tap event journal", segment, offset);
+			return;
+		}
+		
+		LOGGER.info("Skipping tap event journal to segment {} offset {}, events before it are already applied", segment, offset);
+		this.commit(new Batch(Collections.emptyList(), segment, offset));
+	}
+	
+	/**
+	 * Forces all segments to disk when the application stops.
+	 */
+	@PreDestroy
+	public synchronized void close() {
+		
+		for(MappedByteBuffer segment : segments.values()) {
+			segment.force();
+		}
+	}
+	
+	private void open() throws IOException {
+		
+		Files.createDirectories(directory);
+		this.readOrCreateId();
+		
+		TreeMap<Long, Path> segmentFiles = new TreeMap<>();
+		try(DirectoryStream<Path> paths = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+			for(Path path : paths) {
+				String fileName = path.getFileName().toString();
+				segmentFiles.put(Long.valueOf(fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length())), path);
+			}
+		}
+		
+		this.readCheckpoint();
+		if(!segmentFiles.containsKey(checkpointSegment)) {
+			checkpointSegment = segmentFiles.isEmpty() ? checkpointSegment : segmentFiles.firstKey();
+			checkpointOffset = 0;
+		}
+		
+		for(Map.Entry<Long, Path> segmentFile : segmentFiles.entrySet()) {
+			if(segmentFile.getKey() < checkpointSegment) {
+				Files.deleteIfExists(segmentFile.getValue());
+			} else {
+				segments.put(segmentFile.getKey(), this.mapSegment(segmentFile.getKey()));
+			}
+		}
+		if(segments.isEmpty()) {
+			segments.put(checkpointSegment, this.mapSegment(checkpointSegment));
+		}
+		
+		writeSegment = segments.lastKey();
+		writeOffset = writeSegment == checkpointSegment ? checkpointOffset : 0;
+		MappedByteBuffer segment = segments.get(writeSegment);
+		
+		// read skips a corrupted record and goes on, so writing starts after the last valid record, not at the first corrupted one
+		for(int offset = writeOffset; offset + RECORD_SIZE <= segmentSize; offset += RECORD_SIZE) {
+			if(this.isValidRecord(segment, offset)) {
+				writeOffset = offset + RECORD_SIZE;
+			}
+		}
+		
+		LOGGER.info("Tap event journal {} opened in {}, replaying from segment {} offset {}", id, directory.toAbsolutePath(), checkpointSegment, checkpointOffset);
+	}
+	
+	private void readOrCreateId() throws IOException {
+		
+		Path path = directory.resolve(ID_FILE);
+		if(Files.exists(path)) {
+			id = new String(Files.readAllBytes(path), StandardCharsets.UTF_8).trim();
+			if(!id.isEmpty()) {
+				return;
+			}
+			LOGGER.warn("Replacing empty tap event journal id");
+		}
+		
+		id = UUID.randomUUID().toString();
+		
+		try(FileChannel channel = FileChannel.open(path, 
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			channel.write(ByteBuffer.wrap(id.getBytes(StandardCharsets.UTF_8)));
+			channel.force(false);
+		}
+	}
+	
+	private MappedByteBuffer mapSegment(long segment) throws IOException {
+		
+		try(FileChannel channel = FileChannel.open(this.segmentPath(segment), 
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+		}
+	}
+	
+	private Path segmentPath(long segment) {
+		return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+	}
+	
+	private void deleteSegment(long segment) {
+		
+		try {
+			Files.deleteIfExists(this.segmentPath(segment));
+		} catch (IOException e) {
+			LOGGER.warn("Unable to delete applied tap event journal segment {}", segment, e);
+		}
+	}
+	
+	private boolean isValidRecord(MappedByteBuffer segment, int offset) {
+		
+		crc32.reset();
+		for(int i=0;i<PAYLOAD_SIZE;++i) {
+			crc32.update(segment.get(offset + 4 + i));
+		}
+		return segment.getInt(offset) == (int) crc32.getValue();
+	}
+	
+	private TapEventRequestDTO readRecord(MappedByteBuffer segment, int offset) {
+		
+		long dispenserId = segment.getLong(offset + 4);
+		byte status = segment.get(offset + 12);
+		long epochSecond = segment.getLong(offset + 13);
+		int nano = segment.getInt(offset + 21);
+		
+		return new TapEventRequestDTO(dispenserId, 
+				status == STATUS_OPEN ? "open" : status == STATUS_CLOSE ? "close" : null, 
+				LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+	}
+	
+	private void readCheckpoint() throws IOException {
+		
+		Path path = directory.resolve(CHECKPOINT_FILE);
+		if(!Files.exists(path)) {
+			return;
+		}
+		
+		ByteBuffer checkpoint = ByteBuffer.wrap(Files.readAllBytes(path));
+		if(checkpoint.capacity() != CHECKPOINT_SIZE) {
+			LOGGER.warn("Ignoring tap event journal checkpoint of {} bytes", checkpoint.capacity());
+			return;
+		}
+		
+		crc32.reset();
+		crc32.update(checkpoint.array(), 0, CHECKPOINT_SIZE - 4);
+		if(checkpoint.getInt(CHECKPOINT_SIZE - 4) != (int) crc32.getValue()) {
+			LOGGER.warn("Ignoring corrupted tap event journal checkpoint");
+			return;
+		}
+		
+		checkpointSegment = checkpoint.getLong(0);
+		checkpointOffset = checkpoint.getInt(8);
+	}
+	
+	private void writeCheckpoint(long segment, int offset) throws IOException {
+		
+		ByteBuffer checkpoint = ByteBuffer.allocate(CHECKPOINT_SIZE);
+		checkpoint.putLong(segment);
+		checkpoint.putInt(offset);
+		crc32.reset();
+		crc32.update(checkpoint.array(), 0, CHECKPOINT_SIZE - 4);
+		checkpoint.putInt((int) crc32.getValue());
+		checkpoint.flip();
+		
+		try(FileChannel channel = FileChannel.open(directory.resolve(CHECKPOINT_FILE), 
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			channel.write(checkpoint);
+			channel.force(false);
+		}
+	}
+	
+	/**
+	 * Events read from the journal together with the position after the last of them.
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Batch {
+		
+		private final List<TapEventRequestDTO> events;
+		
+		private final long segment;
+		
+		private final int offset;
+	}
+}
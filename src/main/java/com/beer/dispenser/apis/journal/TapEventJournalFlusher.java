@@ -0,0 +1,103 @@
+package com.beer.dispenser.apis.journal;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.beer.dispenser.apis.entity.TapEventJournalPosition;
+import com.beer.dispenser.apis.repo.TapEventJournalPositionRepository;
+import com.beer.dispenser.apis.response.dto.TapEventResponseDTO;
+import com.beer.dispenser.apis.service.BeerService;
+
+/**
+ * Background job applying events of the {@code TapEventJournal} to the database in batches.
+ * 
+ * <p>
+ * 	Events are applied through {@link com.beer.dispenser.apis.service.BeerService#updateBeerDispenseries BeerService.updateBeerDispenseries}, 
+ * 	so they follow the same rules as status updates of a beer dispensery. The checkpoint of the journal is moved only after a batch is committed, 
+ * 	a batch which fails is tried again on the next run. Events rejected by those rules can no longer be reported to the tap and are logged.
+ * </p>
+ * 
+ * <p>
+ * 	The position after a batch is also stored in table 'tap_event_journal_applied_position', keyed by the id of the journal, in the same transaction as its events. 
+ * 	When the checkpoint could not be written after the transaction, e.g. the application crashed in between, 
+ * 	the journal is skipped to the stored position before reading, so events are applied exactly once.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.journal.TapEventJournal
+ * @since	17th October 2026
+ */
+@Component
+@ConditionalOnProperty(name = "beer.dispenser.ingestion.mode", havingValue = "journal")
+public class TapEventJournalFlusher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TapEventJournalFlusher.class);
+	
+	@Autowired
+	private TapEventJournal tapEventJournal;
+	
+	@Autowired
+	private BeerService beerService;
+	
+	@Autowired
+	private TapEventJournalPositionRepository tapEventJournalPositionRepository;
+	
+	@Value("${beer.dispenser.journal.batch-size:500}")
+	private int batchSize;
+	
+	/**
+	 * Whether the checkpoint of the journal is known to be at the stored position, 
+	 * i.e. it is false on startup and after a run which failed between the transaction and the checkpoint.
+	 */
+	private boolean checkpointAtAppliedPosition;
+	
+	/**
+	 * Applies all events appended to the journal since the last run.
+	 * 
+	 * @throws	IOException
+	 * 			If checkpoint of the journal cannot be written.
+	 */
+	@Scheduled(fixedDelayString = "${beer.dispenser.journal.flush-interval-ms:200}")
+	public void flush() throws IOException {
+		
+		if(!checkpointAtAppliedPosition) {
+			TapEventJournalPosition tapEventJournalPosition = tapEventJournalPositionRepository.findById(tapEventJournal.getId()).orElse(null);
+			if(tapEventJournalPosition != null) {
+				tapEventJournal.skipTo(tapEventJournalPosition.getSegment(), tapEventJournalPosition.getSegmentOffset());
+			}
+			checkpointAtAppliedPosition = true;
+		}
+		
+		TapEventJournal.Batch batch = tapEventJournal.read(batchSize);
+		
+		while(!batch.getEvents().isEmpty()) {
+			
+			TapEventJournal.Batch appliedBatch = batch;
+			checkpointAtAppliedPosition = false;
+			List<TapEventResponseDTO> tapEventResponseDTOs = beerService.updateBeerDispenseries(batch.getEvents(), 
+					() -> tapEventJournalPositionRepository.savePosition(tapEventJournal.getId(), appliedBatch.getSegment(), appliedBatch.getOffset()));
+			
+			for(TapEventResponseDTO tapEventResponseDTO : tapEventResponseDTOs) {
+				if(tapEventResponseDTO.getStatusCode() != HttpStatus.ACCEPTED.value()) {
+					LOGGER.warn("Rejected journaled tap event of dispenser {} : {}", tapEventResponseDTO.getDispenserId(), tapEventResponseDTO.getErrorMessage());
+				}
+			}
+			
+			tapEventJournal.commit(batch);
+			checkpointAtAppliedPosition = true;
+			batch = tapEventJournal.read(batchSize);
+		}
+		
+		// a batch without events may still be after corrupted records, which are not read again
+		tapEventJournal.commit(batch);
+	}
+}
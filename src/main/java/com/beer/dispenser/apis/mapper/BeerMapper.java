@@ -88,7 +88,10 @@ public interface BeerMapper {
 	 */
 	@Mappings({
 		@Mapping(target="amount", ignore=true),
-		@Mapping(target="id",ignore=true)
+		@Mapping(target="id",ignore=true),
+		@Mapping(target="version", ignore=true),
+		@Mapping(target="beerUsage", ignore=true),
+		@Mapping(target="openBeerUsage", ignore=true)
 	})
 	Beer mapToBeers(BeerRequestDTO beerRequestDTO);
 	
@@ -175,6 +178,8 @@ public interface BeerMapper {
 	 */
 	@Mappings({
 		@Mapping(target="beer.id", ignore = true),
+		@Mapping(target="usages", ignore = true),
+		@Mapping(target="nextCursor", ignore = true)
 	})
 	BeerAndBeerUsageResponseDTO mapToBeerAndBeerUsage(Beer beer);
 
@@ -23,11 +23,19 @@ import lombok.ToString;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
-@ToString
+@ToString(exclude = "refreshToken")
 @ApiModel(description = "Return a json web token.")
 public class AuthenticationResponse {
 
 	@ApiModelProperty(value = "json web token (JWT)",
 					  example = "erhiuir.iyeruir.9uruiiejrk")
 	private String jsonWebToken;
+	
+	@ApiModelProperty(value = "refresh token to get a new json web token from /security/refresh, it can be used only once",
+					  example = "d2hhdGV2ZXItcmFuZG9tLWJ5dGVzLWFyZS1oZXJl")
+	private String refreshToken;
+	
+	@ApiModelProperty(value = "seconds until the json web token expires",
+					  example = "900")
+	private Long expiresIn;
 }
@@ -0,0 +1,25 @@
+package com.beer.dispenser.apis.models;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Model representing the amount spent on a beer dispensery, i.e. an entry of the {@code DispenserLeaderboard}.
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.DispenserLeaderboard
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class DispenserAmount {
+
+	private final Long id;
+	
+	private final BigDecimal amount;
+}
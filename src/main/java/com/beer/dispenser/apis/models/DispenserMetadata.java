@@ -0,0 +1,32 @@
+package com.beer.dispenser.apis.models;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Model representing the attributes of a beer dispensery which never change once it is created.
+ * 
+ * <p>
+ * 	Unlike {@link com.beer.dispenser.apis.entity.Beer Beer} it has no amount or open tap, 
+ * 	so it can be cached and shared between requests without being stale.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.entity.Beer
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class DispenserMetadata implements Serializable {
+
+	private static final long serialVersionUID = -6170460437164516032L;
+
+	private final Long id;
+	
+	private final Double flowVolume;
+}
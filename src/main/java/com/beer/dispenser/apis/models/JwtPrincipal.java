@@ -0,0 +1,101 @@
+package com.beer.dispenser.apis.models;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Model representing a verified JWT, i.e. who it is issued to, when it expires and what it allows.
+ * 
+ * <p>
+ * 	Created once from the claims of a token whose signature is verified, and never changed afterwards, 
+ * 	so it can be cached and shared between requests carrying the same token.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.Jwtauthorizationfilter
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@ToString
+public class JwtPrincipal {
+
+	private final String tokenId;
+	
+	private final String subject;
+	
+	private final Date expiration;
+	
+	private final Collection<GrantedAuthority> authorities;
+	
+	private final String familyId;
+	
+	/**
+	 * Create a principal of a verified JWT.
+	 * 
+	 * @param	tokenId
+	 * 			Id of the token, i.e. its {@code jti} claim, {@code null} for a token without id.
+	 * 
+	 * @param	subject
+	 * 			User name the token is issued to.
+	 * 
+	 * @param	expiration
+	 * 			When the token expires, {@code null} if it never expires.
+	 * 
+	 * @param	authorities
+	 * 			Authorities granted by the token.
+	 */
+	public JwtPrincipal(String tokenId, String subject, Date expiration, Collection<GrantedAuthority> authorities) {
+		this(tokenId, subject, expiration, authorities, null);
+	}
+	
+	/**
+	 * Create a principal of a verified JWT issued with refresh tokens.
+	 * 
+	 * @param	tokenId
+	 * 			Id of the token, i.e. its {@code jti} claim, {@code null} for a token without id.
+	 * 
+	 * @param	subject
+	 * 			User name the token is issued to.
+	 * 
+	 * @param	expiration
+	 * 			When the token expires, {@code null} if it never expires.
+	 * 
+	 * @param	authorities
+	 * 			Authorities granted by the token.
+	 * 
+	 * @param	familyId
+	 * 			Id of the family of refresh tokens the token is issued with, {@code null} for a token without family.
+	 */
+	public JwtPrincipal(String tokenId, String subject, Date expiration, Collection<GrantedAuthority> authorities, String familyId) {
+		this.tokenId = tokenId;
+		this.subject = subject;
+		this.expiration = expiration == null ? null : new Date(expiration.getTime());
+		this.authorities = Collections.unmodifiableCollection(authorities);
+		this.familyId = familyId;
+	}
+	
+	/**
+	 * When the token expires.
+	 * 
+	 * @return	Copy of expiry time, {@code null} if token never expires.
+	 */
+	public Date getExpiration() {
+		return expiration == null ? null : new Date(expiration.getTime());
+	}
+	
+	/**
+	 * Whether the token is expired.
+	 * 
+	 * @return	true/false.
+	 */
+	public boolean isExpired() {
+		return expiration != null && expiration.getTime() < System.currentTimeMillis();
+	}
+}
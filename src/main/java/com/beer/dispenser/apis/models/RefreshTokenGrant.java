@@ -0,0 +1,61 @@
+package com.beer.dispenser.apis.models;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Model representing what a refresh token was issued for, i.e. the user and the authorities of its JWT.
+ * 
+ * <p>
+ * 	Kept by {@code RefreshTokenStore} in place of the refresh token, so a new JWT can be created 
+ * 	from a refresh token without checking the credentials again.
+ * </p>
+ * 
+ * <p>
+ * 	Every refresh token rotated from a login gets the same grant, so they all expire when the login's refresh token would have, 
+ * 	however often they are rotated. Every JWT of the grant carries its family id, revoking one of them revokes the whole family.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.RefreshTokenStore
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@ToString
+public class RefreshTokenGrant {
+
+	private final String userName;
+	
+	private final List<String> authorities;
+	
+	private final String familyId;
+	
+	private final Instant expiresAt;
+	
+	/**
+	 * Create a grant of a refresh token.
+	 * 
+	 * @param	userName
+	 * 			User name the refresh token is issued to.
+	 * 
+	 * @param	authorities
+	 * 			Authorities of the user when the refresh token was issued.
+	 * 
+	 * @param	familyId
+	 * 			Random id shared by the refresh tokens and JWT rotated from a login.
+	 * 
+	 * @param	expiresAt
+	 * 			When refresh tokens of the grant expire, counted from the login.
+	 */
+	public RefreshTokenGrant(String userName, List<String> authorities, String familyId, Instant expiresAt) {
+		this.userName = userName;
+		this.authorities = Collections.unmodifiableList(authorities);
+		this.familyId = familyId;
+		this.expiresAt = expiresAt;
+	}
+}
@@ -0,0 +1,37 @@
+package com.beer.dispenser.apis.models;
+
+import javax.validation.constraints.NotNull;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ *  Class defining a request to exchange a refresh token for a new JWT.
+ *  
+ * <p>
+ * 	This class describes all the properties required to refresh a JWT without sending credentials again.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(exclude = "refreshToken")
+@ApiModel(description = "A property which is required to refresh a json web token.")
+public class RefreshTokenRequest {
+
+	@NotNull(message = "refresh token is required")
+	@ApiModelProperty(value = "refresh token returned with the previous json web token, it can be used only once",
+	  		  		  example = "d2hhdGV2ZXItcmFuZG9tLWJ5dGVzLWFyZS1oZXJl",
+	  		  		  required = true)
+	private String refreshToken;
+}
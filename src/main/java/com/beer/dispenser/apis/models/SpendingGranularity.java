@@ -0,0 +1,91 @@
+package com.beer.dispenser.apis.models;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * Size of the time buckets in which spending of a beer dispensery is rolled up.
+ * 
+ * <p>
+ * 	Buckets start at the beginning of an hour/day of the time stored for beer usage, 
+ * 	a bucket covers times from its start inclusive to start of the next bucket exclusive.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.entity.SpendingRollup
+ * @since	17th October 2026
+ */
+public enum SpendingGranularity {
+
+	HOUR(ChronoUnit.HOURS),
+	
+	DAY(ChronoUnit.DAYS);
+	
+	private final ChronoUnit unit;
+	
+	SpendingGranularity(ChronoUnit unit) {
+		this.unit = unit;
+	}
+	
+	/**
+	 * Fetch start of the bucket containing a time.
+	 * 
+	 * @param	time
+	 * 			Any time.
+	 * 
+	 * @return	Start of the bucket.
+	 */
+	public LocalDateTime bucketStart(LocalDateTime time) {
+		return time.truncatedTo(unit);
+	}
+	
+	/**
+	 * Fetch start of the bucket following a bucket.
+	 * 
+	 * @param	bucketStart
+	 * 			Start of a bucket.
+	 * 
+	 * @return	Start of the next bucket.
+	 */
+	public LocalDateTime next(LocalDateTime bucketStart) {
+		return bucketStart.plus(1, unit);
+	}
+	
+	/**
+	 * Count the buckets between starts of two buckets.
+	 * 
+	 * @param	from
+	 * 			Start of the first bucket, inclusive.
+	 * 
+	 * @param	to
+	 * 			Start of the last bucket, exclusive.
+	 * 
+	 * @return	Number of buckets.
+	 */
+	public long between(LocalDateTime from, LocalDateTime to) {
+		return unit.between(from, to);
+	}
+	
+	/**
+	 * Fetch granularity by its name, ignoring case.
+	 * 
+	 * @param	name
+	 * 			Name of the granularity i.e hour/day.
+	 * 
+	 * @return	Granularity, {@code null} if there is no granularity with this name.
+	 */
+	public static SpendingGranularity of(String name) {
+		
+		if(name == null) {
+			return null;
+		}
+		
+		for(SpendingGranularity granularity : values()) {
+			if(granularity.name().equals(name.toUpperCase(Locale.ROOT))) {
+				return granularity;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,43 @@
+package com.beer.dispenser.apis.models;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Model representing one execution of SQL, captured by {@code SqlTraceListener} when it is sampled or slow.
+ * 
+ * <p>
+ * 	A batch has one statement and one list of bind parameters per row, a plain statement has one of each.
+ * 	Bind parameters are rendered as strings when the execution is captured, so a trace never holds on to JDBC objects.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.SqlTraceListener
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class SqlTrace {
+
+	private final LocalDateTime executedAt;
+	
+	private final long elapsedMillis;
+	
+	private final String dataSourceName;
+	
+	private final String threadName;
+	
+	private final boolean success;
+	
+	private final boolean batch;
+	
+	private final List<String> statements;
+	
+	private final List<List<String>> parameters;
+}
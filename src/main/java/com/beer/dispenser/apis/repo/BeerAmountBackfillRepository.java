@@ -0,0 +1,24 @@
+package com.beer.dispenser.apis.repo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.beer.dispenser.apis.entity.BeerAmountBackfill;
+
+/**
+ * Repository layer for operations related to BeerAmountBackfill.
+ * 
+ * <p>
+ * 	Extends {@link org.springframework.data.jpa.repository.JpaRepository JpaRepository}.
+ * 	All the database operations relating to the backfill of amounts of beers are executed from this interface.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		org.springframework.data.jpa.repository.JpaRepository
+ * @see		com.beer.dispenser.apis.entity.BeerAmountBackfill
+ * @since	17th October 2026
+ */
+@Repository
+public interface BeerAmountBackfillRepository extends JpaRepository<BeerAmountBackfill, Long> {
+
+}
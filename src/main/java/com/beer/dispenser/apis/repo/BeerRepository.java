@@ -1,11 +1,25 @@
 package com.beer.dispenser.apis.repo;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import javax.persistence.LockModeType;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.beer.dispenser.apis.constants.CacheConstants;
 import com.beer.dispenser.apis.entity.Beer;
+import com.beer.dispenser.apis.models.DispenserAmount;
+import com.beer.dispenser.apis.models.DispenserMetadata;
 
 /**
  * Repository layer for operations related to Beer.
@@ -38,4 +52,127 @@ public interface BeerRepository extends JpaRepository<Beer, Long> {
 	 * @return {@link Optional} of Beer.
 	 */
 	Optional<Beer> findById(Long id);
+
+	/**
+	 * Fetches attributes of beer which never change on the basis of its id.
+	 * 
+	 * <p>
+	 * 	Result is cached, a beer which doesn't exists is not cached so it is found as soon as it is created.
+	 * </p>
+	 * 
+	 * @param id
+	 * 		  Id of the Beer.
+	 * 
+	 * @return {@link Optional} of attributes of Beer.
+	 */
+	@Cacheable(cacheNames = CacheConstants.DISPENSER_METADATA_CACHE, unless = "#result == null")
+	@Query("select new com.beer.dispenser.apis.models.DispenserMetadata(b.id, b.flow_volume) from Beer b where b.id = :id")
+	Optional<DispenserMetadata> findMetadataById(@Param("id") Long id);
+
+	/**
+	 * Fetches beer on the basis of its id together with the beer usage of its open tap, if any.
+	 * 
+	 * @param id
+	 * 		  Id of the Beer.
+	 * 
+	 * @return {@link Optional} of Beer.
+	 */
+	@Query("select b from Beer b left join fetch b.openBeerUsage where b.id = :id")
+	Optional<Beer> findWithOpenBeerUsageById(@Param("id") Long id);
+	
+	/**
+	 * Fetching beer by id, locking its row until the end of the transaction.
+	 * 
+	 * <p>
+	 * 	Closing a tap increases the amount of the beer before its spending rollups, 
+	 * 	so holding this lock keeps taps of the beer from being closed meanwhile, on every instance.
+	 * </p>
+	 * 
+	 * @param	id
+	 * 			Id of the Beer.
+	 * 
+	 * @return	Locked beer.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select b from Beer b where b.id = :id")
+	Optional<Beer> findForUpdateById(@Param("id") Long id);
+
+	/**
+	 * Fetches beers on the basis of their ids together with the beer usage of their open tap, if any.
+	 * 
+	 * @param ids
+	 * 		  Ids of the Beers.
+	 * 
+	 * @return List of Beers, beers which doesn't exists are left out.
+	 */
+	@Query("select b from Beer b left join fetch b.openBeerUsage where b.id in :ids")
+	List<Beer> findWithOpenBeerUsageByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Fetches beers on the basis of their ids together with all their beer usage, in a single query.
+	 * 
+	 * <p>
+	 * 	Every row is a beer and one of its beer usage, or a beer and {@code null} when it has no beer usage. 
+	 * 	Rows are ordered by beer, then by opening time and id of beer usage.
+	 * </p>
+	 * 
+	 * @param ids
+	 * 		  Ids of the Beers.
+	 * 
+	 * @param pageable
+	 * 		  Maximum number of rows to fetch, sort of {@code pageable} is ignored.
+	 * 
+	 * @return List of Beer and BeerUsage pairs, beers which doesn't exists are left out.
+	 */
+	@Query("select b, u from Beer b left join BeerUsage u on u.beer = b where b.id in :ids order by b.id, u.openedAt, u.id")
+	List<Object[]> findWithBeerUsagesByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
+
+	/**
+	 * Fetches id and amount of beers on which something was spent.
+	 * 
+	 * @return List of id and amount of Beers.
+	 */
+	@Query("select new com.beer.dispenser.apis.models.DispenserAmount(b.id, b.amount) from Beer b where b.amount > 0")
+	List<DispenserAmount> findAllWithAmount();
+
+	/**
+	 * Fetches amount of a beer, including the amount added in the current transaction.
+	 * 
+	 * @param	id
+	 * 			Id of the Beer.
+	 * 
+	 * @return	Amount spent on the Beer, {@code null} if nothing was spent or the beer doesn't exists.
+	 */
+	@Query("select b.amount from Beer b where b.id = :id")
+	BigDecimal findAmountById(@Param("id") Long id);
+
+	/**
+	 * Adds the amount spent on a closed beer usage to the running total of a beer, in a single update statement.
+	 * 
+	 * @param	id
+	 * 			Id of the Beer.
+	 * 
+	 * @param	totalSpent
+	 * 			Amount spent on the closed beer usage.
+	 * 
+	 * @return	Number of updated beers.
+	 */
+	@Modifying
+	@Query("update Beer b set b.amount = coalesce(b.amount, 0) + :totalSpent where b.id = :id")
+	int addToAmount(@Param("id") Long id, @Param("totalSpent") BigDecimal totalSpent);
+
+	/**
+	 * Replaces the running total of a beer, when it is recomputed from all its closed beer usage.
+	 * 
+	 * @param	id
+	 * 			Id of the Beer.
+	 * 
+	 * @param	amount
+	 * 			Total spent on all closed beer usage of the Beer.
+	 * 
+	 * @return	Number of updated beers.
+	 */
+	@Modifying
+	@Query("update Beer b set b.amount = :amount where b.id = :id")
+	int setAmount(@Param("id") Long id, @Param("amount") BigDecimal amount);
 }
@@ -1,8 +1,19 @@
 package com.beer.dispenser.apis.repo;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.beer.dispenser.apis.entity.Beer;
@@ -40,6 +51,103 @@ public interface BeerUsageRepository extends JpaRepository<BeerUsage, Long> {
 	 */
 	List<BeerUsage> findByBeer(Beer beer);
 
+	/**
+	 * Checking whether any beer usage exists for beer.
+	 * 
+	 * @param	beer
+	 * 			Beer for which beer usage going to check.
+	 * 
+	 * @return	true/false.
+	 */
+	boolean existsByBeer(Beer beer);
+
+	/**
+	 * Fetching ids of beers having any beer usage, among the given beers.
+	 * 
+	 * @param	beerIds
+	 * 			Ids of beers for which beer usage going to check.
+	 * 
+	 * @return	List of ids of beers having beer usage.
+	 */
+	@Query("select distinct u.beer.id from BeerUsage u where u.beer.id in :beerIds")
+	List<Long> findBeerIdsWithBeerUsage(@Param("beerIds") Collection<Long> beerIds);
+
+	/**
+	 * Fetching ids of all beers having closed beer usage.
+	 * 
+	 * @return	List of ids of beers, in ascending order.
+	 */
+	@Query("select distinct u.beer.id from BeerUsage u where u.closedAt is not null order by u.beer.id")
+	List<Long> findBeerIdsWithClosedBeerUsage();
+
+	/**
+	 * Fetching ids of all beers having any beer usage.
+	 * 
+	 * @return	List of ids of beers, in ascending order.
+	 */
+	@Query("select distinct u.beer.id from BeerUsage u order by u.beer.id")
+	List<Long> findBeerIdsWithAnyBeerUsage();
+
+	/**
+	 * Fetching first page of beer usage of beer, ordered by opening time and id.
+	 * 
+	 * @param	beer
+	 * 			Beer from which beer usage going to fetch.
+	 * 
+	 * @param	pageable
+	 * 			Number of beer usage to fetch, sort of {@code pageable} is ignored.
+	 * 
+	 * @return	List of beer usage.
+	 */
+	List<BeerUsage> findByBeerOrderByOpenedAtAscIdAsc(Beer beer, Pageable pageable);
+
+	/**
+	 * Fetching next page of beer usage of beer, i.e. beer usage after the last beer usage of previous page.
+	 * 
+	 * <p>
+	 * 	Page is seeked on the index {@code (beer_id, opened_at, id)} instead of skipping an offset, 
+	 * 	so every page costs the same however deep it is.
+	 * </p>
+	 * 
+	 * @param	beer
+	 * 			Beer from which beer usage going to fetch.
+	 * 
+	 * @param	openedAt
+	 * 			Opening time of the last beer usage of previous page.
+	 * 
+	 * @param	id
+	 * 			Id of the last beer usage of previous page.
+	 * 
+	 * @param	pageable
+	 * 			Number of beer usage to fetch, sort of {@code pageable} is ignored.
+	 * 
+	 * @return	List of beer usage.
+	 */
+	@Query("select u from BeerUsage u where u.beer = :beer "
+			+ "and (u.openedAt > :openedAt or (u.openedAt = :openedAt and u.id > :id)) "
+			+ "order by u.openedAt, u.id")
+	List<BeerUsage> findByBeerAfter(@Param("beer") Beer beer, @Param("openedAt") LocalDateTime openedAt, @Param("id") Long id, Pageable pageable);
+
+	/**
+	 * Streaming all beer usage of beer, ordered by opening time and id.
+	 * 
+	 * <p>
+	 * 	Rows are read from a database cursor while the stream is consumed, 
+	 * 	so stream must be consumed and closed inside a transaction.
+	 * </p>
+	 * 
+	 * @param	beer
+	 * 			Beer from which beer usage going to fetch.
+	 * 
+	 * @return	Stream of beer usage.
+	 */
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")
+	})
+	@Query("select u from BeerUsage u where u.beer = :beer order by u.openedAt, u.id")
+	Stream<BeerUsage> streamByBeer(@Param("beer") Beer beer);
+
 	/**
 	 * Saving a beer usage details.
 	 * 
@@ -50,5 +158,20 @@ public interface BeerUsageRepository extends JpaRepository<BeerUsage, Long> {
 	 */
 	void save(List<BeerUsage> beerUsages);
 
+	/**
+	 * Replaces total spent of a beer usage, without loading it.
+	 * 
+	 * @param	id
+	 * 			Id of the beer usage.
+	 * 
+	 * @param	totalSpent
+	 * 			Total spent on the beer usage.
+	 * 
+	 * @return	Number of updated beer usage.
+	 */
+	@Modifying
+	@Query("update BeerUsage u set u.totalSpent = :totalSpent where u.id = :id")
+	int setTotalSpent(@Param("id") Long id, @Param("totalSpent") BigDecimal totalSpent);
+
 
 }
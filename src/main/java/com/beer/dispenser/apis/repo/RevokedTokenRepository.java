@@ -0,0 +1,64 @@
+package com.beer.dispenser.apis.repo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.beer.dispenser.apis.entity.RevokedToken;
+
+/**
+ * Repository layer for operations related to RevokedToken.
+ * 
+ * <p>
+ * 	Extends {@link org.springframework.data.jpa.repository.JpaRepository JpaRepository}.
+ * 	All the database operations relating to revoked JWT are executed from this interface.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		org.springframework.data.jpa.repository.JpaRepository
+ * @see		com.beer.dispenser.apis.entity.RevokedToken
+ * @see		com.beer.dispenser.apis.service.TokenRevocationService
+ * @since	17th October 2026
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+	/**
+	 * Fetches id of revoked tokens which are not expired yet.
+	 * 
+	 * @param now
+	 * 		  Current time.
+	 * 
+	 * @return List of token id.
+	 */
+	@Query("select r.tokenId from RevokedToken r where r.expiresAt > :now")
+	List<String> findTokenIdsNotExpired(@Param("now") LocalDateTime now);
+	
+	/**
+	 * Fetches id of tokens revoked since a time.
+	 * 
+	 * @param since
+	 * 		  Time from which revocations are fetched, exclusive.
+	 * 
+	 * @return List of token id.
+	 */
+	@Query("select r.tokenId from RevokedToken r where r.revokedAt > :since")
+	List<String> findTokenIdsRevokedAfter(@Param("since") LocalDateTime since);
+	
+	/**
+	 * Deletes revoked tokens which are expired, they are rejected for being expired anyway.
+	 * 
+	 * @param now
+	 * 		  Current time.
+	 * 
+	 * @return Number of deleted revoked tokens.
+	 */
+	@Modifying
+	@Query("delete from RevokedToken r where r.expiresAt <= :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
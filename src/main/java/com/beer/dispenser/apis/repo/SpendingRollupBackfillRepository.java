@@ -0,0 +1,24 @@
+package com.beer.dispenser.apis.repo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.beer.dispenser.apis.entity.SpendingRollupBackfill;
+
+/**
+ * Repository layer for operations related to SpendingRollupBackfill.
+ * 
+ * <p>
+ * 	Extends {@link org.springframework.data.jpa.repository.JpaRepository JpaRepository}.
+ * 	All the database operations relating to the backfill of spending rollups are executed from this interface.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		org.springframework.data.jpa.repository.JpaRepository
+ * @see		com.beer.dispenser.apis.entity.SpendingRollupBackfill
+ * @since	17th October 2026
+ */
+@Repository
+public interface SpendingRollupBackfillRepository extends JpaRepository<SpendingRollupBackfill, Long> {
+
+}
@@ -0,0 +1,100 @@
+package com.beer.dispenser.apis.repo;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.beer.dispenser.apis.entity.SpendingRollup;
+import com.beer.dispenser.apis.entity.SpendingRollupId;
+import com.beer.dispenser.apis.models.SpendingGranularity;
+
+/**
+ * Repository layer for operations related to SpendingRollup.
+ * 
+ * <p>
+ * 	Extends {@link org.springframework.data.jpa.repository.JpaRepository JpaRepository}.
+ * 	All the database operations relating to hourly and daily spending of beer dispenseries are executed from this interface.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		org.springframework.data.jpa.repository.JpaRepository
+ * @see		com.beer.dispenser.apis.entity.SpendingRollup
+ * @see		com.beer.dispenser.apis.service.SpendingRollupService
+ * @since	17th October 2026
+ */
+@Repository
+public interface SpendingRollupRepository extends JpaRepository<SpendingRollup, SpendingRollupId> {
+
+	/**
+	 * Adds spending to a bucket of a beer, creating the bucket if it doesn't exists, in a single statement.
+	 * 
+	 * <p>
+	 * 	Concurrent transactions adding to the same bucket don't overwrite each other, 
+	 * 	the row is locked by the first one until it commits.
+	 * </p>
+	 * 
+	 * @param	beerId
+	 * 			Id of the Beer.
+	 * 
+	 * @param	granularity
+	 * 			Name of the {@code SpendingGranularity} of the bucket.
+	 * 
+	 * @param	bucketStart
+	 * 			Start of the bucket.
+	 * 
+	 * @param	totalSpent
+	 * 			Amount spent in the bucket.
+	 * 
+	 * @param	pourSeconds
+	 * 			Number of seconds the tap was open in the bucket.
+	 * 
+	 * @return	Number of inserted/updated rows.
+	 */
+	@Modifying
+	@Query(value = "insert into spending_rollup (beer_id, granularity, bucket_start, total_spent, pour_seconds) "
+				 + "values (:beerId, :granularity, :bucketStart, :totalSpent, :pourSeconds) "
+				 + "on duplicate key update total_spent = total_spent + :totalSpent, pour_seconds = pour_seconds + :pourSeconds", 
+		   nativeQuery = true)
+	int addToRollup(@Param("beerId") Long beerId, @Param("granularity") String granularity, @Param("bucketStart") LocalDateTime bucketStart, 
+					@Param("totalSpent") BigDecimal totalSpent, @Param("pourSeconds") long pourSeconds);
+	
+	/**
+	 * Deletes all buckets of a beer.
+	 * 
+	 * @param	beerId
+	 * 			Id of the Beer.
+	 * 
+	 * @return	Number of deleted rows.
+	 */
+	@Modifying
+	@Query("delete from SpendingRollup r where r.beerId = :beerId")
+	int deleteByBeerId(@Param("beerId") Long beerId);
+	
+	/**
+	 * Fetches buckets of a beer in a range, using the primary key only.
+	 * 
+	 * @param	beerId
+	 * 			Id of the Beer.
+	 * 
+	 * @param	granularity
+	 * 			Size of the buckets.
+	 * 
+	 * @param	from
+	 * 			Start of the first bucket, inclusive.
+	 * 
+	 * @param	to
+	 * 			Start of the last bucket, exclusive.
+	 * 
+	 * @return	List of buckets ordered by start, buckets without spending are left out.
+	 */
+	@Query("select r from SpendingRollup r where r.beerId = :beerId and r.granularity = :granularity "
+		 + "and r.bucketStart >= :from and r.bucketStart < :to order by r.bucketStart")
+	List<SpendingRollup> findInRange(@Param("beerId") Long beerId, @Param("granularity") SpendingGranularity granularity, 
+									 @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
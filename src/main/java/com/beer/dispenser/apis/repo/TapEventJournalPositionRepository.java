@@ -0,0 +1,46 @@
+package com.beer.dispenser.apis.repo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.beer.dispenser.apis.entity.TapEventJournalPosition;
+
+/**
+ * Repository layer for operations related to TapEventJournalPosition.
+ * 
+ * <p>
+ * 	Extends {@link org.springframework.data.jpa.repository.JpaRepository JpaRepository}.
+ * 	All the database operations relating to the position up to which the tap event journal is applied are executed from this interface.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		org.springframework.data.jpa.repository.JpaRepository
+ * @see		com.beer.dispenser.apis.entity.TapEventJournalPosition
+ * @since	17th October 2026
+ */
+@Repository
+public interface TapEventJournalPositionRepository extends JpaRepository<TapEventJournalPosition, String> {
+
+	/**
+	 * Stores the position up to which the journal is applied, creating the row if it doesn't exists, in a single statement.
+	 * 
+	 * @param	journalId
+	 * 			Id of the journal.
+	 * 
+	 * @param	segment
+	 * 			Segment of the journal after the last applied event.
+	 * 
+	 * @param	segmentOffset
+	 * 			Offset in the segment after the last applied event.
+	 * 
+	 * @return	Number of inserted/updated rows.
+	 */
+	@Modifying
+	@Query(value = "insert into tap_event_journal_applied_position (journal_id, segment, segment_offset) values (:journalId, :segment, :segmentOffset) "
+				 + "on duplicate key update segment = :segment, segment_offset = :segmentOffset", 
+		   nativeQuery = true)
+	int savePosition(@Param("journalId") String journalId, @Param("segment") long segment, @Param("segmentOffset") int segmentOffset);
+}
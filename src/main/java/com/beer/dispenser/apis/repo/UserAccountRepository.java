@@ -0,0 +1,46 @@
+package com.beer.dispenser.apis.repo;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.beer.dispenser.apis.entity.UserAccount;
+
+/**
+ * Repository layer for operations related to UserAccount.
+ * 
+ * <p>
+ * 	Extends {@link org.springframework.data.jpa.repository.JpaRepository JpaRepository}.
+ * 	All the database operations relating to user accounts are executed from this interface.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		org.springframework.data.jpa.repository.JpaRepository
+ * @see		com.beer.dispenser.apis.entity.UserAccount
+ * @see		com.beer.dispenser.apis.service.impl.MyUserDetailsService
+ * @since	17th October 2026
+ */
+@Repository
+public interface UserAccountRepository extends JpaRepository<UserAccount, Long> {
+
+	/**
+	 * Fetches user account on the basis of its user name.
+	 * 
+	 * @param userName
+	 * 		  Name the user authenticates with.
+	 * 
+	 * @return {@link Optional} of UserAccount.
+	 */
+	Optional<UserAccount> findByUserName(String userName);
+	
+	/**
+	 * Whether a user account exists with the user name.
+	 * 
+	 * @param userName
+	 * 		  Name the user authenticates with.
+	 * 
+	 * @return true/false.
+	 */
+	boolean existsByUserName(String userName);
+}
@@ -0,0 +1,56 @@
+package com.beer.dispenser.apis.request.dto;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import javax.validation.constraints.NotNull;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ *  Class defining a request DTO to accept one open/close event of a beer tap as input.
+ *  
+ * <p>
+ * 	This class describes all the properties required to apply an event recorded by a tap controller to a beer dispensery.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.request.dto.UpdateBeerRequestDTO
+ * @see		com.beer.dispenser.apis.entity.BeerUsage
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@ApiModel(description = "List of properties which is required to notice open/close time of a beer tap of any dispensery")
+public class TapEventRequestDTO implements Serializable{
+
+	private static final long serialVersionUID = -3580316740893225613L;
+	
+	@NotNull(message = "Dispenser Id is required")
+	@ApiModelProperty(value = "Id of beer dispensery",
+	  		  		  example = "1",
+	  		  		  required = true)
+	private Long dispenserId;
+	
+	@NotNull(message = "Status is required")
+	@ApiModelProperty(value = "Status of beer is open/close",
+	  		  		  example = "open/close",
+	  		  		  required = true)
+	private String status;
+	
+	@NotNull(message = "Updated At is required")
+	@ApiModelProperty(value = "Noticing the time when beer tap is open/close",
+	  		  		  example = "2022-09-07 23:41:16",
+	  		  		  required = true)
+	private LocalDateTime updated_at;
+}
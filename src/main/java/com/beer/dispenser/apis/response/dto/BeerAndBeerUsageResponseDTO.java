@@ -4,6 +4,8 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AllArgsConstructor;
@@ -38,6 +40,11 @@ public class BeerAndBeerUsageResponseDTO implements Serializable{
 	@ApiModelProperty(value = "Amount/Bill of the beer", example = "19.1367")
 	private BigDecimal amount;
 	
-	@ApiModelProperty(value = "List of beer usage with beer usage")
+	@ApiModelProperty(value = "List of beer usage with beer usage, absent when only amount is requested")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
 	private List<BeerUsageResponseDTO> usages;
+	
+	@ApiModelProperty(value = "Cursor to pass as after for next page of beer usage, absent on last page or when usages are not paginated", example = "MjAyMi0wMS0wMVQwMjowMDowMCwx")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String nextCursor;
 }
@@ -0,0 +1,40 @@
+package com.beer.dispenser.apis.response.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * API response DTO/model representing the rank of a beer dispensery by amount spent.
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.DispenserRankingService
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@ApiModel(description = "Rank of a beer dispensery by amount spent.")
+public class DispenserRankResponseDTO implements Serializable {
+
+	private static final long serialVersionUID = 5528420974463192207L;
+
+	@ApiModelProperty(value = "Rank of the dispensery, 1 for the highest amount", example = "1")
+	private int rank;
+	
+	@ApiModelProperty(value = "Id of the beer dispensery", example = "1")
+	private Long id;
+	
+	@ApiModelProperty(value = "Amount spent on closed beer usage of the dispensery", example = "19.13")
+	private BigDecimal amount;
+}
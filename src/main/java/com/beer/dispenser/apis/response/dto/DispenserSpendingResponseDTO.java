@@ -0,0 +1,45 @@
+package com.beer.dispenser.apis.response.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * API response DTO/model representing amount, and optionally beer usage, of one of many beer dispenseries fetched at once.
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.entity.Beer
+ * @see		com.beer.dispenser.apis.entity.BeerUsage
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@ApiModel(description = "Amount and beer usage of a beer dispensery, fetched along with other dispenseries.")
+public class DispenserSpendingResponseDTO implements Serializable {
+
+	private static final long serialVersionUID = -1049366232918441377L;
+
+	@ApiModelProperty(value = "Id of the beer dispensery", example = "1")
+	private Long id;
+	
+	@ApiModelProperty(value = "Amount/Bill of the beer", example = "19.1367")
+	private BigDecimal amount;
+	
+	@ApiModelProperty(value = "List of beer usage of the beer, absent when only amount is requested")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private List<BeerUsageResponseDTO> usages;
+}
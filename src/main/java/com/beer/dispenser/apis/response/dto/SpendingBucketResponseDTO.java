@@ -0,0 +1,41 @@
+package com.beer.dispenser.apis.response.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * API response DTO/model representing spending of a beer dispensery in an hour or a day.
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.entity.SpendingRollup
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@ApiModel(description = "Spending of a beer dispensery in an hour or a day.")
+public class SpendingBucketResponseDTO implements Serializable {
+
+	private static final long serialVersionUID = -3303806946511716240L;
+
+	@ApiModelProperty(value = "Start of the hour/day", example = "2022-09-09T18:00:00")
+	private LocalDateTime start;
+	
+	@ApiModelProperty(value = "Amount spent in the hour/day", example = "12.25")
+	private BigDecimal amount;
+	
+	@ApiModelProperty(value = "Seconds the tap was open in the hour/day", example = "15")
+	private long pourSeconds;
+}
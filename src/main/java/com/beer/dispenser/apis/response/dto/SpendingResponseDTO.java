@@ -0,0 +1,58 @@
+package com.beer.dispenser.apis.response.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * API response DTO/model representing spending of a beer dispensery in a time range.
+ * 
+ * <p>
+ * 	This class describes the amount spent in the range and the amount spent in each hour/day of the range.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.entity.SpendingRollup
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@ApiModel(description = "Spending of a beer dispensery in a time range, per hour/day.")
+public class SpendingResponseDTO implements Serializable {
+
+	private static final long serialVersionUID = 2961350823146069515L;
+
+	@ApiModelProperty(value = "Id of the beer dispensery", example = "1")
+	private Long id;
+	
+	@ApiModelProperty(value = "Size of the buckets", example = "HOUR")
+	private String granularity;
+	
+	@ApiModelProperty(value = "Start of the range, rounded down to the start of an hour/day", example = "2022-09-09T00:00:00")
+	private LocalDateTime from;
+	
+	@ApiModelProperty(value = "End of the range, exclusive, rounded up to the start of an hour/day", example = "2022-09-10T00:00:00")
+	private LocalDateTime to;
+	
+	@ApiModelProperty(value = "Amount spent in the range", example = "19.1367")
+	private BigDecimal amount;
+	
+	@ApiModelProperty(value = "Seconds the tap was open in the range", example = "30")
+	private long pourSeconds;
+	
+	@ApiModelProperty(value = "Spending of every hour/day of the range, including the ones without spending")
+	private List<SpendingBucketResponseDTO> buckets;
+}
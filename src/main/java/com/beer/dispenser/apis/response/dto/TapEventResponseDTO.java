@@ -0,0 +1,46 @@
+package com.beer.dispenser.apis.response.dto;
+
+import java.io.Serializable;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * API response DTO/model representing the result of one open/close event of a beer tap.
+ * 
+ * <p>
+ * 	This class describes the result of an event such as the HTTP status it would have got on its own and error message if any.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.request.dto.TapEventRequestDTO
+ * @since	17th October 2026
+ *
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+@ApiModel(description = "List of properties which is required to send result of a tap event.")
+public class TapEventResponseDTO implements Serializable {
+
+	private static final long serialVersionUID = 6406125587190352410L;
+	
+	@ApiModelProperty(value = "Id of beer dispensery", example = "1")
+	private Long dispenserId;
+	
+	@ApiModelProperty(value = "Status of beer is open/close", example = "open")
+	private String status;
+	
+	@ApiModelProperty(value = "HTTP status of the event", example = "202")
+	private int statusCode;
+	
+	@ApiModelProperty(value = "Error message when event is not applied", example = "Beer with id : 1 are already open.")
+	private String errorMessage;
+}
@@ -4,6 +4,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 
 import com.beer.dispenser.apis.models.AuthenticationRequest;
 import com.beer.dispenser.apis.models.AuthenticationResponse;
+import com.beer.dispenser.apis.models.RefreshTokenRequest;
 
 /**
  * Service layer for operations related to JWT generation to access beer dispensery.
@@ -39,5 +40,31 @@ public interface AuthService {
 	 * 			</li> 
 	 */
 	AuthenticationResponse createAuthenticationToken(@RequestBody AuthenticationRequest authenticationRequest) throws Exception;
+	
+	/**
+	 * REST API endpoint to exchange a refresh token for a new JWT and a new refresh token.
+	 * 
+	 * @param	refreshTokenRequest
+	 * 			Request object containing the refresh token.
+	 * 
+	 * @return	Generated JWT and refresh token in form of JSON.
+	 * 
+	 * @throws	Exception
+	 * 			<li>
+	 * 				If refresh token is invalid, expired or already used.
+	 * 			</li> 
+	 */
+	AuthenticationResponse refreshAuthenticationToken(@RequestBody RefreshTokenRequest refreshTokenRequest) throws Exception;
+	
+	/**
+	 * REST API endpoint to revoke a JWT, and optionally its refresh token, e.g. on logout.
+	 * 
+	 * @param	jsonWebToken
+	 * 			JWT to revoke.
+	 * 
+	 * @param	refreshTokenRequest
+	 * 			Request object containing the refresh token to revoke, can be {@code null}.
+	 */
+	void revokeAuthenticationToken(String jsonWebToken, RefreshTokenRequest refreshTokenRequest);
 		
 }
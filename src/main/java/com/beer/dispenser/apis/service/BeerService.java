@@ -1,12 +1,21 @@
 package com.beer.dispenser.apis.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
 import com.beer.dispenser.apis.entity.Beer;
+import com.beer.dispenser.apis.exception.BadRequestException;
 import com.beer.dispenser.apis.exception.ConflictException;
 import com.beer.dispenser.apis.exception.EntityNotFoundException;
+import com.beer.dispenser.apis.models.DispenserMetadata;
 import com.beer.dispenser.apis.request.dto.BeerRequestDTO;
+import com.beer.dispenser.apis.request.dto.TapEventRequestDTO;
 import com.beer.dispenser.apis.request.dto.UpdateBeerRequestDTO;
 import com.beer.dispenser.apis.response.dto.BeerAndBeerUsageResponseDTO;
 import com.beer.dispenser.apis.response.dto.BeerResponseDTO;
+import com.beer.dispenser.apis.response.dto.DispenserSpendingResponseDTO;
+import com.beer.dispenser.apis.response.dto.TapEventResponseDTO;
 
 /**
  * Service layer for operations related to beer dispensery.
@@ -55,6 +64,9 @@ public interface BeerService {
 	 * 			<li>
 	 * 				If status for Id {@code beerUsageId} is same as previous status.
 	 * 			</li>
+	 * 			<li>
+	 * 				If close time before then open time.
+	 * 			</li>
 	 * 
 	 * @throws	EntityNotFoundException
 	 * 			<li>
@@ -63,6 +75,42 @@ public interface BeerService {
 	 */
 	void updateBeerDispensery(Long beerUsageId, UpdateBeerRequestDTO updateBeerRequestDTO) throws ConflictException, EntityNotFoundException;
 
+	/**
+	 * Update details of many beer dispenseries from an ordered list of open/close events of their taps, in one transaction.
+	 * 
+	 * <p>
+	 * 	Every event is applied with the same rules as {@link #updateBeerDispensery(Long, UpdateBeerRequestDTO) updateBeerDispensery}. 
+	 * 	An event which is rejected doesn't stop the events after it, its error is returned in its result instead.
+	 * </p>
+	 * 
+	 * @param	tapEventRequestDTOs
+	 * 			Ordered list of open/close events of beer taps.
+	 * 
+	 * @return	Result of every event, in the same order as the events.
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code tapEventRequestDTOs} is empty or has more than maximum number of events.
+	 * 			</li>
+	 */
+	List<TapEventResponseDTO> updateBeerDispenseries(List<TapEventRequestDTO> tapEventRequestDTOs) throws BadRequestException;
+
+	/**
+	 * Update details of many beer dispenseries from an ordered list of open/close events of their taps, 
+	 * running the given work in the same transaction once the events are applied.
+	 * 
+	 * @param	tapEventRequestDTOs
+	 * 			Ordered list of open/close events of beer taps.
+	 * 
+	 * @param	afterApplied
+	 * 			Work committed or rolled back together with the events, e.g. storing how far a journal is applied.
+	 * 
+	 * @return	Result of every event, in the same order as the events.
+	 * 
+	 * @see		#updateBeerDispenseries(List)
+	 */
+	List<TapEventResponseDTO> updateBeerDispenseries(List<TapEventRequestDTO> tapEventRequestDTOs, Runnable afterApplied);
+
 	/**
 	 * Fetches a beer dispensery with input {@code id}.
 	 * 
@@ -78,6 +126,21 @@ public interface BeerService {
 	 */
 	Beer findById(Long id) throws EntityNotFoundException;
 
+	/**
+	 * Fetches attributes which never change of a beer dispensery with input {@code id}, from cache when it is cached.
+	 * 
+	 * @param 	id
+	 * 			Id of the beer dispensery to be fetched.
+	 * 
+	 * @return	Attributes of the beer dispensery.
+	 * 
+	 * @throws 	EntityNotFoundException
+	 * 			<li>
+	 * 				If beer dispensery with input {@code id} doesn't exists.
+	 * 			</li>
+	 */
+	DispenserMetadata findMetadataById(Long id) throws EntityNotFoundException;
+
 	/**
 	 * Fetch all the information related to beer dispensery like : when tap is open/close, total spent.
 	 * 
@@ -86,11 +149,115 @@ public interface BeerService {
 	 * 
 	 * @return	Details of beer dispnesery corresponding to input Id {@code beerDispenseryId}
 	 * 
-	 * @throws	IllegalArgumentException
+	 * @throws	EntityNotFoundException
 	 * 			<li>
-	 * 				If close time before then open time.
+	 * 				If beer dispensery with input {@code beerDispenseryId} doesn't exists.
 	 * 			</li>
 	 */
-	BeerAndBeerUsageResponseDTO getBeerDispensery(Long beerDispenseryId) throws IllegalArgumentException;
+	BeerAndBeerUsageResponseDTO getBeerDispensery(Long beerDispenseryId) throws EntityNotFoundException;
+
+	/**
+	 * Fetch amount of beer dispensery, without its beer usage.
+	 * 
+	 * @param	beerDispenseryId
+	 * 			Id of beer dispensery which we are going to fetch.
+	 * 
+	 * @return	Amount of beer dispnesery corresponding to input Id {@code beerDispenseryId}, without beer usage.
+	 * 
+	 * @throws	EntityNotFoundException
+	 * 			<li>
+	 * 				If beer dispensery with input {@code beerDispenseryId} doesn't exists.
+	 * 			</li>
+	 */
+	BeerAndBeerUsageResponseDTO getBeerDispenseryAmount(Long beerDispenseryId) throws EntityNotFoundException;
+
+	/**
+	 * Fetch amount, and optionally all beer usage, of many beer dispenseries at once.
+	 * 
+	 * @param	beerDispenseryIds
+	 * 			Ids of beer dispenseries which we are going to fetch.
+	 * 
+	 * @param	includeUsages
+	 * 			Whether beer usage are returned along with amount.
+	 * 
+	 * @return	Details of beer dispenseries, in the order of {@code beerDispenseryIds} and each one once.
+	 * 
+	 * @throws	EntityNotFoundException
+	 * 			<li>
+	 * 				If any of beer dispenseries with input {@code beerDispenseryIds} doesn't exists.
+	 * 			</li>
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code beerDispenseryIds} is empty or has more ids than allowed.
+	 * 			</li>
+	 */
+	List<DispenserSpendingResponseDTO> getBeerDispenseries(List<Long> beerDispenseryIds, boolean includeUsages) throws EntityNotFoundException, BadRequestException;
+
+	/**
+	 * Fetch a page of beer usage of beer dispensery along with its amount.
+	 * 
+	 * <p>
+	 * 	Beer usage are ordered by opening time and id. Amount is the amount of all the beer usage, not only of the page.
+	 * </p>
+	 * 
+	 * @param	beerDispenseryId
+	 * 			Id of beer dispensery which we are going to fetch.
+	 * 
+	 * @param	after
+	 * 			Cursor of the previous page, {@code null} for the first page.
+	 * 
+	 * @param	limit
+	 * 			Number of beer usage in the page, {@code null} for maximum page size.
+	 * 
+	 * @return	Details of beer dispnesery along with a page of beer usage and cursor of next page.
+	 * 
+	 * @throws	EntityNotFoundException
+	 * 			<li>
+	 * 				If beer dispensery with input {@code beerDispenseryId} doesn't exists.
+	 * 			</li>
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code after} is not a cursor of a page.
+	 * 			</li>
+	 * 			<li>
+	 * 				If {@code limit} is less than 1 or more than maximum page size.
+	 * 			</li>
+	 */
+	BeerAndBeerUsageResponseDTO getBeerDispensery(Long beerDispenseryId, String after, Integer limit) throws EntityNotFoundException, BadRequestException;
+
+	/**
+	 * Write all the information related to beer dispensery like : when tap is open/close, total spent, as JSON to {@code outputStream}.
+	 * 
+	 * <p>
+	 * 	Beer usage are read from a database cursor and written one by one, so the list of beer usage is never held in memory.
+	 * </p>
+	 * 
+	 * @param	beerDispenseryId
+	 * 			Id of beer dispensery which we are going to fetch.
+	 * 
+	 * @param	outputStream
+	 * 			Stream to which JSON is written.
+	 * 
+	 * @throws	EntityNotFoundException
+	 * 			<li>
+	 * 				If beer dispensery with input {@code beerDispenseryId} doesn't exists.
+	 * 			</li>
+	 * 
+	 * @throws	IOException
+	 * 			If JSON cannot be written to {@code outputStream}.
+	 */
+	void writeBeerDispensery(Long beerDispenseryId, OutputStream outputStream) throws EntityNotFoundException, IOException;
 	
+	/**
+	 * Recompute total spent of every closed beer usage and amount of every beer from them, once per database, 
+	 * so beer usage closed before amounts were maintained when a tap is closed are included.
+	 * 
+	 * <p>
+	 * 	Amount of a beer is replaced as a whole, so running it again, e.g. after a crash part way, gives the same amounts. 
+	 * 	Once every beer is recomputed it is recorded as completed and does nothing afterwards.
+	 * </p>
+	 */
+	void backfillAmounts();
 }
@@ -0,0 +1,66 @@
+package com.beer.dispenser.apis.service;
+
+import java.util.List;
+
+import com.beer.dispenser.apis.exception.BadRequestException;
+import com.beer.dispenser.apis.response.dto.DispenserRankResponseDTO;
+
+/**
+ * Service layer for ranking beer dispenseries by amount spent across the fleet.
+ * 
+ * <li>
+ * 	<p>
+ * 		All the business logic for keeping beer dispenseries ordered by amount and answering the highest-spending ones 
+ * 		is performed by implementation of this interface.
+ * 	</p>
+ * 
+ * 	<p>
+ * 		Implementation(s) of this interface receive request from {@code BeerService}, when amount of a beer is increased, 
+ * 		and from {@code BeerController}.
+ * 	</p>
+ * </li>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.DispenserRankingServiceImpl
+ * @see		com.beer.dispenser.apis.utils.DispenserLeaderboard
+ * @since	17th October 2026
+ */
+public interface DispenserRankingService {
+
+	/**
+	 * Rank a beer dispensery at its {@code Beer.amount} increased in the current transaction, once the transaction commits, 
+	 * right away when there is no transaction.
+	 * 
+	 * @param	id
+	 * 			Id of the beer dispensery.
+	 */
+	void updateAmount(Long id);
+	
+	/**
+	 * Rank a beer dispensery at its {@code Beer.amount} recomputed in the current transaction, once the transaction commits, 
+	 * even when it is lower than its ranked amount.
+	 * 
+	 * <p>
+	 * 	Lock of the beer dispensery must be held until the transaction completes, so no amount increased meanwhile is replaced.
+	 * </p>
+	 * 
+	 * @param	id
+	 * 			Id of the beer dispensery.
+	 */
+	void resetAmount(Long id);
+	
+	/**
+	 * Fetch the beer dispenseries with the highest amount spent.
+	 * 
+	 * @param	n
+	 * 			Maximum number of beer dispenseries.
+	 * 
+	 * @return	Beer dispenseries with their rank, highest amount first.
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code n} is less than 1 or more than maximum number of beer dispenseries.
+	 * 			</li>
+	 */
+	List<DispenserRankResponseDTO> getTopDispenseries(int n) throws BadRequestException;
+}
@@ -0,0 +1,93 @@
+package com.beer.dispenser.apis.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import com.beer.dispenser.apis.entity.BeerUsage;
+import com.beer.dispenser.apis.exception.BadRequestException;
+import com.beer.dispenser.apis.exception.EntityNotFoundException;
+import com.beer.dispenser.apis.response.dto.SpendingResponseDTO;
+
+/**
+ * Service layer for spending of beer dispenseries per hour and per day.
+ * 
+ * <li>
+ * 	<p>
+ * 		All the business logic for keeping hourly and daily rollups of closed beer usage, 
+ * 		and answering spending of a time range from them, is performed by implementation of this interface.
+ * 	</p>
+ * 
+ * 	<p>
+ * 		Implementation(s) of this interface receive request from {@code BeerService}, when taps are closed, 
+ * 		and from {@code BeerController}.
+ * 	</p>
+ * </li>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.SpendingRollupServiceImpl
+ * @see		com.beer.dispenser.apis.entity.SpendingRollup
+ * @since	17th October 2026
+ */
+public interface SpendingRollupService {
+
+	/**
+	 * Add closed beer usage to the hourly and daily rollups of their beers, in the current transaction.
+	 * 
+	 * <p>
+	 * 	A beer usage open across several hours/days is split between them in proportion of the seconds the tap was open in each.
+	 * 	Beer usage of the same beer falling in the same bucket are added with a single statement.
+	 * </p>
+	 * 
+	 * @param	beerUsages
+	 * 			Beer usage with closing time and total spent.
+	 */
+	void addUsages(Collection<BeerUsage> beerUsages);
+	
+	/**
+	 * Rebuild hourly and daily rollups of every beer from its closed beer usage, once per database, 
+	 * so beer usage closed before rollups existed are included.
+	 * 
+	 * <p>
+	 * 	Rollups of a beer are replaced as a whole, so running it again, e.g. after a crash part way, gives the same rollups. 
+	 * 	Once every beer is rebuilt it is recorded as completed and does nothing afterwards. 
+	 * 	Does nothing until total spent of beer usage closed before amounts were maintained is backfilled.
+	 * </p>
+	 */
+	void backfill();
+	
+	/**
+	 * Fetch spending of beer dispensery in a time range, per hour/day, from the rollups only.
+	 * 
+	 * <p>
+	 * 	The range is widened to whole hours/days. Beer usage whose tap is still open are not included.
+	 * </p>
+	 * 
+	 * @param	beerDispenseryId
+	 * 			Id of beer dispensery which we are going to fetch.
+	 * 
+	 * @param	from
+	 * 			Start of the range, inclusive.
+	 * 
+	 * @param	to
+	 * 			End of the range, exclusive.
+	 * 
+	 * @param	granularity
+	 * 			Size of the buckets i.e hour/day.
+	 * 
+	 * @return	Spending in the range and in each of its hours/days.
+	 * 
+	 * @throws	EntityNotFoundException
+	 * 			<li>
+	 * 				If beer dispensery with input {@code beerDispenseryId} doesn't exists.
+	 * 			</li>
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code granularity} is neither hour nor day.
+	 * 			</li>
+	 * 			<li>
+	 * 				If {@code to} is not after {@code from}, or the range has too many buckets.
+	 * 			</li>
+	 */
+	SpendingResponseDTO getSpending(Long beerDispenseryId, LocalDateTime from, LocalDateTime to, String granularity) throws EntityNotFoundException, BadRequestException;
+}
@@ -0,0 +1,65 @@
+package com.beer.dispenser.apis.service;
+
+import java.util.Date;
+
+import com.beer.dispenser.apis.models.JwtPrincipal;
+
+/**
+ * Service layer for revocation of JWT before they expire, e.g. on logout or when a device is compromised.
+ * 
+ * <li>
+ * 	<p>
+ * 		All the business logic for revoking JWT and checking whether a JWT is revoked is performed by implementation of this interface.
+ * 	</p>
+ * 
+ * 	<p>
+ * 		Implementation(s) of this interface receive request from {@code AuthService} and {@code JwtRequestFilter}.
+ * 	</p>
+ * </li>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.TokenRevocationServiceImpl
+ * @see		com.beer.dispenser.apis.utils.JwtRequestFilter
+ * @since	17th October 2026
+ */
+public interface TokenRevocationService {
+
+	/**
+	 * Revoke a JWT, so it is rejected by every instance until it expires.
+	 * 
+	 * @param	jwtPrincipal
+	 * 			Principal of the verified JWT to revoke.
+	 */
+	void revoke(JwtPrincipal jwtPrincipal);
+	
+	/**
+	 * Revoke a token id, e.g. of a family of refresh tokens, so it is rejected by every instance until it expires.
+	 * 
+	 * @param	tokenId
+	 * 			Id to revoke.
+	 * 
+	 * @param	expiration
+	 * 			When the id is no longer used.
+	 */
+	void revoke(String tokenId, Date expiration);
+	
+	/**
+	 * Check whether a JWT is revoked.
+	 * 
+	 * @param	jwtPrincipal
+	 * 			Principal of a verified JWT.
+	 * 
+	 * @return	true/false, always false for a JWT without id.
+	 */
+	boolean isRevoked(JwtPrincipal jwtPrincipal);
+	
+	/**
+	 * Check whether a token id, e.g. of a family of refresh tokens, is revoked.
+	 * 
+	 * @param	tokenId
+	 * 			Id to check.
+	 * 
+	 * @return	true/false, always false for {@code null}.
+	 */
+	boolean isRevoked(String tokenId);
+}
@@ -1,21 +1,34 @@
 package com.beer.dispenser.apis.service.impl;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import com.beer.dispenser.apis.constants.ErrorMessageConstants;
+import com.beer.dispenser.apis.entity.UserAccount;
+import com.beer.dispenser.apis.exception.BadRequestException;
 import com.beer.dispenser.apis.exception.EntityNotFoundException;
 import com.beer.dispenser.apis.models.AuthenticationRequest;
 import com.beer.dispenser.apis.models.AuthenticationResponse;
+import com.beer.dispenser.apis.models.JwtPrincipal;
+import com.beer.dispenser.apis.models.RefreshTokenGrant;
+import com.beer.dispenser.apis.models.RefreshTokenRequest;
+import com.beer.dispenser.apis.repo.UserAccountRepository;
 import com.beer.dispenser.apis.service.AuthService;
+import com.beer.dispenser.apis.service.TokenRevocationService;
 import com.beer.dispenser.apis.utils.Jwtauthorizationfilter;
+import com.beer.dispenser.apis.utils.RefreshTokenStore;
+
+import io.jsonwebtoken.JwtException;
 
 /**
  * Service Implementation layer for operations related to JWT generation to access beer dispensery.
@@ -30,6 +43,13 @@ import com.beer.dispenser.apis.utils.Jwtauthorizationfilter;
  * 	</p>
  * </li>
  * 
+ * <p>
+ * 	A login checks the credentials once, and the user returned by the check is used to create the JWT. 
+ * 	Every JWT comes with a single use refresh token, a refresh creates a new JWT and refresh token 
+ * 	from what the refresh token was issued for, without checking credentials. The account is read once per refresh 
+ * 	to check it still exists and is enabled. Revoking a JWT also revokes the family of refresh tokens it was issued with.
+ * </p>
+ * 
  * @author	Sanchay Yadav
  * @see		com.beer.dispenser.apis.service.AuthService
  * @see		com.beer.dispenser.apis.controller.JwtSpringSecurityContoller
@@ -41,12 +61,18 @@ public class AuthServiceImpl implements AuthService {
 	@Autowired
 	private AuthenticationManager authenticationManager;
 	
-	@Autowired 
-	private MyUserDetailsService userDetailsService; 
-	
 	@Autowired
 	private Jwtauthorizationfilter jwtauthorizationfilter;
 	
+	@Autowired
+	private RefreshTokenStore refreshTokenStore;
+	
+	@Autowired
+	private TokenRevocationService tokenRevocationService;
+	
+	@Autowired
+	private UserAccountRepository userAccountRepository;
+	
 	/**
 	 * REST API endpoint to create a JWT for access beer dispensery system.
 	 * 
@@ -64,15 +90,15 @@ public class AuthServiceImpl implements AuthService {
 	public AuthenticationResponse createAuthenticationToken(AuthenticationRequest authenticationRequest)
 			throws Exception {
 		
-		AuthenticationResponse authenticationResponse = new AuthenticationResponse();
+		Authentication authentication;
 
 		try{
-			authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(authenticationRequest.getUserName(), authenticationRequest.getPassword()));
+			authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(authenticationRequest.getUserName(), authenticationRequest.getPassword()));
 		} catch (BadCredentialsException e) {
 			List<String> errorParameters = new ArrayList<>();
 			throw new EntityNotFoundException(ErrorMessageConstants.ERROR_INVALID_USERNAME_OR_PASSWORD, errorParameters);
 		}
-		final UserDetails userDetails  = userDetailsService.loadUserByUsername(authenticationRequest.getUserName());
+		final UserDetails userDetails  = (UserDetails) authentication.getPrincipal();
 		
 		if(!authenticationRequest.getUserName().equals(userDetails.getUsername())) {
 			List<String> errorParameters = new ArrayList<>();
@@ -80,8 +106,109 @@ public class AuthServiceImpl implements AuthService {
 			throw new EntityNotFoundException(ErrorMessageConstants.ERROR_INVALID_USERNAME_OR_PASSWORD, errorParameters);
 		}
 
-		final String jwt = jwtauthorizationfilter.generateToken(userDetails);
+		List<String> authorities = new ArrayList<>();
+		userDetails.getAuthorities().forEach(authority -> authorities.add(authority.getAuthority()));
+		
+		return this.createAuthenticationResponse(refreshTokenStore.createGrant(userDetails.getUsername(), authorities));
+	}
+	
+	/**
+	 * REST API endpoint to exchange a refresh token for a new JWT and a new refresh token.
+	 * 
+	 * <p>
+	 * 	The refresh token is redeemed, so it cannot be used again, and a new one is returned with the JWT. 
+	 * 	The new refresh token expires with the refresh token of the login.
+	 * </p>
+	 * 
+	 * @param	refreshTokenRequest
+	 * 			Request object containing the refresh token.
+	 * 
+	 * @return	Generated JWT and refresh token in form of JSON {@code authenticationResponse}
+	 * 
+	 * @throws	Exception
+	 * 			<li>
+	 * 				If refresh token is invalid, expired, already used or revoked, or its user no longer exists or is disabled.
+	 * 			</li> 
+	 */
+	@Override
+	public AuthenticationResponse refreshAuthenticationToken(RefreshTokenRequest refreshTokenRequest) throws Exception {
+		
+		RefreshTokenGrant refreshTokenGrant = refreshTokenRequest.getRefreshToken() == null 
+				? null : refreshTokenStore.redeem(refreshTokenRequest.getRefreshToken());
+		
+		if(refreshTokenGrant == null || tokenRevocationService.isRevoked(refreshTokenGrant.getFamilyId())
+				|| !userAccountRepository.findByUserName(refreshTokenGrant.getUserName()).map(UserAccount::isEnabled).orElse(false)) {
+			List<String> errorParameters = new ArrayList<>();
+
+			throw new EntityNotFoundException(ErrorMessageConstants.ERROR_INVALID_REFRESH_TOKEN, errorParameters);
+		}
+		
+		return this.createAuthenticationResponse(refreshTokenGrant);
+	}
+	
+	/**
+	 * REST API endpoint to revoke a JWT, and optionally its refresh token, e.g. on logout.
+	 * 
+	 * <p>
+	 * 	The JWT is rejected by every instance until it expires. Its family of refresh tokens is revoked as long as 
+	 * 	a refresh token of a login can live, so none of them can be redeemed anymore, including the refresh token sent with the request.
+	 * </p>
+	 * 
+	 * @param	jsonWebToken
+	 * 			JWT to revoke.
+	 * 
+	 * @param	refreshTokenRequest
+	 * 			Request object containing the refresh token to revoke, can be {@code null}.
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If JWT cannot be parsed, e.g. it expired since the request was authenticated.
+	 * 			</li> 
+	 */
+	@Override
+	public void revokeAuthenticationToken(String jsonWebToken, RefreshTokenRequest refreshTokenRequest) {
+		
+		JwtPrincipal jwtPrincipal;
+		try {
+			jwtPrincipal = jwtauthorizationfilter.parsePrincipal(jsonWebToken);
+		} catch (JwtException e) {
+			jwtPrincipal = null;
+		}
+		
+		if(jwtPrincipal == null) {
+			List<String> errorParameters = new ArrayList<>();
+
+			throw new BadRequestException(ErrorMessageConstants.ERROR_INVALID_JSON_WEB_TOKEN, errorParameters);
+		}
+		
+		tokenRevocationService.revoke(jwtPrincipal);
+		if(jwtPrincipal.getFamilyId() != null) {
+			tokenRevocationService.revoke(jwtPrincipal.getFamilyId(), 
+					Date.from(Instant.now().plusSeconds(refreshTokenStore.getTtlSeconds())));
+		}
+		
+		if(refreshTokenRequest != null && refreshTokenRequest.getRefreshToken() != null) {
+			refreshTokenStore.redeem(refreshTokenRequest.getRefreshToken());
+		}
+	}
+	
+	/**
+	 * Create a JWT and a refresh token for a user.
+	 * 
+	 * @param	refreshTokenGrant
+	 * 			User name and authorities of the user.
+	 * 
+	 * @return	Generated JWT and refresh token.
+	 */
+	private AuthenticationResponse createAuthenticationResponse(RefreshTokenGrant refreshTokenGrant) {
+		
+		AuthenticationResponse authenticationResponse = new AuthenticationResponse();
+		
+		final String jwt = jwtauthorizationfilter.generateToken(refreshTokenGrant.getUserName(), refreshTokenGrant.getAuthorities(), 
+				refreshTokenGrant.getFamilyId());
 		authenticationResponse.setJsonWebToken(jwt);
+		authenticationResponse.setRefreshToken(refreshTokenStore.issue(refreshTokenGrant));
+		authenticationResponse.setExpiresIn(jwtauthorizationfilter.getAccessTokenTtlSeconds());
 		
 		return authenticationResponse;
 	}
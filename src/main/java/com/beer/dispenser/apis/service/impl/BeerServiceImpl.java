@@ -1,29 +1,81 @@
 package com.beer.dispenser.apis.service.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.MessageSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.CollectionUtils;
 
+import com.beer.dispenser.apis.constants.BeerPriceConstants;
 import com.beer.dispenser.apis.constants.ErrorMessageConstants;
+import com.beer.dispenser.apis.constants.MetricConstants;
 import com.beer.dispenser.apis.entity.Beer;
+import com.beer.dispenser.apis.entity.BeerAmountBackfill;
 import com.beer.dispenser.apis.entity.BeerUsage;
+import com.beer.dispenser.apis.exception.BadRequestException;
 import com.beer.dispenser.apis.exception.ConflictException;
 import com.beer.dispenser.apis.exception.EntityNotFoundException;
 import com.beer.dispenser.apis.mapper.BeerMapper;
+import com.beer.dispenser.apis.models.DispenserMetadata;
+import com.beer.dispenser.apis.repo.BeerAmountBackfillRepository;
 import com.beer.dispenser.apis.repo.BeerRepository;
 import com.beer.dispenser.apis.repo.BeerUsageRepository;
 import com.beer.dispenser.apis.request.dto.BeerRequestDTO;
+import com.beer.dispenser.apis.request.dto.TapEventRequestDTO;
 import com.beer.dispenser.apis.request.dto.UpdateBeerRequestDTO;
 import com.beer.dispenser.apis.response.dto.BeerAndBeerUsageResponseDTO;
 import com.beer.dispenser.apis.response.dto.BeerResponseDTO;
+import com.beer.dispenser.apis.response.dto.BeerUsageResponseDTO;
+import com.beer.dispenser.apis.response.dto.DispenserSpendingResponseDTO;
+import com.beer.dispenser.apis.response.dto.TapEventResponseDTO;
 import com.beer.dispenser.apis.service.BeerService;
+import com.beer.dispenser.apis.service.DispenserRankingService;
+import com.beer.dispenser.apis.service.SpendingRollupService;
+import com.beer.dispenser.apis.utils.DispenserLocks;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Service Implementation layer for operations related to beer dispensery.
@@ -49,6 +101,8 @@ import com.beer.dispenser.apis.service.BeerService;
 @Transactional
 public class BeerServiceImpl implements BeerService {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(BeerServiceImpl.class);
+
 	@Autowired 
 	private BeerMapper beerMapper;
 	
@@ -58,6 +112,60 @@ public class BeerServiceImpl implements BeerService {
 	@Autowired
 	private BeerUsageRepository beerUsageRepository;
 	
+	@Autowired
+	private BeerAmountBackfillRepository beerAmountBackfillRepository;
+	
+	@Autowired
+	private MessageSource messageSource;
+	
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	
+	@Autowired
+	private DispenserLocks dispenserLocks;
+	
+	@Autowired
+	private SpendingRollupService spendingRollupService;
+	
+	@Autowired
+	private DispenserRankingService dispenserRankingService;
+	
+	@Autowired
+	private ObjectMapper objectMapper;
+	
+	@PersistenceContext
+	private EntityManager entityManager;
+	
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+	
+	/**
+	 * Number of times an update of beer dispensery is tried when it is changed concurrently.
+	 */
+	private static final int MAX_UPDATE_ATTEMPTS = 3;
+	
+	/**
+	 * Maximum number of beer usage in a page of beer usage, also the page size when limit is not given.
+	 */
+	private static final int MAX_USAGE_PAGE_SIZE = 500;
+	
+	/**
+	 * Maximum number of beer dispenseries fetched at once.
+	 */
+	private static final int MAX_DISPENSERIES_PER_REQUEST = 100;
+	
+	/**
+	 * Maximum number of tap events applied at once.
+	 */
+	private static final int MAX_TAP_EVENTS_PER_REQUEST = 500;
+	
+	/**
+	 * Scale of amounts in the database.
+	 */
+	private static final int AMOUNT_SCALE = 2;
+	
+	private static final Long BACKFILL_ID = 1L;
+	
 	/**
 	 * Create/save a beer dispensery.
 	 * 
@@ -67,6 +175,7 @@ public class BeerServiceImpl implements BeerService {
 	 * @return	Details of newly create beer dispensery.
 	 */
 	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
 	public BeerResponseDTO createBeerDispensery(BeerRequestDTO beerRequestDTO) {
 		
 		Beer beer = beerMapper.mapToBeer(beerRequestDTO);
@@ -90,6 +199,8 @@ public class BeerServiceImpl implements BeerService {
 	 * 			</li>
 	 */
 	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(readOnly = true)
 	public Beer findById(Long id){
 
 		List<String> errorParameters = new ArrayList<>();
@@ -101,8 +212,43 @@ public class BeerServiceImpl implements BeerService {
 		return beer;
 	}
 	
+	/**
+	 * Fetches attributes which never change of a beer dispensery with input {@code id}, from cache when it is cached.
+	 * 
+	 * <p>
+	 * 	Doesn't start a transaction, so a cached beer dispensery is returned without taking a database connection.
+	 * </p>
+	 * 
+	 * @param 	id
+	 * 			Id of the beer dispensery to be fetched.
+	 * 
+	 * @return	Attributes of the beer dispensery.
+	 * 
+	 * @throws 	EntityNotFoundException
+	 * 			<li>
+	 * 				If beer dispensery with input {@code id} doesn't exists.
+	 * 			</li>
+	 */
+	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public DispenserMetadata findMetadataById(Long id){
+		
+		List<String> errorParameters = new ArrayList<>();
+		errorParameters.add(String.valueOf(id));
+		
+		DispenserMetadata dispenserMetadata = beerRepository.findMetadataById(id)
+		                                                    .orElseThrow(() -> new EntityNotFoundException(ErrorMessageConstants.ERROR_DISPENSER_DOES_NOT_EXISTS_WITH_ID, errorParameters));
+		
+		return dispenserMetadata;
+	}
+	
 	/**
 	* Update details of beer dispensery.
+	 * 
+	 * <p>
+	 * 	Only the beer and the beer usage of its open tap are read, the usage history of the beer is not loaded.
+	 * </p>
 	 * 
 	 * @param	beerUsageId
 	 * 			Id of a beer dispensery which we are going to update.
@@ -116,6 +262,9 @@ public class BeerServiceImpl implements BeerService {
 	 * 			<li>
 	 * 				If status for Id {@code beerUsageId} is same as previous status.
 	 * 			</li>
+	 * 			<li>
+	 * 				If close time before then open time.
+	 * 			</li>
 	 * 
 	 * @throws	EntityNotFoundException
 	 * 			<li>
@@ -123,58 +272,525 @@ public class BeerServiceImpl implements BeerService {
 	 * 			</li>
 	 */
 	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void updateBeerDispensery(Long beerUsageId, UpdateBeerRequestDTO updateBeerRequestDTO) {
 		
-		BeerUsage beerUsage = new BeerUsage();
-		Beer beer = this.findById(beerUsageId);
 		List<String> errorParameters = new ArrayList<>();
-		List<BeerUsage> beerUsages = beerUsageRepository.findByBeer(beer);
+		errorParameters.add(String.valueOf(beerUsageId));
+		
+		List<Lock> locks = new ArrayList<>();
+		locks.add(dispenserLocks.get(beerUsageId));
+		
+		this.executeWithRetry(locks, errorParameters, () -> {
+			
+			Beer beer = beerRepository.findWithOpenBeerUsageById(beerUsageId)
+									  .orElseThrow(() -> new EntityNotFoundException(ErrorMessageConstants.ERROR_DISPENSER_DOES_NOT_EXISTS_WITH_ID, errorParameters));
+			
+			List<BeerUsage> closedBeerUsages = new ArrayList<>(1);
+			BigDecimal totalSpent = this.applyTapEvent(beer, updateBeerRequestDTO.getStatus(), updateBeerRequestDTO.getUpdated_at(), 
+					beerUsageRepository::existsByBeer, closedBeerUsages);
+			
+			if(totalSpent.signum() > 0) {
+				beerRepository.addToAmount(beer.getId(), totalSpent);
+				dispenserRankingService.updateAmount(beer.getId());
+			}
+			spendingRollupService.addUsages(closedBeerUsages);
+			return null;
+		});
+	}
 
-		int beerUsagesSize = beerUsages.size()-1;
+	/**
+	 * Update details of many beer dispenseries from an ordered list of open/close events of their taps.
+	 * 
+	 * <p>
+	 * 	Events are applied in the given order with the same rules as {@link #updateBeerDispensery(Long, UpdateBeerRequestDTO) updateBeerDispensery}
+	 * 	and all in one transaction. Beers are loaded with one query, beer usages are written when the transaction is flushed so they are sent 
+	 * 	as JDBC batches, and the amount of each beer is increased once with the sum of its closed beer usages. 
+	 * 	Spending rollups are increased once per beer and hour/day after all the events are applied.
+	 * </p>
+	 * 
+	 * <p>
+	 * 	At most {@value #MAX_TAP_EVENTS_PER_REQUEST} events are accepted at once, as the locks of all their beer dispenseries 
+	 * 	are held and their beers are read with a single {@code IN} query for the whole transaction.
+	 * </p>
+	 * 
+	 * @param	tapEventRequestDTOs
+	 * 			Ordered list of open/close events of beer taps.
+	 * 
+	 * @return	Result of every event, in the same order as the events.
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code tapEventRequestDTOs} is empty or has more than {@value #MAX_TAP_EVENTS_PER_REQUEST} events.
+	 * 			</li>
+	 */
+	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<TapEventResponseDTO> updateBeerDispenseries(List<TapEventRequestDTO> tapEventRequestDTOs) throws BadRequestException {
+		
+		if(tapEventRequestDTOs.isEmpty() || tapEventRequestDTOs.size() > MAX_TAP_EVENTS_PER_REQUEST) {
+			throw new BadRequestException(ErrorMessageConstants.ERROR_INVALID_TAP_EVENT_COUNT, 
+					Arrays.asList(String.valueOf(tapEventRequestDTOs.size()), String.valueOf(MAX_TAP_EVENTS_PER_REQUEST)));
+		}
+		
+		return this.updateBeerDispenseries(tapEventRequestDTOs, () -> {});
+	}
 
-		if(beerUsages.size()==0 && updateBeerRequestDTO.getStatus().equals("close")) {
+	/**
+	 * Update details of many beer dispenseries from an ordered list of open/close events of their taps, 
+	 * running the given work in the same transaction once the events are applied.
+	 * 
+	 * @param	tapEventRequestDTOs
+	 * 			Ordered list of open/close events of beer taps.
+	 * 
+	 * @param	afterApplied
+	 * 			Work committed or rolled back together with the events, run again when the transaction is retried.
+	 * 
+	 * @return	Result of every event, in the same order as the events.
+	 */
+	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<TapEventResponseDTO> updateBeerDispenseries(List<TapEventRequestDTO> tapEventRequestDTOs, Runnable afterApplied) {
+		
+		Set<Long> beerIds = new HashSet<>();
+		for(TapEventRequestDTO tapEventRequestDTO : tapEventRequestDTOs) {
+			if(tapEventRequestDTO.getDispenserId() != null) {
+				beerIds.add(tapEventRequestDTO.getDispenserId());
+			}
+		}
+		
+		return this.executeWithRetry(dispenserLocks.getAll(beerIds), new ArrayList<>(), 
+				() -> {
+					List<TapEventResponseDTO> tapEventResponseDTOs = this.applyTapEvents(tapEventRequestDTOs, beerIds);
+					afterApplied.run();
+					return tapEventResponseDTOs;
+				});
+	}
+
+	/**
+	 * Applies an ordered list of open/close events of beer taps in the current transaction.
+	 * 
+	 * @param	tapEventRequestDTOs
+	 * 			Ordered list of open/close events of beer taps.
+	 * 
+	 * @param	beerIds
+	 * 			Ids of all beers referred by the events.
+	 * 
+	 * @return	Result of every event, in the same order as the events.
+	 */
+	private List<TapEventResponseDTO> applyTapEvents(List<TapEventRequestDTO> tapEventRequestDTOs, Set<Long> beerIds) {
+		
+		Map<Long, Beer> beers = new HashMap<>();
+		if(!beerIds.isEmpty()) {
+			for(Beer beer : beerRepository.findWithOpenBeerUsageByIdIn(beerIds)) {
+				beers.put(beer.getId(), beer);
+			}
+		}
+		
+		// whether a closed tap was ever opened is read for all the beers at once, a query per event would also flush the pending batch
+		Set<Long> closedBeerIds = new HashSet<>();
+		for(TapEventRequestDTO tapEventRequestDTO : tapEventRequestDTOs) {
+			Beer beer = beers.get(tapEventRequestDTO.getDispenserId());
+			if(beer != null && beer.getOpenBeerUsage() == null && "close".equals(tapEventRequestDTO.getStatus())) {
+				closedBeerIds.add(beer.getId());
+			}
+		}
+		
+		Set<Long> beerIdsWithBeerUsage = new HashSet<>();
+		if(!closedBeerIds.isEmpty()) {
+			beerIdsWithBeerUsage.addAll(beerUsageRepository.findBeerIdsWithBeerUsage(closedBeerIds));
+		}
+		
+		Map<Long, BigDecimal> totalSpentByBeerId = new LinkedHashMap<>();
+		List<BeerUsage> closedBeerUsages = new ArrayList<>();
+		List<TapEventResponseDTO> tapEventResponseDTOs = new ArrayList<>(tapEventRequestDTOs.size());
+		
+		for(TapEventRequestDTO tapEventRequestDTO : tapEventRequestDTOs) {
 			
-			errorParameters.add(String.valueOf(beerUsageId));
-			throw new ConflictException(ErrorMessageConstants.ERROR_DISPENSER_NOT_OPEN_YET, errorParameters);
+			List<String> errorParameters = new ArrayList<>();
+			errorParameters.add(String.valueOf(tapEventRequestDTO.getDispenserId()));
 			
-		} 
-		else if((beerUsages.size()==0 && updateBeerRequestDTO.getStatus().equals("open") )
-				||
-				(beerUsages.get(beerUsagesSize).getOpenedAt()!=null && beerUsages.get(beerUsagesSize).getClosedAt()!=null) 
-			    && 
-			    updateBeerRequestDTO.getStatus().equals("open")){
+			if(tapEventRequestDTO.getDispenserId() == null || tapEventRequestDTO.getUpdated_at() == null
+					|| !("open".equals(tapEventRequestDTO.getStatus()) || "close".equals(tapEventRequestDTO.getStatus()))) {
+				
+				tapEventResponseDTOs.add(this.mapToTapEventResponseDTO(tapEventRequestDTO, HttpStatus.BAD_REQUEST, 
+						ErrorMessageConstants.ERROR_DISPENSER_INVALID_TAP_EVENT, null));
+				continue;
+			}
+			
+			Beer beer = beers.get(tapEventRequestDTO.getDispenserId());
+			if(beer == null) {
+				tapEventResponseDTOs.add(this.mapToTapEventResponseDTO(tapEventRequestDTO, HttpStatus.NOT_FOUND, 
+						ErrorMessageConstants.ERROR_DISPENSER_DOES_NOT_EXISTS_WITH_ID, errorParameters));
+				continue;
+			}
+			
+			try {
+				BigDecimal totalSpent = this.applyTapEvent(beer, tapEventRequestDTO.getStatus(), tapEventRequestDTO.getUpdated_at(), 
+						b -> beerIdsWithBeerUsage.contains(b.getId()), closedBeerUsages);
+				totalSpentByBeerId.merge(beer.getId(), totalSpent, BigDecimal::add);
+				beerIdsWithBeerUsage.add(beer.getId());
+				
+				tapEventResponseDTOs.add(this.mapToTapEventResponseDTO(tapEventRequestDTO, HttpStatus.ACCEPTED, null, null));
+			} catch (ConflictException e) {
+				tapEventResponseDTOs.add(this.mapToTapEventResponseDTO(tapEventRequestDTO, HttpStatus.CONFLICT, 
+						e.getMessage(), e.getErrorParameters()));
+			}
+		}
+		
+		for(Map.Entry<Long, BigDecimal> totalSpent : totalSpentByBeerId.entrySet()) {
+			if(totalSpent.getValue().signum() > 0) {
+				beerRepository.addToAmount(totalSpent.getKey(), totalSpent.getValue());
+				dispenserRankingService.updateAmount(totalSpent.getKey());
+			}
+		}
+		spendingRollupService.addUsages(closedBeerUsages);
+		
+		return tapEventResponseDTOs;
+	}
+
+	/**
+	 * Executes an update of beer dispenseries in a new transaction while holding their locks.
+	 * 
+	 * <p>
+	 * 	When the beers or beer usages are changed by another transaction in meantime, 
+	 * 	the transaction is rolled back and the update is tried again up to {@value #MAX_UPDATE_ATTEMPTS} times.
+	 * </p>
+	 * 
+	 * @param	<T>
+	 * 			Result type of the update.
+	 * 
+	 * @param	locks
+	 * 			Locks of the beer dispenseries to update.
+	 * 
+	 * @param	errorParameters
+	 * 			Parameters of error message when all attempts fail.
+	 * 
+	 * @param	update
+	 * 			Update to execute.
+	 * 
+	 * @return	Result of the update.
+	 * 
+	 * @throws	ConflictException
+	 * 			<li>
+	 * 				If beer dispenseries are still changed concurrently after all attempts.
+	 * 			</li>
+	 */
+	private <T> T executeWithRetry(List<Lock> locks, List<String> errorParameters, Supplier<T> update) {
+		
+		for(Lock lock : locks) {
+			lock.lock();
+		}
+		try {
+			for(int attempt=1;;++attempt) {
+				try {
+					return transactionTemplate.execute(status -> update.get());
+				} catch (OptimisticLockingFailureException e) {
+					if(attempt >= MAX_UPDATE_ATTEMPTS) {
+						throw this.conflict(ErrorMessageConstants.ERROR_DISPENSER_ALREADY_OPEN_OR_CLOSE, errorParameters);
+					}
+				}
+			}
+		} finally {
+			for(Lock lock : locks) {
+				lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Recompute total spent of closed beer usage and amount of every beer having beer usage, unless it was already completed.
+	 * 
+	 * <p>
+	 * 	Before amounts were maintained when a tap is closed, total spent of a beer usage and amount of its beer were only written 
+	 * 	when the beer was fetched, and included the spent of an open beer usage. So a beer usage closed since has no total spent, 
+	 * 	and amount of its beer is stale. Each beer is recomputed in its own transaction, holding the lock of its dispenser on this instance 
+	 * 	and the lock of its row, so closing a tap on any instance waits for it, and a tap closed before is found among the beer usage. 
+	 * 	The beer usage of a tap left open is also recorded on the beer, when it is not yet.
+	 * </p>
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void backfillAmounts() {
+		
+		if(beerAmountBackfillRepository.existsById(BACKFILL_ID)) {
+			return;
+		}
+		
+		List<Long> beerIds = beerUsageRepository.findBeerIdsWithAnyBeerUsage();
+		
+		for(Long beerId : beerIds) {
+			Lock lock = dispenserLocks.get(beerId);
+			lock.lock();
+			try {
+				transactionTemplate.execute(status -> this.recomputeAmount(beerId));
+			} finally {
+				lock.unlock();
+			}
+		}
+		
+		try {
+			beerAmountBackfillRepository.save(new BeerAmountBackfill(BACKFILL_ID, LocalDateTime.now()));
+		} catch (DataIntegrityViolationException e) {
+			LOGGER.debug("Beer amount backfill completed concurrently by another instance");
+		}
+		LOGGER.info("Recomputed amounts of {} beers from their beer usage", beerIds.size());
+	}
+	
+	/**
+	 * Recompute total spent of every closed beer usage of a beer and replace amount of the beer by their sum, in the current transaction.
+	 * 
+	 * @param	beerId
+	 * 			Id of the beer.
+	 * 
+	 * @return	Number of beer usage of which total spent was replaced, 0 if the beer no longer exists.
+	 */
+	private int recomputeAmount(Long beerId) {
+		
+		Beer beer = beerRepository.findForUpdateById(beerId).orElse(null);
+		if(beer == null) {
+			return 0;
+		}
+		
+		BigDecimal amount = BigDecimal.ZERO.setScale(AMOUNT_SCALE);
+		BeerUsage openBeerUsage = null;
+		
+		// total spent is replaced once the beer usage are read, no statement is executed while the cursor is open
+		Map<Long, BigDecimal> totalSpentById = new LinkedHashMap<>();
+		
+		try(Stream<BeerUsage> beerUsages = beerUsageRepository.streamByBeer(beer)) {
 			
+			Iterator<BeerUsage> iterator = beerUsages.iterator();
+			while(iterator.hasNext()) {
+				
+				BeerUsage beerUsage = iterator.next();
+				if(beerUsage.getClosedAt() == null) {
+					openBeerUsage = beerUsage;
+					continue;
+				}
+				
+				if(beerUsage.getClosedAt().truncatedTo(ChronoUnit.SECONDS).isBefore(beerUsage.getOpenedAt().truncatedTo(ChronoUnit.SECONDS))) {
+					LOGGER.warn("Beer usage {} of beer {} is closed at {} before it is opened at {}, its total spent is left out", 
+							beerUsage.getId(), beerId, beerUsage.getClosedAt(), beerUsage.getOpenedAt());
+					continue;
+				}
+				
+				BigDecimal totalSpent = this.calculateTotalSpent(beer, beerUsage.getOpenedAt(), beerUsage.getClosedAt())
+											.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+				
+				if(beerUsage.getTotalSpent() == null || totalSpent.compareTo(beerUsage.getTotalSpent()) != 0) {
+					totalSpentById.put(beerUsage.getId(), totalSpent);
+				}
+				amount = amount.add(totalSpent);
+			}
+		}
+		
+		for(Map.Entry<Long, BigDecimal> totalSpent : totalSpentById.entrySet()) {
+			beerUsageRepository.setTotalSpent(totalSpent.getKey(), totalSpent.getValue());
+		}
+		
+		if(beer.getOpenBeerUsage() == null && openBeerUsage != null) {
+			beer.setOpenBeerUsage(openBeerUsage);
+		}
+		
+		beerRepository.setAmount(beerId, amount);
+		dispenserRankingService.resetAmount(beerId);
+		return totalSpentById.size();
+	}
+
+	/**
+	 * Applies an open/close event of a tap to a beer.
+	 * 
+	 * <p>
+	 * 	Opening a tap creates a new beer usage, closing it calculates total spent of the open beer usage. 
+	 * 	Nothing is changed when the event is rejected. Amount of the beer and its spending rollups are not increased here.
+	 * </p>
+	 * 
+	 * @param	beer
+	 * 			Beer fetched together with the beer usage of its open tap.
+	 * 
+	 * @param	status
+	 * 			Status of the tap i.e open/close.
+	 * 
+	 * @param	updatedAt
+	 * 			Time when tap is open/close.
+	 * 
+	 * @param	hasBeerUsage
+	 * 			Whether any beer usage exists for a beer, only asked when its tap is closed without being open.
+	 * 
+	 * @param	closedBeerUsages
+	 * 			Beer usage closed in the transaction, the beer usage closed by this event is added to it.
+	 * 
+	 * @return	Total spent on the beer usage closed by this event, zero when tap is opened.
+	 * 
+	 * @throws	ConflictException
+	 * 			<li>
+	 * 				If status is same as previous status.
+	 * 			</li>
+	 * 			<li>
+	 * 				If close time before then open time.
+	 * 			</li>
+	 */
+	private BigDecimal applyTapEvent(Beer beer, String status, LocalDateTime updatedAt, Predicate<Beer> hasBeerUsage, List<BeerUsage> closedBeerUsages) {
+		
+		List<String> errorParameters = new ArrayList<>();
+		errorParameters.add(String.valueOf(beer.getId()));
+		BeerUsage openBeerUsage = beer.getOpenBeerUsage();
+
+		if(status.equals("open")) {
+			
+			if(openBeerUsage != null) {
+				errorParameters.add(status);
+				throw this.conflict(ErrorMessageConstants.ERROR_DISPENSER_SAME_AS_PREVOUS_STATUS, errorParameters);
+			}
+			
+			BeerUsage beerUsage = new BeerUsage();
 			beerUsage.setBeer(beer);			
-            beerUsage.setOpenedAt(updateBeerRequestDTO.getUpdated_at());
+            beerUsage.setOpenedAt(updatedAt);
+            
+            beerUsageRepository.save(beerUsage);
+            beer.setOpenBeerUsage(beerUsage);
 		} 
-		else if(beerUsages.get(beerUsagesSize).getOpenedAt() == null 
-				&& updateBeerRequestDTO.getStatus().equals("close")) {
+		else if(status.equals("close")) {
 			
-			errorParameters.add(String.valueOf(beerUsageId));
-			throw new ConflictException(ErrorMessageConstants.ERROR_DISPENSER_NOT_OPEN_YET, errorParameters);
-		} 
-		else if(beerUsages.get(beerUsagesSize).getOpenedAt() != null && updateBeerRequestDTO.getStatus().equals("open")
-				                         ||
-				beerUsages.get(beerUsagesSize).getClosedAt() != null && updateBeerRequestDTO.getStatus().equals("close")) {
+			if(openBeerUsage == null && !hasBeerUsage.test(beer)) {
+				throw this.conflict(ErrorMessageConstants.ERROR_DISPENSER_NOT_OPEN_YET, errorParameters);
+			}
+			if(openBeerUsage == null) {
+				errorParameters.add(status);
+				throw this.conflict(ErrorMessageConstants.ERROR_DISPENSER_SAME_AS_PREVOUS_STATUS, errorParameters);
+			}
 			
-			errorParameters.add(String.valueOf(beerUsageId));
-			errorParameters.add(updateBeerRequestDTO.getStatus());
+			BigDecimal totalSpent = this.calculateTotalSpent(beer, openBeerUsage.getOpenedAt(), updatedAt);
+			openBeerUsage.setClosedAt(updatedAt);
+			openBeerUsage.setTotalSpent(totalSpent);
 			
-			throw new ConflictException(ErrorMessageConstants.ERROR_DISPENSER_SAME_AS_PREVOUS_STATUS, errorParameters);
-		} 
-		else if(beerUsages.get(beerUsagesSize).getOpenedAt() != null && updateBeerRequestDTO.getStatus().equals("close")) {
+			beerUsageRepository.save(openBeerUsage);
+			beer.setOpenBeerUsage(null);
+			closedBeerUsages.add(openBeerUsage);
 			
-			beerUsage = beerUsageRepository.findById(beerUsages.get(beerUsagesSize).getId())
-                    						.orElseThrow(() -> new EntityNotFoundException(ErrorMessageConstants.ERROR_DISPENSER_DOES_NOT_EXISTS, errorParameters));
-			beerUsage.setClosedAt(updateBeerRequestDTO.getUpdated_at());
+			return totalSpent;
 		} 
+		
+		return BigDecimal.ZERO;
+	}
 
-		beerUsageRepository.save(beerUsage);		
+	/**
+	 * Calculate amount spent on a beer usage based on time difference between opening and closing time of beer tap.
+	 * 
+	 * @param	beer
+	 * 			Beer to which beer usage belongs.
+	 * 
+	 * @param	openedAt
+	 * 			Time when tap is open.
+	 * 
+	 * @param	closedAt
+	 * 			Time when tap is close.
+	 * 
+	 * @return	Total spent on the beer usage.
+	 * 
+	 * @throws	ConflictException
+	 * 			<li>
+	 * 				If close time before then open time.
+	 * 			</li>
+	 */
+	private BigDecimal calculateTotalSpent(Beer beer, LocalDateTime openedAt, LocalDateTime closedAt) {
+		
+		LocalDateTime from = openedAt.truncatedTo(ChronoUnit.SECONDS);
+		LocalDateTime to = closedAt.truncatedTo(ChronoUnit.SECONDS);
+		
+		Duration duration = Duration.between(from, to);
+		if(duration.getSeconds()<0) {
+			List<String> errorParameters = new ArrayList<>();
+			errorParameters.add(String.valueOf(closedAt));
+			errorParameters.add(String.valueOf(beer.getId()));
+			errorParameters.add(String.valueOf(openedAt));
+			
+			throw this.conflict(ErrorMessageConstants.ERROR_DISPENSER_CLOSING_TIME_LESS_THAN_OPENING_TIME, errorParameters);
+		}
+		
+		return BigDecimal.valueOf(duration.getSeconds()*BeerPriceConstants.PRICE_PER_LITER*beer.getFlow_volume());
+	}
+
+	/**
+	 * Create a {@code ConflictException} and count it by its error message key.
+	 *
+	 * @param	errorMessage
+	 * 			Key of error message.
+	 *
+	 * @param	errorParameters
+	 * 			Parameters of error message.
+	 *
+	 * @return	{@code ConflictException} to throw.
+	 */
+	private ConflictException conflict(String errorMessage, List<String> errorParameters) {
+
+		if(meterRegistry != null) {
+			meterRegistry.counter(MetricConstants.CONFLICT_COUNTER, MetricConstants.TAG_ERROR, errorMessage).increment();
+		}
+
+		return new ConflictException(errorMessage, errorParameters);
+	}
+
+	/**
+	 * Record the number of beer usage loaded by a request.
+	 *
+	 * @param	operation
+	 * 			Name of the operation which loaded beer usage.
+	 *
+	 * @param	count
+	 * 			Number of beer usage loaded.
+	 */
+	private void recordUsagesLoaded(String operation, long count) {
+
+		if(meterRegistry != null) {
+			meterRegistry.summary(MetricConstants.USAGES_LOADED_SUMMARY, MetricConstants.TAG_OPERATION, operation).record(count);
+		}
+	}
+
+	/**
+	 * Maps a tap event and its result to {@code TapEventResponseDTO}, resolving error message same as {@code GlobalExceptionHandler}.
+	 * 
+	 * @param	tapEventRequestDTO
+	 * 			Event of a beer tap.
+	 * 
+	 * @param	httpStatus
+	 * 			HTTP status the event would have got on its own.
+	 * 
+	 * @param	errorMessage
+	 * 			Key of error message, null when event is applied.
+	 * 
+	 * @param	errorParameters
+	 * 			Parameters of error message.
+	 * 
+	 * @return	{@code TapEventResponseDTO} object with initialized properties.
+	 */
+	private TapEventResponseDTO mapToTapEventResponseDTO(TapEventRequestDTO tapEventRequestDTO, HttpStatus httpStatus, 
+			String errorMessage, List<String> errorParameters) {
+		
+		if(errorMessage != null) {
+			errorMessage = messageSource.getMessage(errorMessage, null, Locale.ENGLISH);
+			
+			if(!CollectionUtils.isEmpty(errorParameters)) {
+				errorMessage = String.format(errorMessage, errorParameters.toArray());
+			}
+		}
+		
+		return new TapEventResponseDTO(tapEventRequestDTO.getDispenserId(), tapEventRequestDTO.getStatus(), httpStatus.value(), errorMessage);
 	}
 
 	/**
 	 * Fetch all the information related to beer dispensery like : when tap is open/close, total spent.
 	 * 
+	 * <p>
+	 * 	Amount is read from the running total of the beer, which is maintained when a tap is closed, 
+	 * 	so nothing is recalculated or written here. Runs in a read-only transaction, so loaded entities are not dirty checked or flushed 
+	 * 	and it is routed to the read replica when one is configured.
+	 * </p>
+	 * 
 	 * @param	beerDispenseryId
 	 * 			Id of beer dispensery which we are going to fetch.
 	 * 
@@ -182,54 +798,376 @@ public class BeerServiceImpl implements BeerService {
 	 * 
 	 * @throws	EntityNotFoundException
 	 * 			<li>
-	 * 				If close time before then open time.
+	 * 				If beer dispensery with input {@code beerDispenseryId} doesn't exists.
 	 * 			</li>
 	 */
 	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(readOnly = true)
 	public BeerAndBeerUsageResponseDTO getBeerDispensery(Long beerDispenseryId) throws EntityNotFoundException {
 		
-		BigDecimal amount = BigDecimal.ZERO;
 		Beer beer = this.findById(beerDispenseryId);
 		List<BeerUsage> beerUsages = beerUsageRepository.findByBeer(beer);
+		this.recordUsagesLoaded("getBeerDispensery", beerUsages.size());
 		
-		List<String> errorParameters = new ArrayList<>();
-
-		for(int i=0;i<beerUsages.size();++i) {
+		BeerAndBeerUsageResponseDTO beerAndBeerUsageResponseDTO = beerMapper.mapToBeerAndBeerUsage( beer, beerUsages);
+		BigDecimal amount = beer.getAmount() == null ? BigDecimal.ZERO : beer.getAmount();
+		
+		for(BeerUsageResponseDTO beerUsageResponseDTO : beerAndBeerUsageResponseDTO.getUsages()) {
+			
+			if(beerUsageResponseDTO.getClosedAt()==null) {
+				beerUsageResponseDTO.setTotalSpent(BeerPriceConstants.OPEN_USAGE_SPENT);
+				amount = amount.add(BeerPriceConstants.OPEN_USAGE_SPENT);
+			}
+		}
+		beerAndBeerUsageResponseDTO.setAmount(amount);
+        
+		return beerAndBeerUsageResponseDTO;
+	}
+	
+	/**
+	 * Fetch amount of beer dispensery, without its beer usage.
+	 * 
+	 * <p>
+	 * 	Amount is read from the running total of the beer and its pointer to an open beer usage, 
+	 * 	so only the beer is read and no beer usage is loaded however long the history of beer dispensery is.
+	 * </p>
+	 * 
+	 * @param	beerDispenseryId
+	 * 			Id of beer dispensery which we are going to fetch.
+	 * 
+	 * @return	Amount of beer dispnesery corresponding to input Id {@code beerDispenseryId}, without beer usage.
+	 * 
+	 * @throws	EntityNotFoundException
+	 * 			<li>
+	 * 				If beer dispensery with input {@code beerDispenseryId} doesn't exists.
+	 * 			</li>
+	 */
+	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(readOnly = true)
+	public BeerAndBeerUsageResponseDTO getBeerDispenseryAmount(Long beerDispenseryId) throws EntityNotFoundException {
+		
+		Beer beer = this.findById(beerDispenseryId);
+		
+		BeerAndBeerUsageResponseDTO beerAndBeerUsageResponseDTO = new BeerAndBeerUsageResponseDTO();
+		beerAndBeerUsageResponseDTO.setAmount(this.calculateAmount(beer));
+		
+		return beerAndBeerUsageResponseDTO;
+	}
+	
+	/**
+	 * Fetch amount, and optionally all beer usage, of many beer dispenseries at once.
+	 * 
+	 * <p>
+	 * 	Beers are read with a single {@code IN} query whatever the number of dispenseries, together with the beer usage of their open tap 
+	 * 	for amount only, or joined with all their beer usage when usages are included, which are then grouped by beer in memory. 
+	 * 	At most {@value #MAX_USAGE_PAGE_SIZE} beer usage are returned in all, as for a page of a single beer dispensery, 
+	 * 	and no more than that many rows are read.
+	 * </p>
+	 * 
+	 * @param	beerDispenseryIds
+	 * 			Ids of beer dispenseries which we are going to fetch.
+	 * 
+	 * @param	includeUsages
+	 * 			Whether beer usage are returned along with amount.
+	 * 
+	 * @return	Details of beer dispenseries, in the order of {@code beerDispenseryIds} and each one once.
+	 * 
+	 * @throws	EntityNotFoundException
+	 * 			<li>
+	 * 				If any of beer dispenseries with input {@code beerDispenseryIds} doesn't exists.
+	 * 			</li>
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code beerDispenseryIds} is empty or has more than {@value #MAX_DISPENSERIES_PER_REQUEST} ids.
+	 * 			</li>
+	 * 			<li>
+	 * 				If usages are included and beer dispenseries have more than {@value #MAX_USAGE_PAGE_SIZE} beer usage in all.
+	 * 			</li>
+	 */
+	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(readOnly = true)
+	public List<DispenserSpendingResponseDTO> getBeerDispenseries(List<Long> beerDispenseryIds, boolean includeUsages) throws EntityNotFoundException, BadRequestException {
+		
+		Set<Long> ids = new LinkedHashSet<>(beerDispenseryIds);
+		ids.remove(null);
+		
+		if(ids.isEmpty() || ids.size() > MAX_DISPENSERIES_PER_REQUEST) {
+			throw new BadRequestException(ErrorMessageConstants.ERROR_INVALID_DISPENSER_IDS, Arrays.asList(String.valueOf(ids.size()), String.valueOf(MAX_DISPENSERIES_PER_REQUEST)));
+		}
+		
+		Map<Long, DispenserSpendingResponseDTO> dispenserSpendingResponseDTOs = new HashMap<>();
+		
+		if(!includeUsages) {
+			for(Beer beer : beerRepository.findWithOpenBeerUsageByIdIn(ids)) {
+				dispenserSpendingResponseDTOs.put(beer.getId(), new DispenserSpendingResponseDTO(beer.getId(), this.calculateAmount(beer), null));
+			}
+		} else {
+			long count = 0;
 			
-			LocalDateTime localOpenDateTime = beerUsages.get(i).getOpenedAt();
-			LocalDateTime from = LocalDateTime.of(localOpenDateTime.getYear(), localOpenDateTime.getMonth(), localOpenDateTime.getDayOfMonth(),
-					localOpenDateTime.getHour(), localOpenDateTime.getMinute(), localOpenDateTime.getSecond());
+			// a beer without beer usage takes a row, so rows past the cap are only fetched when beer usage are more than the cap
+			Pageable pageable = PageRequest.of(0, MAX_USAGE_PAGE_SIZE + ids.size() + 1);
 			
-			if(beerUsages.get(i).getClosedAt()==null) {
-		        beerUsages.get(i).setTotalSpent(BigDecimal.valueOf(1.23));
-				amount= amount.add(beerUsages.get(i).getTotalSpent());
-		        continue;   
+			for(Object[] row : beerRepository.findWithBeerUsagesByIdIn(ids, pageable)) {
+				
+				Beer beer = (Beer) row[0];
+				DispenserSpendingResponseDTO dispenserSpendingResponseDTO = dispenserSpendingResponseDTOs.computeIfAbsent(beer.getId(), 
+						id -> new DispenserSpendingResponseDTO(id, this.calculateAmount(beer), new ArrayList<>()));
+				
+				if(row[1] != null) {
+					if(++count > MAX_USAGE_PAGE_SIZE) {
+						throw new BadRequestException(ErrorMessageConstants.ERROR_TOO_MANY_DISPENSER_USAGES, 
+								Arrays.asList(String.valueOf(MAX_USAGE_PAGE_SIZE)));
+					}
+					
+					BeerUsageResponseDTO beerUsageResponseDTO = beerMapper.mapToBeerAndBeerUsage((BeerUsage) row[1], beer);
+					this.applyOpenUsageSpent(beerUsageResponseDTO);
+					dispenserSpendingResponseDTO.getUsages().add(beerUsageResponseDTO);
+				}
 			}
-			LocalDateTime localCloseDateTime = beerUsages.get(i).getClosedAt();
-			LocalDateTime to = LocalDateTime.of(localCloseDateTime.getYear(), localCloseDateTime.getMonth(), localCloseDateTime.getDayOfMonth(),
-					localCloseDateTime.getHour(), localCloseDateTime.getMinute(), localCloseDateTime.getSecond());
-
+			this.recordUsagesLoaded("getBeerDispenseries", count);
+		}
+		
+		List<String> errorParameters = new ArrayList<>();
+		List<DispenserSpendingResponseDTO> result = new ArrayList<>(ids.size());
+		
+		for(Long id : ids) {
+			DispenserSpendingResponseDTO dispenserSpendingResponseDTO = dispenserSpendingResponseDTOs.get(id);
 			
-	        Duration duration = Duration.between(from, to);
-	        if(duration.getSeconds()<0) {
-	        	errorParameters.add(String.valueOf(localCloseDateTime));
-	        	errorParameters.add(String.valueOf(beerDispenseryId));
-	        	errorParameters.add(String.valueOf(localOpenDateTime));
-
-				throw new EntityNotFoundException(ErrorMessageConstants.ERROR_DISPENSER_CLOSING_TIME_LESS_THAN_OPENING_TIME, errorParameters);
-	        }
-	        beerUsages.get(i).setTotalSpent(BigDecimal.valueOf(duration.getSeconds()*(12.25)*beer.getFlow_volume()));
-			amount= amount.add(beerUsages.get(i).getTotalSpent());
-
+			if(dispenserSpendingResponseDTO == null) {
+				errorParameters.add(String.valueOf(id));
+			} else {
+				result.add(dispenserSpendingResponseDTO);
+			}
 		}
-
-		beer.setAmount(amount);
-		beerRepository.save(beer);
-        beerUsageRepository.saveAll(beerUsages);
-
-		BeerAndBeerUsageResponseDTO beerAndBeerUsageResponseDTO = beerMapper.mapToBeerAndBeerUsage( beer, beerUsages);
-        
+		
+		if(!errorParameters.isEmpty()) {
+			throw new EntityNotFoundException(ErrorMessageConstants.ERROR_DISPENSER_DOES_NOT_EXISTS_WITH_ID, 
+					Collections.singletonList(String.join(", ", errorParameters)));
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * Fetch a page of beer usage of beer dispensery along with its amount.
+	 * 
+	 * <p>
+	 * 	Beer usage are ordered by opening time and id. The page after {@code after} is seeked on the index of beer usage, 
+	 * 	so a page is read without reading the beer usage before it. Amount is the amount of all the beer usage, not only of the page.
+	 * </p>
+	 * 
+	 * @param	beerDispenseryId
+	 * 			Id of beer dispensery which we are going to fetch.
+	 * 
+	 * @param	after
+	 * 			Cursor of the previous page, {@code null} for the first page.
+	 * 
+	 * @param	limit
+	 * 			Number of beer usage in the page, {@code null} for maximum page size.
+	 * 
+	 * @return	Details of beer dispnesery along with a page of beer usage and cursor of next page.
+	 * 
+	 * @throws	EntityNotFoundException
+	 * 			<li>
+	 * 				If beer dispensery with input {@code beerDispenseryId} doesn't exists.
+	 * 			</li>
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code after} is not a cursor returned by this method.
+	 * 			</li>
+	 * 			<li>
+	 * 				If {@code limit} is less than 1 or more than maximum page size.
+	 * 			</li>
+	 */
+	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(readOnly = true)
+	public BeerAndBeerUsageResponseDTO getBeerDispensery(Long beerDispenseryId, String after, Integer limit) throws EntityNotFoundException, BadRequestException {
+		
+		int pageSize = limit == null ? MAX_USAGE_PAGE_SIZE : limit;
+		
+		if(pageSize < 1 || pageSize > MAX_USAGE_PAGE_SIZE) {
+			throw new BadRequestException(ErrorMessageConstants.ERROR_INVALID_PAGE_LIMIT, Arrays.asList(String.valueOf(limit), String.valueOf(MAX_USAGE_PAGE_SIZE)));
+		}
+		
+		Beer beer = this.findById(beerDispenseryId);
+		
+		// one more than the page is fetched to know whether there is a next page
+		Pageable pageable = PageRequest.of(0, pageSize + 1);
+		List<BeerUsage> beerUsages;
+		
+		if(after == null) {
+			beerUsages = beerUsageRepository.findByBeerOrderByOpenedAtAscIdAsc(beer, pageable);
+		} else {
+			BeerUsage cursor = this.decodeCursor(after);
+			beerUsages = beerUsageRepository.findByBeerAfter(beer, cursor.getOpenedAt(), cursor.getId(), pageable);
+		}
+		this.recordUsagesLoaded("getBeerDispenseryPage", beerUsages.size());
+		
+		String nextCursor = null;
+		
+		if(beerUsages.size() > pageSize) {
+			beerUsages = beerUsages.subList(0, pageSize);
+			nextCursor = this.encodeCursor(beerUsages.get(pageSize - 1));
+		}
+		
+		BeerAndBeerUsageResponseDTO beerAndBeerUsageResponseDTO = beerMapper.mapToBeerAndBeerUsage(beer, beerUsages);
+		beerAndBeerUsageResponseDTO.getUsages().forEach(this::applyOpenUsageSpent);
+		beerAndBeerUsageResponseDTO.setAmount(this.calculateAmount(beer));
+		beerAndBeerUsageResponseDTO.setNextCursor(nextCursor);
+		
 		return beerAndBeerUsageResponseDTO;
 	}
 	
+	/**
+	 * Write all the information related to beer dispensery like : when tap is open/close, total spent, as JSON to {@code outputStream}.
+	 * 
+	 * <p>
+	 * 	Writes the same JSON as {@link #getBeerDispensery(Long) getBeerDispensery}, but beer usage are read from a database cursor 
+	 * 	and written one by one, so the list of beer usage is never held in memory. Every written beer usage is detached 
+	 * 	so the persistence context doesn't grow with the number of beer usage.
+	 * </p>
+	 * 
+	 * <p>
+	 * 	The beer itself is not read, flow volume comes from the cached {@link #findMetadataById(Long) findMetadataById} 
+	 * 	and amount is summed from the written beer usage, so it is written after them and the cursor is the only query.
+	 * </p>
+	 * 
+	 * @param	beerDispenseryId
+	 * 			Id of beer dispensery which we are going to fetch.
+	 * 
+	 * @param	outputStream
+	 * 			Stream to which JSON is written.
+	 * 
+	 * @throws	EntityNotFoundException
+	 * 			<li>
+	 * 				If beer dispensery with input {@code beerDispenseryId} doesn't exists.
+	 * 			</li>
+	 * 
+	 * @throws	IOException
+	 * 			If JSON cannot be written to {@code outputStream}.
+	 */
+	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(readOnly = true)
+	public void writeBeerDispensery(Long beerDispenseryId, OutputStream outputStream) throws EntityNotFoundException, IOException {
+		
+		DispenserMetadata dispenserMetadata = this.findMetadataById(beerDispenseryId);
+		
+		// only id of the reference is bound to the query, so the beer is never loaded
+		Beer beer = entityManager.getReference(Beer.class, beerDispenseryId);
+		
+		try(Stream<BeerUsage> beerUsages = beerUsageRepository.streamByBeer(beer);
+			JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+			
+			jsonGenerator.writeStartObject();
+			jsonGenerator.writeArrayFieldStart("usages");
+			
+			Iterator<BeerUsage> iterator = beerUsages.iterator();
+			long count = 0;
+			BigDecimal amount = BigDecimal.ZERO;
+			
+			while(iterator.hasNext()) {
+				BeerUsage beerUsage = iterator.next();
+				++count;
+				
+				BeerUsageResponseDTO beerUsageResponseDTO = beerMapper.mapToBeerAndBeerUsage(beerUsage, null);
+				beerUsageResponseDTO.setFlow_volume(dispenserMetadata.getFlowVolume());
+				this.applyOpenUsageSpent(beerUsageResponseDTO);
+				jsonGenerator.writeObject(beerUsageResponseDTO);
+				
+				if(beerUsageResponseDTO.getTotalSpent() != null) {
+					amount = amount.add(beerUsageResponseDTO.getTotalSpent());
+				}
+				entityManager.detach(beerUsage);
+			}
+			
+			jsonGenerator.writeEndArray();
+			jsonGenerator.writeObjectField("amount", amount);
+			jsonGenerator.writeEndObject();
+			
+			this.recordUsagesLoaded("writeBeerDispensery", count);
+		}
+	}
+	
+	/**
+	 * Calculate amount of beer dispensery from its running total, adding the spent of an open beer usage when tap is open.
+	 * 
+	 * @param	beer
+	 * 			Beer of which amount going to calculate.
+	 * 
+	 * @return	Amount of beer dispensery.
+	 */
+	private BigDecimal calculateAmount(Beer beer) {
+		
+		BigDecimal amount = beer.getAmount() == null ? BigDecimal.ZERO : beer.getAmount();
+		
+		if(beer.getOpenBeerUsage() != null) {
+			amount = amount.add(BeerPriceConstants.OPEN_USAGE_SPENT);
+		}
+		
+		return amount;
+	}
+	
+	/**
+	 * Set total spent of an open beer usage, which is not calculated until its tap is closed.
+	 * 
+	 * @param	beerUsageResponseDTO
+	 * 			Beer usage which going to set.
+	 */
+	private void applyOpenUsageSpent(BeerUsageResponseDTO beerUsageResponseDTO) {
+		
+		if(beerUsageResponseDTO.getClosedAt() == null) {
+			beerUsageResponseDTO.setTotalSpent(BeerPriceConstants.OPEN_USAGE_SPENT);
+		}
+	}
+	
+	/**
+	 * Encode opening time and id of the last beer usage of a page to a cursor of the next page.
+	 * 
+	 * @param	beerUsage
+	 * 			Last beer usage of a page.
+	 * 
+	 * @return	Cursor of the next page.
+	 */
+	private String encodeCursor(BeerUsage beerUsage) {
+		
+		String cursor = beerUsage.getOpenedAt() + "," + beerUsage.getId();
+		
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Decode a cursor of a page to opening time and id of the last beer usage of previous page.
+	 * 
+	 * @param	after
+	 * 			Cursor of a page.
+	 * 
+	 * @return	Beer usage with only opening time and id.
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code after} is not a cursor returned by {@link #encodeCursor(BeerUsage) encodeCursor}.
+	 * 			</li>
+	 */
+	private BeerUsage decodeCursor(String after) throws BadRequestException {
+		
+		try {
+			String[] cursor = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8).split(",");
+			
+			BeerUsage beerUsage = new BeerUsage();
+			beerUsage.setOpenedAt(LocalDateTime.parse(cursor[0]));
+			beerUsage.setId(Long.valueOf(cursor[1]));
+			
+			return beerUsage;
+		} catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+			throw new BadRequestException(ErrorMessageConstants.ERROR_INVALID_PAGE_CURSOR, Arrays.asList(after));
+		}
+	}
+	
 }
@@ -0,0 +1,185 @@
+package com.beer.dispenser.apis.service.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.beer.dispenser.apis.constants.ErrorMessageConstants;
+import com.beer.dispenser.apis.exception.BadRequestException;
+import com.beer.dispenser.apis.models.DispenserAmount;
+import com.beer.dispenser.apis.repo.BeerRepository;
+import com.beer.dispenser.apis.response.dto.DispenserRankResponseDTO;
+import com.beer.dispenser.apis.service.DispenserRankingService;
+import com.beer.dispenser.apis.utils.DispenserLeaderboard;
+
+/**
+ * Service Implementation layer for ranking beer dispenseries by amount spent.
+ * 
+ * <p>
+ * 	Beer dispenseries with an amount are kept in an in-memory {@code DispenserLeaderboard}, filled from table {@code beer} at startup 
+ * 	and updated after every commit which increases {@code Beer.amount}, so the top N is answered without any I/O. 
+ * 	The leaderboard is always given the total {@code Beer.amount} read in the committing transaction, never the amount added, 
+ * 	so an update and a refresh from the table racing each other can neither count an amount twice nor lose it.
+ * </p>
+ * 
+ * <p>
+ * 	Amounts increased through other instances are picked up when the leaderboard is refreshed from the table, 
+ * 	every {@code beer.dispenser.leaderboard.rebuild-interval-ms}. Ranking doesn't include the tap currently open on a dispensery.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.DispenserRankingService
+ * @see		com.beer.dispenser.apis.utils.DispenserLeaderboard
+ * @since	17th October 2026
+ */
+@Service
+public class DispenserRankingServiceImpl implements DispenserRankingService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DispenserRankingServiceImpl.class);
+	
+	/**
+	 * Maximum number of beer dispenseries returned at once.
+	 */
+	private static final int MAX_TOP_DISPENSERIES = 100;
+	
+	@Autowired
+	private BeerRepository beerRepository;
+	
+	/**
+	 * Leaderboard of beer dispenseries, updated in place so no amount set on it is lost.
+	 */
+	private final DispenserLeaderboard leaderboard = new DispenserLeaderboard();
+	
+	/**
+	 * Fill the leaderboard from beers with an amount.
+	 */
+	@PostConstruct
+	public void init() {
+		this.refresh();
+	}
+	
+	/**
+	 * Set amounts of beers with an amount on the leaderboard, including amounts increased through other instances.
+	 * 
+	 * <p>
+	 * 	An amount read before a concurrent commit is lower than the one set by that commit, and is ignored by the leaderboard.
+	 * </p>
+	 */
+	@Scheduled(initialDelayString = "${beer.dispenser.leaderboard.rebuild-interval-ms:60000}", 
+			   fixedDelayString = "${beer.dispenser.leaderboard.rebuild-interval-ms:60000}")
+	public synchronized void refresh() {
+		
+		for(DispenserAmount dispenserAmount : beerRepository.findAllWithAmount()) {
+			leaderboard.setAmount(dispenserAmount.getId(), dispenserAmount.getAmount());
+		}
+		
+		LOGGER.debug("Refreshed leaderboard of {} dispenseries", leaderboard.size());
+	}
+	
+	/**
+	 * Rank a beer dispensery at its {@code Beer.amount} once the current transaction commits, nothing is changed when it is rolled back.
+	 * 
+	 * <p>
+	 * 	The amount is read in the current transaction, right after it was increased and while the beer row is still locked, 
+	 * 	so it is exactly the amount committed.
+	 * </p>
+	 * 
+	 * @param	id
+	 * 			Id of the beer dispensery.
+	 */
+	@Override
+	public void updateAmount(Long id) {
+		
+		BigDecimal amount = beerRepository.findAmountById(id);
+		
+		if(amount != null) {
+			this.afterCommit(() -> leaderboard.setAmount(id, amount));
+		}
+	}
+	
+	/**
+	 * Rank a beer dispensery at its recomputed {@code Beer.amount} once the current transaction commits, even when it is lower.
+	 * 
+	 * <p>
+	 * 	Waits for a refresh in progress, which may have read the amount before it was recomputed.
+	 * </p>
+	 * 
+	 * @param	id
+	 * 			Id of the beer dispensery.
+	 */
+	@Override
+	public void resetAmount(Long id) {
+		
+		BigDecimal amount = beerRepository.findAmountById(id);
+		BigDecimal resetAmount = amount == null ? BigDecimal.ZERO : amount;
+		
+		this.afterCommit(() -> {
+			synchronized(this) {
+				leaderboard.resetAmount(id, resetAmount);
+			}
+		});
+	}
+	
+	/**
+	 * Run a change of the leaderboard once the current transaction commits, right away when there is no transaction.
+	 * 
+	 * @param	change
+	 * 			Change of the leaderboard.
+	 */
+	private void afterCommit(Runnable change) {
+		
+		if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+			change.run();
+			return;
+		}
+		
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			
+			@Override
+			public void afterCommit() {
+				change.run();
+			}
+		});
+	}
+	
+	/**
+	 * Fetch the beer dispenseries with the highest amount spent, from the leaderboard only.
+	 * 
+	 * @param	n
+	 * 			Maximum number of beer dispenseries.
+	 * 
+	 * @return	Beer dispenseries with their rank, highest amount first.
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code n} is less than 1 or more than {@value #MAX_TOP_DISPENSERIES}.
+	 * 			</li>
+	 */
+	@Override
+	public List<DispenserRankResponseDTO> getTopDispenseries(int n) {
+		
+		if(n < 1 || n > MAX_TOP_DISPENSERIES) {
+			throw new BadRequestException(ErrorMessageConstants.ERROR_INVALID_TOP_LIMIT, Arrays.asList(String.valueOf(n), String.valueOf(MAX_TOP_DISPENSERIES)));
+		}
+		
+		List<DispenserAmount> top = leaderboard.top(n);
+		List<DispenserRankResponseDTO> dispenserRankResponseDTOs = new ArrayList<>(top.size());
+		
+		for(DispenserAmount dispenserAmount : top) {
+			dispenserRankResponseDTOs.add(new DispenserRankResponseDTO(dispenserRankResponseDTOs.size() + 1, dispenserAmount.getId(), dispenserAmount.getAmount()));
+		}
+		
+		return dispenserRankResponseDTOs;
+	}
+}
@@ -1,34 +1,60 @@
 package com.beer.dispenser.apis.service.impl;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.beer.dispenser.apis.entity.UserAccount;
+import com.beer.dispenser.apis.repo.UserAccountRepository;
 
 /**
- * Sets up user name and password manually for authentication.
+ * Loads users from the {@code user_account} table for authentication.
  * 
  * @author	Sanchay Yadav
  * @see 	org.springframework.security.core.userdetails.UserDetailsService
+ * @see		com.beer.dispenser.apis.repo.UserAccountRepository
  * @since	11th December 2022
  */
 @Service
 public class MyUserDetailsService implements UserDetailsService{
 
+	@Autowired
+	private UserAccountRepository userAccountRepository;
+	
 	/**
 	 * Locates the user based on the username.
+	 * 
+	 * @throws	UsernameNotFoundException
+	 * 			If no user account exists with the user name.
 	 */
 	@Override
 	public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 		
-		return new User("Sanchay", "Sanchay@1234", new ArrayList<>());
+		UserAccount userAccount = userAccountRepository.findByUserName(username)
+													   .orElseThrow(() -> new UsernameNotFoundException(username));
+		
+		List<GrantedAuthority> authorities = new ArrayList<>();
+		
+		for(String authority : StringUtils.commaDelimitedListToStringArray(userAccount.getAuthorities())) {
+			if(StringUtils.hasText(authority)) {
+				authorities.add(new SimpleGrantedAuthority(authority.trim()));
+			}
+		}
+		
+		return User.withUsername(userAccount.getUserName())
+				   .password(userAccount.getPassword())
+				   .authorities(authorities)
+				   .disabled(!userAccount.isEnabled())
+				   .build();
 	}
 
 }
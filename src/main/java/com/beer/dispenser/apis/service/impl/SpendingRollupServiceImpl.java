@@ -0,0 +1,395 @@
+package com.beer.dispenser.apis.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.beer.dispenser.apis.constants.ErrorMessageConstants;
+import com.beer.dispenser.apis.constants.MetricConstants;
+import com.beer.dispenser.apis.entity.Beer;
+import com.beer.dispenser.apis.entity.BeerUsage;
+import com.beer.dispenser.apis.entity.SpendingRollup;
+import com.beer.dispenser.apis.entity.SpendingRollupBackfill;
+import com.beer.dispenser.apis.entity.SpendingRollupId;
+import com.beer.dispenser.apis.exception.BadRequestException;
+import com.beer.dispenser.apis.exception.EntityNotFoundException;
+import com.beer.dispenser.apis.models.SpendingGranularity;
+import com.beer.dispenser.apis.repo.BeerAmountBackfillRepository;
+import com.beer.dispenser.apis.repo.BeerRepository;
+import com.beer.dispenser.apis.repo.BeerUsageRepository;
+import com.beer.dispenser.apis.repo.SpendingRollupBackfillRepository;
+import com.beer.dispenser.apis.repo.SpendingRollupRepository;
+import com.beer.dispenser.apis.response.dto.SpendingBucketResponseDTO;
+import com.beer.dispenser.apis.response.dto.SpendingResponseDTO;
+import com.beer.dispenser.apis.service.SpendingRollupService;
+import com.beer.dispenser.apis.utils.DispenserLocks;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Service Implementation layer for spending of beer dispenseries per hour and per day.
+ * 
+ * <p>
+ * 	Spending is kept in table {@code spending_rollup}, one row per beer, granularity and hour/day with spending. 
+ * 	A range query reads one row per hour/day of the range through the primary key, however long the history of the beer is, 
+ * 	and never reads {@code beer_usage}.
+ * </p>
+ * 
+ * <p>
+ * 	Total spent of a beer usage is rounded to cents, as it is stored in {@code beer_usage}, and split between hours so that 
+ * 	the parts add up exactly to it. The part of a day is the sum of the parts of its hours, so hourly and daily rollups always agree.
+ * 	Rows are increased in order of their primary key, so concurrent transactions lock them in the same order.
+ * </p>
+ * 
+ * <p>
+ * 	Beer usage closed before rollups existed are added by {@link #backfill()} on startup, one beer per transaction, 
+ * 	holding the lock of the beer so taps are not closed while its rollups are rebuilt.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.SpendingRollupService
+ * @see		com.beer.dispenser.apis.entity.SpendingRollup
+ * @since	17th October 2026
+ */
+@Service
+@Transactional
+public class SpendingRollupServiceImpl implements SpendingRollupService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SpendingRollupServiceImpl.class);
+	
+	/**
+	 * Scale of amounts in rollups, same as amounts of beer usage.
+	 */
+	private static final int AMOUNT_SCALE = 2;
+	
+	/**
+	 * Maximum number of buckets in a range query, a month of hours.
+	 */
+	private static final int MAX_SPENDING_BUCKETS = 744;
+	
+	private static final Long BACKFILL_ID = 1L;
+	
+	private static final Comparator<SpendingRollupId> ROLLUP_ORDER = Comparator.comparing(SpendingRollupId::getBeerId)
+																			   .thenComparing(SpendingRollupId::getGranularity)
+																			   .thenComparing(SpendingRollupId::getBucketStart);
+	
+	@Autowired
+	private SpendingRollupRepository spendingRollupRepository;
+	
+	@Autowired
+	private BeerRepository beerRepository;
+	
+	@Autowired
+	private BeerUsageRepository beerUsageRepository;
+	
+	@Autowired
+	private SpendingRollupBackfillRepository spendingRollupBackfillRepository;
+	
+	@Autowired
+	private BeerAmountBackfillRepository beerAmountBackfillRepository;
+	
+	@Autowired
+	private DispenserLocks dispenserLocks;
+	
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	
+	/**
+	 * Add closed beer usage to the hourly and daily rollups of their beers, in the current transaction.
+	 * 
+	 * <p>
+	 * 	Beer usage without closing time or total spent, or closed in the second they are opened, are left out.
+	 * </p>
+	 * 
+	 * @param	beerUsages
+	 * 			Beer usage with closing time and total spent.
+	 */
+	@Override
+	public void addUsages(Collection<BeerUsage> beerUsages) {
+		
+		Map<SpendingRollupId, SpendingRollup> rollups = new TreeMap<>(ROLLUP_ORDER);
+		
+		for(BeerUsage beerUsage : beerUsages) {
+			this.split(beerUsage, rollups);
+		}
+		
+		this.addRollups(rollups);
+	}
+	
+	/**
+	 * Rebuild rollups of every beer having closed beer usage, unless it was already completed.
+	 * 
+	 * <p>
+	 * 	Each beer is rebuilt in its own transaction, holding the lock of its dispenser on this instance and the lock of its row, 
+	 * 	so closing a tap on any instance waits for it, and a tap closed before is found among the beer usage.
+	 * </p>
+	 * 
+	 * <p>
+	 * 	Beer usage closed before amounts were maintained have no total spent until {@code BeerService.backfillAmounts} completed, 
+	 * 	so nothing is rebuilt before it is recorded as completed, and rollups are rebuilt on a later startup.
+	 * </p>
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void backfill() {
+		
+		if(spendingRollupBackfillRepository.existsById(BACKFILL_ID)) {
+			return;
+		}
+		
+		if(!beerAmountBackfillRepository.existsById(BACKFILL_ID)) {
+			LOGGER.warn("Spending rollups are not rebuilt until amounts of beers are backfilled, see beer.dispenser.amount.backfill.enabled");
+			return;
+		}
+		
+		List<Long> beerIds = beerUsageRepository.findBeerIdsWithClosedBeerUsage();
+		
+		for(Long beerId : beerIds) {
+			Lock lock = dispenserLocks.get(beerId);
+			lock.lock();
+			try {
+				transactionTemplate.execute(status -> this.rebuild(beerId));
+			} finally {
+				lock.unlock();
+			}
+		}
+		
+		try {
+			spendingRollupBackfillRepository.save(new SpendingRollupBackfill(BACKFILL_ID, LocalDateTime.now()));
+		} catch (DataIntegrityViolationException e) {
+			LOGGER.debug("Spending rollup backfill completed concurrently by another instance");
+		}
+		LOGGER.info("Rebuilt spending rollups of {} beers from their beer usage", beerIds.size());
+	}
+	
+	/**
+	 * Fetch spending of beer dispensery in a time range, per hour/day, from the rollups only.
+	 * 
+	 * @param	beerDispenseryId
+	 * 			Id of beer dispensery which we are going to fetch.
+	 * 
+	 * @param	from
+	 * 			Start of the range, inclusive.
+	 * 
+	 * @param	to
+	 * 			End of the range, exclusive.
+	 * 
+	 * @param	granularity
+	 * 			Size of the buckets i.e hour/day.
+	 * 
+	 * @return	Spending in the range and in each of its hours/days, including the ones without spending.
+	 * 
+	 * @throws	EntityNotFoundException
+	 * 			<li>
+	 * 				If beer dispensery with input {@code beerDispenseryId} doesn't exists.
+	 * 			</li>
+	 * 
+	 * @throws	BadRequestException
+	 * 			<li>
+	 * 				If {@code granularity} is neither hour nor day.
+	 * 			</li>
+	 * 			<li>
+	 * 				If {@code to} is not after {@code from}, or the range has more than {@value #MAX_SPENDING_BUCKETS} buckets.
+	 * 			</li>
+	 */
+	@Override
+	@Timed(MetricConstants.BEER_SERVICE_TIMER)
+	@Transactional(readOnly = true)
+	public SpendingResponseDTO getSpending(Long beerDispenseryId, LocalDateTime from, LocalDateTime to, String granularity) throws EntityNotFoundException, BadRequestException {
+		
+		SpendingGranularity spendingGranularity = SpendingGranularity.of(granularity);
+		if(spendingGranularity == null) {
+			throw new BadRequestException(ErrorMessageConstants.ERROR_INVALID_SPENDING_GRANULARITY, Arrays.asList(granularity));
+		}
+		
+		LocalDateTime rangeFrom = spendingGranularity.bucketStart(from);
+		LocalDateTime rangeTo = spendingGranularity.bucketStart(to);
+		if(rangeTo.isBefore(to)) {
+			rangeTo = spendingGranularity.next(rangeTo);
+		}
+		
+		long bucketCount = spendingGranularity.between(rangeFrom, rangeTo);
+		if(bucketCount < 1 || bucketCount > MAX_SPENDING_BUCKETS) {
+			throw new BadRequestException(ErrorMessageConstants.ERROR_INVALID_SPENDING_RANGE, Arrays.asList(String.valueOf(from), 
+					String.valueOf(to), String.valueOf(MAX_SPENDING_BUCKETS), spendingGranularity.name().toLowerCase(Locale.ROOT)));
+		}
+		
+		List<String> errorParameters = new ArrayList<>();
+		errorParameters.add(String.valueOf(beerDispenseryId));
+		
+		beerRepository.findMetadataById(beerDispenseryId)
+					  .orElseThrow(() -> new EntityNotFoundException(ErrorMessageConstants.ERROR_DISPENSER_DOES_NOT_EXISTS_WITH_ID, errorParameters));
+		
+		Map<LocalDateTime, SpendingRollup> rollups = new HashMap<>();
+		for(SpendingRollup rollup : spendingRollupRepository.findInRange(beerDispenseryId, spendingGranularity, rangeFrom, rangeTo)) {
+			rollups.put(rollup.getBucketStart(), rollup);
+		}
+		
+		List<SpendingBucketResponseDTO> buckets = new ArrayList<>((int) bucketCount);
+		BigDecimal amount = BigDecimal.ZERO.setScale(AMOUNT_SCALE);
+		long pourSeconds = 0;
+		
+		for(LocalDateTime start = rangeFrom; start.isBefore(rangeTo); start = spendingGranularity.next(start)) {
+			
+			SpendingRollup rollup = rollups.get(start);
+			BigDecimal bucketAmount = rollup == null ? BigDecimal.ZERO.setScale(AMOUNT_SCALE) : rollup.getTotalSpent();
+			long bucketPourSeconds = rollup == null ? 0 : rollup.getPourSeconds();
+			
+			buckets.add(new SpendingBucketResponseDTO(start, bucketAmount, bucketPourSeconds));
+			amount = amount.add(bucketAmount);
+			pourSeconds += bucketPourSeconds;
+		}
+		
+		return new SpendingResponseDTO(beerDispenseryId, spendingGranularity.name(), rangeFrom, rangeTo, amount, pourSeconds, buckets);
+	}
+	
+	/**
+	 * Replace rollups of a beer by the ones of all its closed beer usage, in the current transaction.
+	 * 
+	 * @param	beerId
+	 * 			Id of the beer.
+	 * 
+	 * @return	Number of buckets written, 0 if the beer no longer exists.
+	 */
+	private int rebuild(Long beerId) {
+		
+		Beer beer = beerRepository.findForUpdateById(beerId).orElse(null);
+		if(beer == null) {
+			return 0;
+		}
+		
+		spendingRollupRepository.deleteByBeerId(beerId);
+		
+		Map<SpendingRollupId, SpendingRollup> rollups = new TreeMap<>(ROLLUP_ORDER);
+		try(Stream<BeerUsage> beerUsages = beerUsageRepository.streamByBeer(beer)) {
+			beerUsages.forEach(beerUsage -> this.split(beerUsage, rollups));
+		}
+		
+		this.addRollups(rollups);
+		return rollups.size();
+	}
+	
+	/**
+	 * Add parts of beer usage to their buckets, in order of primary key.
+	 * 
+	 * @param	rollups
+	 * 			Parts of beer usage by bucket.
+	 */
+	private void addRollups(Map<SpendingRollupId, SpendingRollup> rollups) {
+		
+		for(SpendingRollup rollup : rollups.values()) {
+			spendingRollupRepository.addToRollup(rollup.getBeerId(), rollup.getGranularity().name(), rollup.getBucketStart(), 
+					rollup.getTotalSpent(), rollup.getPourSeconds());
+		}
+	}
+	
+	/**
+	 * Split a closed beer usage between the hours and days it was open, and add the parts to {@code rollups}.
+	 * 
+	 * <p>
+	 * 	Seconds are counted as in {@code BeerServiceImpl}, i.e. opening and closing times are truncated to seconds. 
+	 * 	Part of an hour is the rounded share of total spent up to the end of the hour minus the rounded share up to its start, 
+	 * 	so parts are never negative and add up to total spent.
+	 * </p>
+	 * 
+	 * @param	beerUsage
+	 * 			Beer usage with closing time and total spent.
+	 * 
+	 * @param	rollups
+	 * 			Parts of beer usage by bucket, increased in place.
+	 */
+	private void split(BeerUsage beerUsage, Map<SpendingRollupId, SpendingRollup> rollups) {
+		
+		if(beerUsage.getOpenedAt() == null || beerUsage.getClosedAt() == null || beerUsage.getTotalSpent() == null) {
+			return;
+		}
+		
+		LocalDateTime openedAt = beerUsage.getOpenedAt().truncatedTo(ChronoUnit.SECONDS);
+		LocalDateTime closedAt = beerUsage.getClosedAt().truncatedTo(ChronoUnit.SECONDS);
+		
+		long seconds = Duration.between(openedAt, closedAt).getSeconds();
+		if(seconds <= 0) {
+			return;
+		}
+		
+		Long beerId = beerUsage.getBeer().getId();
+		BigDecimal totalSpent = beerUsage.getTotalSpent().setScale(AMOUNT_SCALE, RoundingMode.HALF_UP);
+		BigDecimal spentBefore = BigDecimal.ZERO.setScale(AMOUNT_SCALE);
+		long secondsBefore = 0;
+		
+		for(LocalDateTime start = openedAt; start.isBefore(closedAt);) {
+			
+			LocalDateTime end = SpendingGranularity.HOUR.next(SpendingGranularity.HOUR.bucketStart(start));
+			if(end.isAfter(closedAt)) {
+				end = closedAt;
+			}
+			
+			long bucketSeconds = Duration.between(start, end).getSeconds();
+			secondsBefore += bucketSeconds;
+			
+			BigDecimal spentAfter = totalSpent.multiply(BigDecimal.valueOf(secondsBefore))
+											  .divide(BigDecimal.valueOf(seconds), AMOUNT_SCALE, RoundingMode.HALF_UP);
+			BigDecimal bucketSpent = spentAfter.subtract(spentBefore);
+			spentBefore = spentAfter;
+			
+			this.add(rollups, beerId, SpendingGranularity.HOUR, start, bucketSpent, bucketSeconds);
+			this.add(rollups, beerId, SpendingGranularity.DAY, start, bucketSpent, bucketSeconds);
+			
+			start = end;
+		}
+	}
+	
+	/**
+	 * Add a part of a beer usage to the bucket containing a time.
+	 * 
+	 * @param	rollups
+	 * 			Parts of beer usage by bucket, increased in place.
+	 * 
+	 * @param	beerId
+	 * 			Id of the beer.
+	 * 
+	 * @param	granularity
+	 * 			Size of the bucket.
+	 * 
+	 * @param	time
+	 * 			Time in the bucket.
+	 * 
+	 * @param	totalSpent
+	 * 			Amount spent.
+	 * 
+	 * @param	pourSeconds
+	 * 			Number of seconds the tap was open.
+	 */
+	private void add(Map<SpendingRollupId, SpendingRollup> rollups, Long beerId, SpendingGranularity granularity, 
+			LocalDateTime time, BigDecimal totalSpent, long pourSeconds) {
+		
+		LocalDateTime bucketStart = granularity.bucketStart(time);
+		SpendingRollup rollup = rollups.computeIfAbsent(new SpendingRollupId(beerId, granularity, bucketStart), 
+				id -> new SpendingRollup(beerId, granularity, bucketStart, BigDecimal.ZERO.setScale(AMOUNT_SCALE), 0));
+		
+		rollup.setTotalSpent(rollup.getTotalSpent().add(totalSpent));
+		rollup.setPourSeconds(rollup.getPourSeconds() + pourSeconds);
+	}
+}
@@ -0,0 +1,204 @@
+package com.beer.dispenser.apis.service.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.beer.dispenser.apis.entity.RevokedToken;
+import com.beer.dispenser.apis.models.JwtPrincipal;
+import com.beer.dispenser.apis.repo.RevokedTokenRepository;
+import com.beer.dispenser.apis.service.TokenRevocationService;
+import com.beer.dispenser.apis.utils.BloomFilter;
+
+/**
+ * Service Implementation layer for revocation of JWT.
+ * 
+ * <p>
+ * 	Id of revoked JWT are stored in table {@code revoked_token} and added to an in-memory {@code BloomFilter}. 
+ * 	A JWT which is not revoked, i.e. nearly every request, is answered by the filter alone, with a few hash probes and no I/O. 
+ * 	Only a JWT the filter reports as possibly revoked is looked up in the table.
+ * </p>
+ * 
+ * <p>
+ * 	The filter is built from the table at startup, and tokens revoked by other instances are added every 
+ * 	{@code beer.dispenser.jwt.revocation.poll-interval-ms}. Since a Bloom filter cannot forget, it is rebuilt every 
+ * 	{@code beer.dispenser.jwt.revocation.rebuild-interval-ms} without the expired tokens, which are also deleted from the table.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.TokenRevocationService
+ * @see		com.beer.dispenser.apis.utils.BloomFilter
+ * @since	17th October 2026
+ */
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TokenRevocationServiceImpl.class);
+	
+	/**
+	 * Revocations are polled again from this many seconds before the previous poll, 
+	 * so a revocation committed late or by an instance with a slightly different clock is not missed.
+	 */
+	private static final long POLL_OVERLAP_SECONDS = 30;
+	
+	@Autowired
+	private RevokedTokenRepository revokedTokenRepository;
+	
+	@Value("${beer.dispenser.jwt.revocation.expected-revocations:100000}")
+	private long expectedRevocations;
+	
+	@Value("${beer.dispenser.jwt.revocation.false-positive-probability:0.001}")
+	private double falsePositiveProbability;
+	
+	/**
+	 * Filter of id of revoked tokens, replaced as a whole when rebuilt.
+	 */
+	private volatile BloomFilter revokedTokenIds;
+	
+	/**
+	 * Time of the last poll of revocations.
+	 */
+	private volatile LocalDateTime lastPolledAt;
+	
+	/**
+	 * Build the filter from the revoked tokens which are not expired.
+	 */
+	@PostConstruct
+	public void init() {
+		this.load(LocalDateTime.now());
+	}
+	
+	/**
+	 * Store the id of the JWT until it expires, and add it to the filter of this instance right away.
+	 * 
+	 * @param	jwtPrincipal
+	 * 			Principal of the verified JWT to revoke.
+	 */
+	@Override
+	@Transactional
+	public void revoke(JwtPrincipal jwtPrincipal) {
+		this.revoke(jwtPrincipal.getTokenId(), jwtPrincipal.getExpiration());
+	}
+	
+	/**
+	 * Store the token id until it expires, and add it to the filter of this instance right away.
+	 * 
+	 * @param	tokenId
+	 * 			Id to revoke.
+	 * 
+	 * @param	expiration
+	 * 			When the id is no longer used.
+	 */
+	@Override
+	@Transactional
+	public void revoke(String tokenId, Date expiration) {
+		
+		if(tokenId == null || expiration == null || expiration.getTime() < System.currentTimeMillis()) {
+			return;
+		}
+		
+		LocalDateTime expiresAt = LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
+		
+		revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt, LocalDateTime.now()));
+		revokedTokenIds.put(tokenId);
+	}
+	
+	/**
+	 * Check the filter, and the table only when the filter reports the JWT as possibly revoked.
+	 * 
+	 * @param	jwtPrincipal
+	 * 			Principal of a verified JWT.
+	 * 
+	 * @return	true/false.
+	 */
+	@Override
+	public boolean isRevoked(JwtPrincipal jwtPrincipal) {
+		return this.isRevoked(jwtPrincipal.getTokenId());
+	}
+	
+	/**
+	 * Check the filter, and the table only when the filter reports the id as possibly revoked.
+	 * 
+	 * @param	tokenId
+	 * 			Id to check.
+	 * 
+	 * @return	true/false.
+	 */
+	@Override
+	public boolean isRevoked(String tokenId) {
+		
+		if(tokenId == null || !revokedTokenIds.mightContain(tokenId)) {
+			return false;
+		}
+		
+		return revokedTokenRepository.existsById(tokenId);
+	}
+	
+	/**
+	 * Add tokens revoked since the last poll, including by other instances.
+	 */
+	@Scheduled(initialDelayString = "${beer.dispenser.jwt.revocation.poll-interval-ms:5000}", 
+			   fixedDelayString = "${beer.dispenser.jwt.revocation.poll-interval-ms:5000}")
+	public void poll() {
+		
+		LocalDateTime polledAt = LocalDateTime.now();
+		BloomFilter bloomFilter = revokedTokenIds;
+		
+		for(String tokenId : revokedTokenRepository.findTokenIdsRevokedAfter(lastPolledAt.minusSeconds(POLL_OVERLAP_SECONDS))) {
+			bloomFilter.put(tokenId);
+		}
+		
+		lastPolledAt = polledAt;
+	}
+	
+	/**
+	 * Delete expired revoked tokens, and replace the filter by one built from revoked tokens which are not expired.
+	 */
+	@Scheduled(initialDelayString = "${beer.dispenser.jwt.revocation.rebuild-interval-ms:600000}", 
+			   fixedDelayString = "${beer.dispenser.jwt.revocation.rebuild-interval-ms:600000}")
+	@Transactional
+	public void rebuild() {
+		
+		LocalDateTime rebuiltAt = LocalDateTime.now();
+		
+		int deleted = revokedTokenRepository.deleteExpired(rebuiltAt);
+		
+		this.load(rebuiltAt);
+		LOGGER.debug("Deleted {} expired revoked tokens", deleted);
+	}
+	
+	/**
+	 * Replace the filter by one built from revoked tokens which are not expired.
+	 * 
+	 * @param	now
+	 * 			Current time.
+	 */
+	private void load(LocalDateTime now) {
+		
+		BloomFilter bloomFilter = new BloomFilter(expectedRevocations, falsePositiveProbability);
+		int revoked = 0;
+		
+		for(String tokenId : revokedTokenRepository.findTokenIdsNotExpired(now)) {
+			bloomFilter.put(tokenId);
+			revoked++;
+		}
+		
+		revokedTokenIds = bloomFilter;
+		lastPolledAt = now;
+		
+		if(revoked > expectedRevocations) {
+			LOGGER.warn("{} revoked tokens exceed beer.dispenser.jwt.revocation.expected-revocations {}, false positives will be more frequent", 
+					revoked, expectedRevocations);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.beer.dispenser.apis.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of strings, answering whether a string was possibly added or certainly not added.
+ * 
+ * <p>
+ * 	Bits are kept in an {@code AtomicLongArray}, so strings can be added while other threads check the filter. 
+ * 	A string is hashed once into two 64-bit hashes, from which the probed bits are derived by double hashing.
+ * 	Strings cannot be removed, a filter is rebuilt to drop them.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.TokenRevocationServiceImpl
+ * @since	17th October 2026
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	
+	private final long bitCount;
+	
+	private final int hashCount;
+	
+	/**
+	 * Create a filter sized for the expected number of strings and false positive probability.
+	 * 
+	 * @param	expectedInsertions
+	 * 			Number of strings expected to be added.
+	 * 
+	 * @param	falsePositiveProbability
+	 * 			Probability that a string which was not added is reported as possibly added, once the expected number of strings is added.
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+		
+		long insertions = Math.max(1, expectedInsertions);
+		long optimalBitCount = (long) Math.ceil(-insertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.max(1, (optimalBitCount + 63) / 64);
+		
+		this.bits = new AtomicLongArray(words);
+		this.bitCount = words * 64L;
+		this.hashCount = (int) Math.max(1, Math.round((double) bitCount / insertions * Math.log(2)));
+	}
+	
+	/**
+	 * Add a string.
+	 * 
+	 * @param	value
+	 * 			String to add.
+	 */
+	public void put(String value) {
+		
+		long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+		long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+		
+		for(int i = 0; i < hashCount; i++) {
+			long index = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+			long mask = 1L << index;
+			int word = (int) (index >>> 6);
+			long current;
+			
+			do {
+				current = bits.get(word);
+				if((current & mask) != 0) {
+					break;
+				}
+			} while(!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+	
+	/**
+	 * Check whether a string was possibly added.
+	 * 
+	 * @param	value
+	 * 			String to check.
+	 * 
+	 * @return	{@code false} if the string was certainly never added, {@code true} if it possibly was.
+	 */
+	public boolean mightContain(String value) {
+		
+		long hash1 = hash(value, 0x9E3779B97F4A7C15L);
+		long hash2 = hash(value, 0xC2B2AE3D27D4EB4FL);
+		
+		for(int i = 0; i < hashCount; i++) {
+			long index = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+			
+			if((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Number of bits probed for a string.
+	 * 
+	 * @return	Number of hash functions.
+	 */
+	public int getHashCount() {
+		return hashCount;
+	}
+	
+	/**
+	 * Size of the filter.
+	 * 
+	 * @return	Number of bits.
+	 */
+	public long getBitCount() {
+		return bitCount;
+	}
+	
+	/**
+	 * 64-bit FNV-1a hash of the UTF-8 bytes of a string, started from {@code seed} and finished with the SplitMix64 mixer.
+	 * 
+	 * @param	value
+	 * 			String to hash.
+	 * 
+	 * @param	seed
+	 * 			Seed making different hash functions.
+	 * 
+	 * @return	Hash.
+	 */
+	private static long hash(String value, long seed) {
+		
+		long hash = seed;
+		
+		for(byte b : value.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001B3L;
+		}
+		
+		hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+		hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+		
+		return hash ^ (hash >>> 31);
+	}
+}
@@ -0,0 +1,145 @@
+package com.beer.dispenser.apis.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Password encoder remembering successful password verifications of a slow, adaptive password encoder like BCrypt.
+ * 
+ * <p>
+ * 	A successful verification is cached for a short time by an HMAC of the password and its hash, 
+ * 	keyed with random bytes created at startup and never stored, so the cache keeps neither passwords 
+ * 	nor values which can be checked against a guessed password outside this process. 
+ * 	Since the hash is part of the key, changing the password of a user makes its cached verifications useless.
+ * </p>
+ * 
+ * <p>
+ * 	Failed verifications are never cached, so a wrong password always costs a full verification.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
+ * @since	17th October 2026
+ */
+public class CachingPasswordEncoder implements PasswordEncoder {
+
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+	
+	private final PasswordEncoder passwordEncoder;
+	
+	private final SecretKeySpec key;
+	
+	/**
+	 * Successful verifications by HMAC of password and hash, {@code null} when maximum size is 0.
+	 */
+	private final Cache<String, Boolean> verifications;
+	
+	/**
+	 * Create an encoder caching successful verifications of {@code passwordEncoder}.
+	 * 
+	 * @param	passwordEncoder
+	 * 			Encoder hashing and verifying passwords.
+	 * 
+	 * @param	maximumSize
+	 * 			Maximum number of cached verifications, 0 disables the cache.
+	 * 
+	 * @param	ttlSeconds
+	 * 			Seconds a verification is cached for.
+	 */
+	public CachingPasswordEncoder(PasswordEncoder passwordEncoder, long maximumSize, long ttlSeconds) {
+		this.passwordEncoder = passwordEncoder;
+		
+		byte[] keyBytes = new byte[32];
+		new SecureRandom().nextBytes(keyBytes);
+		this.key = new SecretKeySpec(keyBytes, MAC_ALGORITHM);
+		
+		this.verifications = maximumSize == 0 ? null : Caffeine.newBuilder()
+															   .maximumSize(maximumSize)
+															   .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+															   .recordStats()
+															   .build();
+	}
+	
+	/**
+	 * Hash a password with the underlying encoder, never cached.
+	 */
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return passwordEncoder.encode(rawPassword);
+	}
+
+	/**
+	 * Verify a password against its hash, without the underlying encoder when the same verification succeeded recently.
+	 */
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		
+		if(verifications == null || rawPassword == null || encodedPassword == null) {
+			return passwordEncoder.matches(rawPassword, encodedPassword);
+		}
+		
+		String verification = this.mac(rawPassword, encodedPassword);
+		
+		if(verifications.getIfPresent(verification) != null) {
+			return true;
+		}
+		
+		boolean matches = passwordEncoder.matches(rawPassword, encodedPassword);
+		
+		if(matches) {
+			verifications.put(verification, Boolean.TRUE);
+		}
+		
+		return matches;
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+	
+	/**
+	 * Cache of successful verifications, to publish its metrics.
+	 * 
+	 * @return	Cache, {@code null} when disabled.
+	 */
+	public Cache<String, Boolean> getVerifications() {
+		return verifications;
+	}
+	
+	/**
+	 * HMAC of password and hash used as key of a cached verification.
+	 * 
+	 * @param	rawPassword
+	 * 			Password sent by the user.
+	 * 
+	 * @param	encodedPassword
+	 * 			Stored hash of the password.
+	 * 
+	 * @return	Base64 HMAC-SHA256.
+	 */
+	private String mac(CharSequence rawPassword, String encodedPassword) {
+		
+		try {
+			Mac mac = Mac.getInstance(MAC_ALGORITHM);
+			mac.init(key);
+			mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+			mac.update((byte) 0);
+			
+			return Base64.getEncoder().encodeToString(mac.doFinal(rawPassword.toString().getBytes(StandardCharsets.UTF_8)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.beer.dispenser.apis.utils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import com.beer.dispenser.apis.models.DispenserAmount;
+
+/**
+ * Beer dispenseries ordered by amount spent, highest first, answering the top N without reading the database.
+ * 
+ * <p>
+ * 	Dispenseries are kept in a {@code TreeSet} ordered by amount and id, along with a map from id to entry, 
+ * 	so setting the amount of a dispensery is O(log N) and fetching the top N is O(log N + N). 
+ * 	All methods hold the monitor of the leaderboard, which is held for a few microseconds only.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.DispenserRankingServiceImpl
+ * @since	17th October 2026
+ */
+public class DispenserLeaderboard {
+
+	private static final Comparator<DispenserAmount> RANKING_ORDER = Comparator.comparing(DispenserAmount::getAmount).reversed()
+																			   .thenComparing(DispenserAmount::getId);
+	
+	private final TreeSet<DispenserAmount> ranking = new TreeSet<>(RANKING_ORDER);
+	
+	private final Map<Long, DispenserAmount> amounts = new HashMap<>();
+	
+	/**
+	 * Set amount of a dispensery, adding the dispensery when it is not ranked yet.
+	 * 
+	 * <p>
+	 * 	Amount spent on a dispensery only increases, so an amount lower than the ranked one is stale and is ignored. 
+	 * 	Amounts read from the database may therefore be set in any order, and setting the same amount twice doesn't count it twice.
+	 * </p>
+	 * 
+	 * @param	id
+	 * 			Id of the beer dispensery.
+	 * 
+	 * @param	amount
+	 * 			Total amount spent on the dispensery.
+	 */
+	public synchronized void setAmount(Long id, BigDecimal amount) {
+		
+		DispenserAmount previous = amounts.get(id);
+		
+		if(previous != null) {
+			if(previous.getAmount().compareTo(amount) >= 0) {
+				return;
+			}
+			ranking.remove(previous);
+		}
+		
+		DispenserAmount dispenserAmount = new DispenserAmount(id, amount);
+		ranking.add(dispenserAmount);
+		amounts.put(id, dispenserAmount);
+	}
+	
+	/**
+	 * Replace amount of a dispensery even when it is lower than the ranked one, removing the dispensery when nothing was spent on it.
+	 * 
+	 * @param	id
+	 * 			Id of the beer dispensery.
+	 * 
+	 * @param	amount
+	 * 			Total amount spent on the dispensery.
+	 */
+	public synchronized void resetAmount(Long id, BigDecimal amount) {
+		
+		DispenserAmount previous = amounts.remove(id);
+		
+		if(previous != null) {
+			ranking.remove(previous);
+		}
+		
+		if(amount.signum() > 0) {
+			DispenserAmount dispenserAmount = new DispenserAmount(id, amount);
+			ranking.add(dispenserAmount);
+			amounts.put(id, dispenserAmount);
+		}
+	}
+	
+	/**
+	 * Fetch the dispenseries with the highest amount.
+	 * 
+	 * @param	n
+	 * 			Maximum number of dispenseries.
+	 * 
+	 * @return	Dispenseries, highest amount first and lowest id first for the same amount.
+	 */
+	public synchronized List<DispenserAmount> top(int n) {
+		
+		List<DispenserAmount> top = new ArrayList<>(Math.min(n, ranking.size()));
+		Iterator<DispenserAmount> iterator = ranking.iterator();
+		
+		while(top.size() < n && iterator.hasNext()) {
+			top.add(iterator.next());
+		}
+		
+		return top;
+	}
+	
+	/**
+	 * @return	Number of ranked dispenseries.
+	 */
+	public synchronized int size() {
+		return amounts.size();
+	}
+}
@@ -0,0 +1,87 @@
+package com.beer.dispenser.apis.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Striped locks keyed by id of beer dispensery.
+ * 
+ * <p>
+ * 	Open/close of a tap is serialized per dispensery within this instance, while taps hashed to other stripes 
+ * 	are never blocked. Concurrent updates coming through other instances are caught by the version of the beer.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.BeerServiceImpl
+ * @since	17th October 2026
+ */
+@Component
+public class DispenserLocks {
+
+	private final Lock[] locks;
+	
+	/**
+	 * Creates striped locks.
+	 * 
+	 * @param	stripes
+	 * 			Number of locks, rounded up to a power of two.
+	 */
+	public DispenserLocks(@Value("${beer.dispenser.lock.stripes:64}") int stripes) {
+		
+		int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+		this.locks = new Lock[size];
+		
+		for(int i=0;i<size;++i) {
+			this.locks[i] = new ReentrantLock();
+		}
+	}
+	
+	/**
+	 * Fetches lock of a beer dispensery.
+	 * 
+	 * @param	dispenserId
+	 * 			Id of beer dispensery.
+	 * 
+	 * @return	Lock guarding the dispensery.
+	 */
+	public Lock get(Long dispenserId) {
+		return locks[this.indexOf(dispenserId)];
+	}
+	
+	/**
+	 * Fetches locks of many beer dispenseries, each lock once and always in the same order 
+	 * so that two callers locking them one after another cannot deadlock.
+	 * 
+	 * @param	dispenserIds
+	 * 			Ids of beer dispenseries.
+	 * 
+	 * @return	Locks guarding the dispenseries.
+	 */
+	public List<Lock> getAll(Collection<Long> dispenserIds) {
+		
+		TreeSet<Integer> indexes = new TreeSet<>();
+		for(Long dispenserId : dispenserIds) {
+			indexes.add(this.indexOf(dispenserId));
+		}
+		
+		List<Lock> stripedLocks = new ArrayList<>(indexes.size());
+		for(Integer index : indexes) {
+			stripedLocks.add(locks[index]);
+		}
+		return stripedLocks;
+	}
+	
+	private int indexOf(Long dispenserId) {
+		
+		int hash = dispenserId == null ? 0 : dispenserId.hashCode();
+		hash ^= (hash >>> 16);
+		return hash & (locks.length - 1);
+	}
+}
@@ -0,0 +1,320 @@
+package com.beer.dispenser.apis.utils;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.PrematureJwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.impl.TextCodec;
+
+/**
+ * Verifier of compact HS256 JWS tokens, accepting the same tokens as {@code Jwts.parser().setSigningKey(secret).parseClaimsJws(token)}.
+ *
+ * <p>
+ * 	The key is derived from the secret once, and every thread reuses its own initialized {@code Mac} and buffers.
+ * 	The token is not split into strings, its characters are copied once into the reused buffer and base64url segments are decoded from there,
+ * 	so verifying the signature of a token allocates nothing. Only the payload of a token whose signature matches is decoded and parsed.
+ * </p>
+ *
+ * <p>
+ * 	Errors are reported with the same exceptions as jjwt, i.e. {@code MalformedJwtException}, {@code UnsupportedJwtException},
+ * 	{@code SignatureException}, {@code ExpiredJwtException} and {@code PrematureJwtException}.
+ * </p>
+ *
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.Jwtauthorizationfilter
+ * @since	17th October 2026
+ */
+public class Hs256TokenVerifier {
+
+	/**
+	 * Base64url of {@code {"alg":"HS256"}}, the header of every token created by jjwt with HS256 and no other header.
+	 */
+	private static final String CANONICAL_HEADER = "eyJhbGciOiJIUzI1NiJ9";
+
+	private static final String MAC_ALGORITHM = SignatureAlgorithm.HS256.getJcaName();
+
+	private static final int SIGNATURE_LENGTH = 32;
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {};
+
+	private static final byte[] BASE64URL_VALUES = new byte[128];
+
+	static {
+		Arrays.fill(BASE64URL_VALUES, (byte) -1);
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+		for(int i = 0; i < alphabet.length(); i++) {
+			BASE64URL_VALUES[alphabet.charAt(i)] = (byte) i;
+		}
+	}
+
+	private final SecretKeySpec key;
+
+	private final ThreadLocal<VerifierState> verifierState;
+
+	/**
+	 * Create a verifier for tokens signed with {@code secret}.
+	 *
+	 * @param	secret
+	 * 			Base64 encoded secret, as given to {@code setSigningKey(String)} of jjwt.
+	 */
+	public Hs256TokenVerifier(String secret) {
+		this.key = new SecretKeySpec(TextCodec.BASE64.decode(secret), MAC_ALGORITHM);
+		this.verifierState = ThreadLocal.withInitial(() -> new VerifierState(key));
+	}
+
+	/**
+	 * Verify signature, expiry and not before time of a token, and return its claims.
+	 *
+	 * @param	token
+	 * 			Compact JWS.
+	 *
+	 * @return	Claims of the token.
+	 *
+	 * @throws	io.jsonwebtoken.JwtException
+	 * 			If token is malformed, not HS256, its signature doesn't match, it is expired or not valid yet.
+	 */
+	public Claims verify(String token) {
+
+		int headerEnd = token.indexOf('.');
+		int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+
+		if(headerEnd <= 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+			throw new MalformedJwtException("JWT strings must contain exactly 2 period characters.");
+		}
+		if(payloadEnd + 1 == token.length()) {
+			throw new UnsupportedJwtException("Unsigned JWTs are not supported.");
+		}
+
+		JwsHeader header = this.verifyHeader(token, headerEnd);
+
+		VerifierState state = verifierState.get();
+		byte[] tokenBytes = state.copy(token);
+
+		int signatureLength = decodeBase64Url(tokenBytes, payloadEnd + 1, token.length(), state.signature);
+
+		if(signatureLength != SIGNATURE_LENGTH) {
+			throw new SignatureException("JWT signature does not match locally computed signature.");
+		}
+
+		try {
+			state.mac.update(tokenBytes, 0, payloadEnd);
+			state.mac.doFinal(state.expectedSignature, 0);
+		} catch (GeneralSecurityException e) {
+			throw new SignatureException("Unable to calculate signature.", e);
+		}
+
+		if(!MessageDigest.isEqual(state.expectedSignature, state.signature)) {
+			throw new SignatureException("JWT signature does not match locally computed signature.");
+		}
+
+		Claims claims = Jwts.claims(this.decodeJson(tokenBytes, headerEnd + 1, payloadEnd, "payload"));
+		long now = System.currentTimeMillis();
+
+		Date expiration = claims.getExpiration();
+
+		if(expiration != null && now > expiration.getTime()) {
+			throw new ExpiredJwtException(header, claims, "JWT expired at " + expiration + ". Current time: " + new Date(now));
+		}
+
+		Date notBefore = claims.getNotBefore();
+
+		if(notBefore != null && now < notBefore.getTime()) {
+			throw new PrematureJwtException(header, claims, "JWT must not be accepted before " + notBefore + ". Current time: " + new Date(now));
+		}
+
+		return claims;
+	}
+
+	/**
+	 * Check header of token is for HS256 and has nothing which changes how the token is read, like compression.
+	 *
+	 * @param	token
+	 * 			Compact JWS.
+	 *
+	 * @param	headerEnd
+	 * 			Index of the period after header.
+	 *
+	 * @return	Header of the token.
+	 */
+	private JwsHeader verifyHeader(String token, int headerEnd) {
+
+		if(headerEnd == CANONICAL_HEADER.length() && token.startsWith(CANONICAL_HEADER)) {
+			return CanonicalHeader.HEADER;
+		}
+
+		byte[] headerBytes = new byte[headerEnd];
+
+		for(int i = 0; i < headerEnd; i++) {
+			headerBytes[i] = (byte) token.charAt(i);
+		}
+
+		JwsHeader header = Jwts.jwsHeader(this.decodeJson(headerBytes, 0, headerEnd, "header"));
+
+		if(!SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+			throw new UnsupportedJwtException("JWT algorithm " + header.getAlgorithm() + " is not supported, only HS256 is.");
+		}
+		if(header.getCompressionAlgorithm() != null || header.containsKey("crit")) {
+			throw new UnsupportedJwtException("JWT compression and critical headers are not supported.");
+		}
+
+		return header;
+	}
+
+	/**
+	 * Decode a base64url segment of token and parse it as a JSON object.
+	 *
+	 * @param	tokenBytes
+	 * 			Characters of token.
+	 *
+	 * @param	from
+	 * 			Start of segment, inclusive.
+	 *
+	 * @param	to
+	 * 			End of segment, exclusive.
+	 *
+	 * @param	segmentName
+	 * 			Name of segment for error message.
+	 *
+	 * @return	JSON object.
+	 */
+	private Map<String, Object> decodeJson(byte[] tokenBytes, int from, int to, String segmentName) {
+
+		byte[] json = new byte[(to - from) * 3 / 4 + 3];
+		int length = decodeBase64Url(tokenBytes, from, to, json);
+
+		if(length < 0) {
+			throw new MalformedJwtException("JWT " + segmentName + " is not valid base64url.");
+		}
+
+		try {
+			return OBJECT_MAPPER.readValue(json, 0, length, MAP_TYPE);
+		} catch (IOException e) {
+			throw new MalformedJwtException("Unable to read JWT " + segmentName + " as JSON object.", e);
+		}
+	}
+
+	/**
+	 * Decode unpadded base64url characters into {@code destination}.
+	 *
+	 * @param	source
+	 * 			Characters to decode, as bytes.
+	 *
+	 * @param	from
+	 * 			Start of characters, inclusive.
+	 *
+	 * @param	to
+	 * 			End of characters, exclusive.
+	 *
+	 * @param	destination
+	 * 			Array receiving decoded bytes.
+	 *
+	 * @return	Number of decoded bytes, -1 if characters are not base64url or don't fit in {@code destination}.
+	 */
+	static int decodeBase64Url(byte[] source, int from, int to, byte[] destination) {
+
+		int length = 0;
+		int bits = 0;
+		int bitCount = 0;
+
+		for(int i = from; i < to; i++) {
+			int character = source[i];
+			int value = character < 0 ? -1 : BASE64URL_VALUES[character];
+
+			if(value < 0) {
+				return -1;
+			}
+
+			bits = (bits << 6) | value;
+			bitCount += 6;
+
+			if(bitCount >= 8) {
+				bitCount -= 8;
+
+				if(length == destination.length) {
+					return -1;
+				}
+				destination[length++] = (byte) (bits >> bitCount);
+			}
+		}
+
+		return bitCount >= 6 ? -1 : length;
+	}
+
+	/**
+	 * Header of tokens with the canonical header, only used in exceptions.
+	 */
+	private static class CanonicalHeader {
+
+		private static final JwsHeader HEADER = Jwts.jwsHeader().setAlgorithm(SignatureAlgorithm.HS256.getValue());
+	}
+
+	/**
+	 * {@code Mac} and buffers confined to one thread.
+	 */
+	private static class VerifierState {
+
+		private final Mac mac;
+
+		private final byte[] signature = new byte[SIGNATURE_LENGTH];
+
+		private final byte[] expectedSignature = new byte[SIGNATURE_LENGTH];
+
+		private byte[] tokenBytes = new byte[512];
+
+		private VerifierState(SecretKeySpec key) {
+			try {
+				this.mac = Mac.getInstance(MAC_ALGORITHM);
+				this.mac.init(key);
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("Unable to initialize " + MAC_ALGORITHM, e);
+			}
+		}
+
+		/**
+		 * Copy characters of token into the reused buffer, growing it when token is longer than any previous token.
+		 *
+		 * @param	token
+		 * 			Compact JWS.
+		 *
+		 * @return	Buffer holding characters of token as bytes.
+		 */
+		private byte[] copy(String token) {
+
+			if(tokenBytes.length < token.length()) {
+				tokenBytes = new byte[Math.max(token.length(), tokenBytes.length * 2)];
+			}
+
+			for(int i = 0; i < token.length(); i++) {
+				char character = token.charAt(i);
+
+				if(character > 127) {
+					throw new MalformedJwtException("JWT must contain only base64url characters and periods.");
+				}
+				tokenBytes[i] = (byte) character;
+			}
+
+			return tokenBytes;
+		}
+	}
+}
@@ -1,6 +1,9 @@
 package com.beer.dispenser.apis.utils;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -8,17 +11,36 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.beer.dispenser.apis.constants.CacheConstants;
+import com.beer.dispenser.apis.constants.MetricConstants;
+import com.beer.dispenser.apis.constants.WebSecurityConstants;
+import com.beer.dispenser.apis.models.JwtPrincipal;
+import com.beer.dispenser.apis.service.TokenRevocationService;
 import com.beer.dispenser.apis.service.impl.MyUserDetailsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 /**
  * This class adds JWT authentication filter to authorize requests coming to the server.
  * 
+ * <p>
+ * 	With {@code beer.dispenser.jwt.principal-source=user-details} the user is loaded from {@code MyUserDetailsService} on every request. 
+ * 	With {@code beer.dispenser.jwt.principal-source=claims} identity and authorities are taken from the signed token, 
+ * 	so the user store is not touched by requests, except an optional check that the user is still active, cached by user name.
+ * </p>
+ * 
  * @author	Sanchay Yadav
  * @see		com.beer.dispenser.apis.service.impl.MyUserDetailsService
  * @see 	org.springframework.web.filter.OncePerRequestFilter
@@ -33,6 +55,69 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 	
 	@Autowired 
 	private Jwtauthorizationfilter jwtauthorizationfilter;
+	
+	@Autowired
+	private TokenRevocationService tokenRevocationService;
+	
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+	
+	@Value("${beer.dispenser.jwt.principal-source:user-details}")
+	private String principalSource;
+	
+	@Value("${beer.dispenser.jwt.user-state-check.enabled:false}")
+	private boolean userStateCheckEnabled;
+	
+	@Value("${beer.dispenser.jwt.user-state-check.ttl-seconds:60}")
+	private long userStateCheckTtlSeconds;
+	
+	@Value("${beer.dispenser.jwt.user-state-check.maximum-size:10000}")
+	private long userStateCheckMaximumSize;
+	
+	/**
+	 * Whether a user is still active by user name, {@code null} when user state is not checked.
+	 */
+	private Cache<String, Boolean> userStateCache;
+	
+	/**
+	 * Time taken to validate tokens which authenticated a request, {@code null} without a meter registry.
+	 */
+	private Timer authenticatedTokenTimer;
+	
+	/**
+	 * Time taken to validate tokens which didn't authenticate a request, {@code null} without a meter registry.
+	 */
+	private Timer rejectedTokenTimer;
+	
+	/**
+	 * Create the timers of token validation, and the cache of user state when principal is taken from claims and user state is checked.
+	 */
+	@PostConstruct
+	public void init() {
+		
+		if(meterRegistry != null) {
+			authenticatedTokenTimer = Timer.builder(MetricConstants.TOKEN_VALIDATION_TIMER)
+										   .tag(MetricConstants.TAG_RESULT, MetricConstants.RESULT_AUTHENTICATED)
+										   .register(meterRegistry);
+			rejectedTokenTimer = Timer.builder(MetricConstants.TOKEN_VALIDATION_TIMER)
+									  .tag(MetricConstants.TAG_RESULT, MetricConstants.RESULT_REJECTED)
+									  .register(meterRegistry);
+		}
+		
+		if(!WebSecurityConstants.PRINCIPAL_SOURCE_CLAIMS.equals(principalSource) || !userStateCheckEnabled) {
+			return;
+		}
+		
+		userStateCache = Caffeine.newBuilder()
+								 .maximumSize(userStateCheckMaximumSize)
+								 .expireAfterWrite(userStateCheckTtlSeconds, TimeUnit.SECONDS)
+								 .recordStats()
+								 .build();
+		
+		if(meterRegistry != null) {
+			CaffeineCacheMetrics.monitor(meterRegistry, userStateCache, CacheConstants.JWT_USER_STATE_CACHE);
+		}
+	}
 
 //	@Override
 //	protected boolean shouldNotFilterAsyncDispatch() {
@@ -43,6 +128,12 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 	/**
 	 * Provides filter to pass only authenticated requests to the server.
 	 * 
+	 * <p>
+	 * 	Token is parsed once into a {@code JwtPrincipal}, which is then validated against the user, 
+	 * 	so a request verifies the signature of its token at most once. A revoked token is not authenticated.
+	 * 	Time taken to validate a token is recorded by whether it authenticated the request.
+	 * </p>
+	 * 
 	 * @param	request
 	 * 			HTTP request object.
 	 * 
@@ -59,27 +150,97 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 			throws ServletException, IOException {
 		final String authorizationHeader = request.getHeader("Authorization");
 		
-		String userName = null;
-		String jwt = null;
+		JwtPrincipal jwtPrincipal = null;
+		boolean authenticated = false;
+		long startTime = System.nanoTime();
 		
 		if(authorizationHeader!=null && authorizationHeader.startsWith("Bearer ")) {
-			jwt = authorizationHeader.substring(7);
-			userName = jwtauthorizationfilter.extractUsername(jwt);
+			jwtPrincipal = jwtauthorizationfilter.parsePrincipal(authorizationHeader.substring(7));
+		}
+		
+		if(jwtPrincipal != null && tokenRevocationService.isRevoked(jwtPrincipal)) {
+			jwtPrincipal = null;
 		}
 		
-		if(userName !=null && SecurityContextHolder.getContext().getAuthentication() == null) {
-			UserDetails userDetails = myUserDetailsService.loadUserByUsername(userName);
+		if(jwtPrincipal != null && jwtPrincipal.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 			
-			if(jwtauthorizationfilter.validateToken(jwt, userDetails)) {
-				UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
-						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+			if(WebSecurityConstants.PRINCIPAL_SOURCE_CLAIMS.equals(principalSource)) {
 				
-				usernamePasswordAuthenticationToken.setDetails(userDetails);
-				SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+				if(!jwtPrincipal.isExpired() && this.isUserActive(jwtPrincipal.getSubject())) {
+					UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
+							new UsernamePasswordAuthenticationToken(jwtPrincipal.getSubject(), null, jwtPrincipal.getAuthorities());
+					
+					usernamePasswordAuthenticationToken.setDetails(jwtPrincipal);
+					SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+					authenticated = true;
+				}
+			} else {
+				UserDetails userDetails = this.loadUser(jwtPrincipal.getSubject());
+				
+				if(userDetails != null && userDetails.isEnabled() && jwtauthorizationfilter.validatePrincipal(jwtPrincipal, userDetails)) {
+					UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
+							new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+					
+					usernamePasswordAuthenticationToken.setDetails(userDetails);
+					SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+					authenticated = true;
+				}
 			}
 		}
 		
+		if(authorizationHeader!=null && authorizationHeader.startsWith("Bearer ") && authenticatedTokenTimer != null) {
+			(authenticated ? authenticatedTokenTimer : rejectedTokenTimer).record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+		}
+		
 		filterChain.doFilter(request, response);
 	}
+	
+	/**
+	 * Load the user a token is issued to.
+	 * 
+	 * @param	userName
+	 * 			Name of the user.
+	 * 
+	 * @return	User, {@code null} when no user exists with the name anymore.
+	 */
+	private UserDetails loadUser(String userName) {
+		
+		try {
+			return myUserDetailsService.loadUserByUsername(userName);
+		} catch (UsernameNotFoundException e) {
+			return null;
+		}
+	}
+	
+	/**
+	 * Check user is still active, i.e. exists and is enabled, not locked and not expired.
+	 * 
+	 * <p>
+	 * 	User store is read at most once per user in {@code beer.dispenser.jwt.user-state-check.ttl-seconds}, 
+	 * 	and not at all when user state is not checked.
+	 * </p>
+	 * 
+	 * @param	userName
+	 * 			Name of the user.
+	 * 
+	 * @return	true/false.
+	 */
+	private boolean isUserActive(String userName) {
+		
+		if(userStateCache == null) {
+			return true;
+		}
+		
+		return userStateCache.get(userName, key -> {
+			try {
+				UserDetails userDetails = myUserDetailsService.loadUserByUsername(key);
+				
+				return userDetails.getUsername().equals(key) && userDetails.isEnabled() && userDetails.isAccountNonLocked() 
+						&& userDetails.isAccountNonExpired() && userDetails.isCredentialsNonExpired();
+			} catch (UsernameNotFoundException e) {
+				return false;
+			}
+		});
+	}
 
 }
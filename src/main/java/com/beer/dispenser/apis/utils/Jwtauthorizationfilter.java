@@ -1,28 +1,123 @@
 package com.beer.dispenser.apis.utils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cglib.core.internal.Function;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.beer.dispenser.apis.constants.CacheConstants;
 import com.beer.dispenser.apis.constants.WebSecurityConstants;
+import com.beer.dispenser.apis.models.JwtPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 /**
  * Service Implementation layer for JWT authorization filter.
  * 
+ * <p>
+ * 	A token is parsed and its signature verified once into an immutable {@code JwtPrincipal}, which is cached by digest of the token 
+ * 	until the token expires, so a token sent with every request is not parsed and its signature is not verified again on every request.
+ * </p>
+ * 
  * @author	Sanchay Yadav
  * @since	11th December 2022
  */
 @Service
 public class Jwtauthorizationfilter {
 	
+	@Value("${beer.dispenser.jwt.access-token.ttl-seconds:900}")
+	private long accessTokenTtlSeconds;
+	
+	@Value("${beer.dispenser.jwt.claims-cache.maximum-size:10000}")
+	private long claimsCacheMaximumSize;
+	
+	@Value("${beer.dispenser.jwt.claims-cache.max-ttl-seconds:600}")
+	private long claimsCacheMaxTtlSeconds;
+	
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+	
+	/**
+	 * Verifies HS256 tokens with a key derived once and a reused {@code Mac} per thread.
+	 */
+	private final Hs256TokenVerifier hs256TokenVerifier = new Hs256TokenVerifier(WebSecurityConstants.SECRET_KEY);
+	
+	/**
+	 * Principal of verified tokens by SHA-256 digest of the token, a token itself is never kept. 
+	 * {@code null} when maximum size of the cache is 0.
+	 */
+	private Cache<String, JwtPrincipal> claimsCache;
+	
+	/**
+	 * Create the cache of verified claims, bounded in size and expiring every claims when its token expires.
+	 */
+	@PostConstruct
+	public void init() {
+		
+		if(claimsCacheMaximumSize == 0) {
+			return;
+		}
+		
+		claimsCache = Caffeine.newBuilder()
+							  .maximumSize(claimsCacheMaximumSize)
+							  .expireAfter(new ClaimsExpiry(TimeUnit.SECONDS.toNanos(claimsCacheMaxTtlSeconds)))
+							  .recordStats()
+							  .build();
+		
+		if(meterRegistry != null) {
+			CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, CacheConstants.JWT_CLAIMS_CACHE);
+		}
+	}
+	
+	/**
+	 * Parse and verify the token once, and return who it is issued to, when it expires and what it allows.
+	 * 
+	 * <p>
+	 * 	Signature of a token is verified at most once per call, and not at all when the token is already cached.
+	 * </p>
+	 * 
+	 * @param	token
+	 * 			JWT
+	 * 
+	 * @return	Principal of the verified token.
+	 * 
+	 * @throws	io.jsonwebtoken.JwtException
+	 * 			If token is malformed, its signature doesn't match or it is expired.
+	 */
+	public JwtPrincipal parsePrincipal(String token) {
+		
+		if(claimsCache == null) {
+			return this.mapToJwtPrincipal(extractAllClaims(token));
+		}
+		
+		return claimsCache.get(digest(token), key -> this.mapToJwtPrincipal(extractAllClaims(token)));
+	}
+	
 	/**
 	 * Validate registered username and password from generated token.
 	 * 
@@ -32,7 +127,7 @@ public class Jwtauthorizationfilter {
 	 * @return	Whatever claims registered for payload in JWT.
 	 */
 	public String extractUsername(String token) {
-		return extractClaim(token, Claims::getSubject );
+		return parsePrincipal(token).getSubject();
 	}
 	
 	/**
@@ -44,13 +139,17 @@ public class Jwtauthorizationfilter {
 	 * @return	Expire time of token.
 	 */
 	public Date extractExpiration(String token) {
-		return extractClaim(token, Claims::getExpiration );
-
+		return parsePrincipal(token).getExpiration();
 	}
 	
 	/**
 	 * Apply claims which is registered in payload.
 	 * 
+	 * <p>
+	 * 	Parses and verifies the token on every call, {@link #parsePrincipal(String) parsePrincipal} should be used 
+	 * 	for subject, expiry and authorities.
+	 * </p>
+	 * 
 	 * @param	<T>
 	 * 			Generic data type (i.e any data type is acceptable 
 	 * 			like Date, String {@see extractUsername, extractExpiration} from above two methods.
@@ -77,37 +176,125 @@ public class Jwtauthorizationfilter {
 	 * @return	All claims.
 	 */
 	private Claims extractAllClaims(String token) {
-		return Jwts.parser().setSigningKey(WebSecurityConstants.SECRET_KEY).parseClaimsJws(token).getBody();
+		return hs256TokenVerifier.verify(token);
 	}
 	
 	/**
-	 * Validate token is expired or not.
+	 * Map verified claims to a principal.
+	 * 
+	 * @param	claims
+	 * 			Claims of a verified token.
+	 * 
+	 * @return	Principal of the token.
+	 */
+	private JwtPrincipal mapToJwtPrincipal(Claims claims) {
+		
+		List<GrantedAuthority> authorities = new ArrayList<>();
+		Object authoritiesClaim = claims.get(WebSecurityConstants.AUTHORITIES_CLAIM);
+		
+		if(authoritiesClaim instanceof Collection) {
+			for(Object authority : (Collection<?>) authoritiesClaim) {
+				authorities.add(new SimpleGrantedAuthority(String.valueOf(authority)));
+			}
+		}
+		
+		return new JwtPrincipal(claims.getId(), claims.getSubject(), claims.getExpiration(), authorities, 
+				claims.get(WebSecurityConstants.TOKEN_FAMILY_CLAIM, String.class));
+	}
+	
+	/**
+	 * Digest of token used as key of cached principal.
 	 * 
 	 * @param	token
 	 * 			JWT
 	 * 
-	 * @return	true/false.
+	 * @return	SHA-256 digest of token.
 	 */
-	private Boolean isTokenExpired(String token) {
-		return extractExpiration(token).before(new Date());
+	private String digest(String token) {
+		
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
 	}
 	
 	/**
 	 * Generate token according to user details which is already registered.
 	 * 
+	 * <p>
+	 * 	Authorities of the user are signed into the token, so a request can be authorized from the token alone.
+	 * </p>
+	 * 
 	 * @param	userDetails
 	 * 			Object contains details of user like user name and password.
 	 * 
 	 * @return	Generated token in string.
 	 */
 	public String generateToken(UserDetails userDetails) {
+		
+		List<String> authorities = new ArrayList<>();
+		userDetails.getAuthorities().forEach(authority -> authorities.add(authority.getAuthority()));
+		
+		return generateToken(userDetails.getUsername(), authorities);
+	}
+	
+	/**
+	 * Generate token for a user name and authorities, without loading the user, e.g. when a refresh token is redeemed.
+	 * 
+	 * @param	userName
+	 * 			User name the token is issued to.
+	 * 
+	 * @param	authorities
+	 * 			Authorities signed into the token.
+	 * 
+	 * @return	Generated token in string.
+	 */
+	public String generateToken(String userName, List<String> authorities) {
+		return generateToken(userName, authorities, null);
+	}
+	
+	/**
+	 * Generate token for a user name and authorities, belonging to a family of refresh tokens which can be revoked with it.
+	 * 
+	 * @param	userName
+	 * 			User name the token is issued to.
+	 * 
+	 * @param	authorities
+	 * 			Authorities signed into the token.
+	 * 
+	 * @param	familyId
+	 * 			Id of the family of refresh tokens issued with the token, not signed into the token when {@code null}.
+	 * 
+	 * @return	Generated token in string.
+	 */
+	public String generateToken(String userName, List<String> authorities, String familyId) {
 		Map<String, Object> claims = new HashMap<>();
-		return createToken(claims, userDetails.getUsername());
+		claims.put(WebSecurityConstants.AUTHORITIES_CLAIM, authorities);
+		if(familyId != null) {
+			claims.put(WebSecurityConstants.TOKEN_FAMILY_CLAIM, familyId);
+		}
+		
+		return createToken(claims, userName);
+	}
+	
+	/**
+	 * Time to live of generated tokens.
+	 * 
+	 * @return	Seconds a generated token is valid for.
+	 */
+	public long getAccessTokenTtlSeconds() {
+		return accessTokenTtlSeconds;
 	}
 
 	/**
 	 * Create a token according to claims in payload like expiry of token etc. and user details which is already registered.
 	 * 
+	 * <p>
+	 * 	Every token gets a random id ({@code jti}), by which it can be revoked.
+	 * </p>
+	 * 
 	 * @param	claims
 	 * 			Map of claims which is in payload.
 	 * 
@@ -117,8 +304,8 @@ public class Jwtauthorizationfilter {
 	 * @return	Created token in string.
 	 */
 	private String createToken(Map<String, Object> claims, String subject) {
-		return Jwts.builder().setClaims(claims).setSubject(subject).setIssuedAt(new Date(System.currentTimeMillis()))
-				.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
+		return Jwts.builder().setClaims(claims).setId(UUID.randomUUID().toString()).setSubject(subject).setIssuedAt(new Date(System.currentTimeMillis()))
+				.setExpiration(new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(accessTokenTtlSeconds)))
 				.signWith(SignatureAlgorithm.HS256, WebSecurityConstants.SECRET_KEY).compact();
 	}
 	
@@ -134,7 +321,56 @@ public class Jwtauthorizationfilter {
 	 * @return	true/false.
 	 */
 	public Boolean validateToken(String token, UserDetails userDetails) {
-		final String userName = extractUsername(token);
-		return (userName.equals(userDetails.getUsername()) && !isTokenExpired(token));
+		return validatePrincipal(parsePrincipal(token), userDetails);
+	}
+	
+	/**
+	 * Validate principal of an already verified token is issued to the user and is not expired.
+	 * 
+	 * @param	jwtPrincipal
+	 * 			Principal returned by {@link #parsePrincipal(String) parsePrincipal}.
+	 * 
+	 * @param	userDetails
+	 * 			Object contains details of user like user name and password.
+	 * 
+	 * @return	true/false.
+	 */
+	public boolean validatePrincipal(JwtPrincipal jwtPrincipal, UserDetails userDetails) {
+		return jwtPrincipal.getSubject().equals(userDetails.getUsername()) && !jwtPrincipal.isExpired();
+	}
+	
+	/**
+	 * Expires cached claims when their token expires, and not later than a maximum time to live.
+	 */
+	private static class ClaimsExpiry implements Expiry<String, JwtPrincipal> {
+		
+		private final long maxTtlNanos;
+		
+		private ClaimsExpiry(long maxTtlNanos) {
+			this.maxTtlNanos = maxTtlNanos;
+		}
+
+		@Override
+		public long expireAfterCreate(String key, JwtPrincipal jwtPrincipal, long currentTime) {
+			
+			Date expiration = jwtPrincipal.getExpiration();
+			
+			if(expiration == null) {
+				return maxTtlNanos;
+			}
+			
+			long ttlNanos = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+			return Math.max(0, Math.min(ttlNanos, maxTtlNanos));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, JwtPrincipal jwtPrincipal, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+
+		@Override
+		public long expireAfterRead(String key, JwtPrincipal jwtPrincipal, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
 	}
 }
@@ -0,0 +1,53 @@
+package com.beer.dispenser.apis.utils;
+
+import java.io.Serializable;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Hibernate interceptor counting prepared statements and loaded entities into the open {@code QueryStatistics} of the current thread.
+ *
+ * <p>
+ * 	Registered once for the session factory as both interceptor and statement inspector, see {@code MetricsConfiguration}.
+ * 	SQL and entities are never changed.
+ * </p>
+ *
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.QueryStatistics
+ * @since	17th October 2026
+ */
+public class QueryCountingInterceptor extends EmptyInterceptor implements StatementInspector {
+
+	private static final long serialVersionUID = -4470512916393361826L;
+
+	/**
+	 * Count a statement about to be prepared.
+	 *
+	 * @param	sql
+	 * 			SQL of the statement.
+	 *
+	 * @return	Same SQL.
+	 */
+	@Override
+	public String inspect(String sql) {
+
+		QueryStatistics.statementPrepared(sql);
+
+		return sql;
+	}
+
+	/**
+	 * Count an entity hydrated from a result set.
+	 *
+	 * @return	false, state of entity is not modified.
+	 */
+	@Override
+	public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+
+		QueryStatistics.entityLoaded();
+
+		return false;
+	}
+}
@@ -0,0 +1,130 @@
+package com.beer.dispenser.apis.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Number of SQL statements executed and entities loaded by Hibernate on the current thread, between opening and closing a scope.
+ *
+ * <p>
+ * 	A scope is opened per request by {@code QueryStatisticsFilter}. Scopes can be nested, e.g. a test asserting the query budget
+ * 	of a request, and a statement is counted by every open scope of the thread. Nothing is counted on a thread without an open scope.
+ * </p>
+ *
+ * <p>
+ * 	A statement is counted when Hibernate prepares it, so a JDBC batch counts once however many rows it writes.
+ * 	Statements executed without Hibernate, e.g. by {@code JdbcTemplate}, are not counted.
+ * </p>
+ *
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.QueryCountingInterceptor
+ * @see		com.beer.dispenser.apis.utils.QueryStatisticsFilter
+ * @since	17th October 2026
+ */
+public final class QueryStatistics implements AutoCloseable {
+
+	private static final ThreadLocal<QueryStatistics> CURRENT = new ThreadLocal<>();
+
+	private final QueryStatistics parent;
+
+	/**
+	 * SQL of the counted statements, {@code null} when statements are only counted.
+	 */
+	private final List<String> statements;
+
+	private long statementCount;
+
+	private long entityLoadCount;
+
+	private QueryStatistics(QueryStatistics parent, boolean recordStatements) {
+		this.parent = parent;
+		this.statements = recordStatements ? new ArrayList<>() : null;
+	}
+
+	/**
+	 * Open a scope on the current thread, counting statements without keeping their SQL.
+	 *
+	 * @return	Scope, to be closed on the same thread.
+	 */
+	public static QueryStatistics open() {
+		return open(false);
+	}
+
+	/**
+	 * Open a scope on the current thread.
+	 *
+	 * @param	recordStatements
+	 * 			Whether SQL of the statements is kept, to explain a count.
+	 *
+	 * @return	Scope, to be closed on the same thread.
+	 */
+	public static QueryStatistics open(boolean recordStatements) {
+
+		QueryStatistics queryStatistics = new QueryStatistics(CURRENT.get(), recordStatements);
+		CURRENT.set(queryStatistics);
+
+		return queryStatistics;
+	}
+
+	/**
+	 * Count a statement in every open scope of the current thread.
+	 *
+	 * @param	sql
+	 * 			SQL of the statement.
+	 */
+	static void statementPrepared(String sql) {
+
+		for(QueryStatistics queryStatistics = CURRENT.get(); queryStatistics != null; queryStatistics = queryStatistics.parent) {
+			queryStatistics.statementCount++;
+
+			if(queryStatistics.statements != null) {
+				queryStatistics.statements.add(sql);
+			}
+		}
+	}
+
+	/**
+	 * Count a loaded entity in every open scope of the current thread.
+	 */
+	static void entityLoaded() {
+
+		for(QueryStatistics queryStatistics = CURRENT.get(); queryStatistics != null; queryStatistics = queryStatistics.parent) {
+			queryStatistics.entityLoadCount++;
+		}
+	}
+
+	/**
+	 * @return	Number of statements prepared while this scope is open.
+	 */
+	public long getStatementCount() {
+		return statementCount;
+	}
+
+	/**
+	 * @return	Number of entities hydrated from result sets while this scope is open.
+	 */
+	public long getEntityLoadCount() {
+		return entityLoadCount;
+	}
+
+	/**
+	 * @return	SQL of the statements in order of execution, empty when statements are not recorded.
+	 */
+	public List<String> getStatements() {
+		return statements == null ? Collections.emptyList() : Collections.unmodifiableList(statements);
+	}
+
+	/**
+	 * Close this scope, making its enclosing scope, if any, the current scope of the thread again.
+	 */
+	@Override
+	public void close() {
+
+		if(parent == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(parent);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.beer.dispenser.apis.utils;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.beer.dispenser.apis.constants.MetricConstants;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * This class counts SQL statements executed and entities loaded by every request, and records them as metrics and logs.
+ *
+ * <p>
+ * 	Runs before the security filters, so statements of authentication, e.g. loading the user of a JWT, are counted too.
+ * 	Counts are recorded as {@code beer.dispenser.request.statements} and {@code beer.dispenser.request.entities.loaded},
+ * 	tagged by method and URI pattern, and logged at debug level. A request executing more than
+ * 	{@code beer.dispenser.query-statistics.warn-statements} statements is logged at warn level.
+ * </p>
+ *
+ * <p>
+ * 	Statements executed after the request thread returns, i.e. while a {@code StreamingResponseBody} is written, are not counted.
+ * </p>
+ *
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.QueryStatistics
+ * @since	17th October 2026
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class QueryStatisticsFilter extends OncePerRequestFilter {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(QueryStatisticsFilter.class);
+
+	private static final String UNKNOWN_URI = "UNKNOWN";
+
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+
+	@Value("${beer.dispenser.query-statistics.warn-statements:20}")
+	private long warnStatements;
+
+	/**
+	 * Open a scope of {@code QueryStatistics} around the request, and record its counts once the request is handled.
+	 *
+	 * @param	request
+	 * 			HTTP request object.
+	 *
+	 * @param	response
+	 * 			HTTP response object.
+	 *
+	 * @param   chain
+	 * 			Filter chain
+	 *
+	 * @throws	IOException, ServletException
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+
+		try(QueryStatistics queryStatistics = QueryStatistics.open()) {
+			try {
+				filterChain.doFilter(request, response);
+			} finally {
+				this.record(request, response, queryStatistics);
+			}
+		}
+	}
+
+	/**
+	 * Record counts of a request as metrics and logs.
+	 *
+	 * @param	request
+	 * 			HTTP request object.
+	 *
+	 * @param	response
+	 * 			HTTP response object.
+	 *
+	 * @param	queryStatistics
+	 * 			Counts of the request.
+	 */
+	private void record(HttpServletRequest request, HttpServletResponse response, QueryStatistics queryStatistics) {
+
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+
+		if(meterRegistry != null) {
+			meterRegistry.summary(MetricConstants.REQUEST_STATEMENTS_SUMMARY, MetricConstants.TAG_METHOD, request.getMethod(), MetricConstants.TAG_URI, uri)
+						 .record(queryStatistics.getStatementCount());
+			meterRegistry.summary(MetricConstants.REQUEST_ENTITIES_LOADED_SUMMARY, MetricConstants.TAG_METHOD, request.getMethod(), MetricConstants.TAG_URI, uri)
+						 .record(queryStatistics.getEntityLoadCount());
+		}
+
+		if(queryStatistics.getStatementCount() > warnStatements) {
+			LOGGER.warn("{} {} returned {} after executing {} statements and loading {} entities, more than {} statements", request.getMethod(), uri,
+					response.getStatus(), queryStatistics.getStatementCount(), queryStatistics.getEntityLoadCount(), warnStatements);
+		} else if(LOGGER.isDebugEnabled()) {
+			LOGGER.debug("{} {} returned {} after executing {} statements and loading {} entities", request.getMethod(), uri,
+					response.getStatus(), queryStatistics.getStatementCount(), queryStatistics.getEntityLoadCount());
+		}
+	}
+}
@@ -0,0 +1,180 @@
+package com.beer.dispenser.apis.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.beer.dispenser.apis.constants.CacheConstants;
+import com.beer.dispenser.apis.models.RefreshTokenGrant;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-memory store of rotating refresh tokens.
+ * 
+ * <p>
+ * 	A refresh token is a random opaque value, only its SHA-256 digest is kept, with the {@code RefreshTokenGrant} it was issued for. 
+ * 	A refresh token can be redeemed only once : redeeming removes it, and the caller issues a new one, 
+ * 	so a refresh token which leaked and was already used is worthless.
+ * </p>
+ * 
+ * <p>
+ * 	Store is bounded by {@code beer.dispenser.jwt.refresh-token.maximum-size}. Refresh tokens rotated from a login expire 
+ * 	{@code beer.dispenser.jwt.refresh-token.ttl-seconds} after the login, not after they are issued, so a chain of refreshes ends. 
+ * 	Refresh tokens are lost on restart, clients then authenticate again with their credentials.
+ * </p>
+ * 
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.AuthServiceImpl
+ * @since	17th October 2026
+ */
+@Service
+public class RefreshTokenStore {
+
+	private static final int REFRESH_TOKEN_BYTES = 32;
+	
+	@Value("${beer.dispenser.jwt.refresh-token.maximum-size:100000}")
+	private long maximumSize;
+	
+	@Value("${beer.dispenser.jwt.refresh-token.ttl-seconds:604800}")
+	private long ttlSeconds;
+	
+	@Autowired(required = false)
+	private MeterRegistry meterRegistry;
+	
+	private final SecureRandom secureRandom = new SecureRandom();
+	
+	/**
+	 * Grants of refresh tokens by SHA-256 digest of the refresh token.
+	 */
+	private Cache<String, RefreshTokenGrant> refreshTokens;
+	
+	/**
+	 * Create the store, bounded in size and expiring every refresh token when its grant expires.
+	 */
+	@PostConstruct
+	public void init() {
+		
+		refreshTokens = Caffeine.newBuilder()
+								.maximumSize(maximumSize)
+								.expireAfter(new Expiry<String, RefreshTokenGrant>() {
+									
+									@Override
+									public long expireAfterCreate(String key, RefreshTokenGrant refreshTokenGrant, long currentTime) {
+										return Math.max(0, Duration.between(Instant.now(), refreshTokenGrant.getExpiresAt()).toNanos());
+									}
+									
+									@Override
+									public long expireAfterUpdate(String key, RefreshTokenGrant refreshTokenGrant, long currentTime, long currentDuration) {
+										return this.expireAfterCreate(key, refreshTokenGrant, currentTime);
+									}
+									
+									@Override
+									public long expireAfterRead(String key, RefreshTokenGrant refreshTokenGrant, long currentTime, long currentDuration) {
+										return currentDuration;
+									}
+								})
+								.recordStats()
+								.build();
+		
+		if(meterRegistry != null) {
+			CaffeineCacheMetrics.monitor(meterRegistry, refreshTokens, CacheConstants.REFRESH_TOKEN_CACHE);
+		}
+	}
+	
+	/**
+	 * Time to live of refresh tokens of a login.
+	 * 
+	 * @return	Seconds refresh tokens rotated from a login are valid for, counted from the login.
+	 */
+	public long getTtlSeconds() {
+		return ttlSeconds;
+	}
+	
+	/**
+	 * Create the grant of a login, with a new family id, whose refresh tokens expire after the time to live.
+	 * 
+	 * @param	userName
+	 * 			User name the refresh tokens are issued to.
+	 * 
+	 * @param	authorities
+	 * 			Authorities of the user.
+	 * 
+	 * @return	Grant to pass to {@link #issue(RefreshTokenGrant) issue}.
+	 */
+	public RefreshTokenGrant createGrant(String userName, List<String> authorities) {
+		return new RefreshTokenGrant(userName, authorities, UUID.randomUUID().toString(), Instant.now().plusSeconds(ttlSeconds));
+	}
+	
+	/**
+	 * Issue a new refresh token, expiring with its grant.
+	 * 
+	 * @param	refreshTokenGrant
+	 * 			Grant created by {@link #createGrant(String, List) createGrant} on login, or redeemed from the previous refresh token.
+	 * 
+	 * @return	Refresh token, base64url encoded random bytes.
+	 */
+	public String issue(RefreshTokenGrant refreshTokenGrant) {
+		
+		byte[] randomBytes = new byte[REFRESH_TOKEN_BYTES];
+		secureRandom.nextBytes(randomBytes);
+		
+		String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+		refreshTokens.put(digest(refreshToken), refreshTokenGrant);
+		
+		return refreshToken;
+	}
+	
+	/**
+	 * Redeem a refresh token, which removes it from the store.
+	 * 
+	 * <p>
+	 * 	Of concurrent calls with the same refresh token only one gets the grant.
+	 * </p>
+	 * 
+	 * @param	refreshToken
+	 * 			Refresh token returned by {@link #issue(RefreshTokenGrant) issue}.
+	 * 
+	 * @return	Grant of the refresh token, {@code null} if refresh token is unknown, expired or already redeemed.
+	 */
+	public RefreshTokenGrant redeem(String refreshToken) {
+		
+		RefreshTokenGrant refreshTokenGrant = refreshTokens.asMap().remove(digest(refreshToken));
+		
+		return refreshTokenGrant == null || !refreshTokenGrant.getExpiresAt().isAfter(Instant.now()) ? null : refreshTokenGrant;
+	}
+	
+	/**
+	 * Digest of refresh token used as key of its grant.
+	 * 
+	 * @param	refreshToken
+	 * 			Refresh token.
+	 * 
+	 * @return	SHA-256 digest of refresh token.
+	 */
+	private String digest(String refreshToken) {
+		
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
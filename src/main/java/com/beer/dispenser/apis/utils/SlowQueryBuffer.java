@@ -0,0 +1,84 @@
+package com.beer.dispenser.apis.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.beer.dispenser.apis.models.SqlTrace;
+
+/**
+ * Ring buffer of the most recent slow SQL executions.
+ *
+ * <p>
+ * 	Adding never blocks or allocates, the oldest trace is overwritten once the buffer is full.
+ * 	Traces added while the buffer is read may or may not be returned.
+ * </p>
+ *
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.SqlTraceListener
+ * @since	17th October 2026
+ */
+public class SlowQueryBuffer {
+
+	private final AtomicReferenceArray<SqlTrace> traces;
+
+	/**
+	 * Number of traces ever added, the next trace is written at this position modulo capacity.
+	 */
+	private final AtomicLong added = new AtomicLong();
+
+	/**
+	 * Create an empty buffer.
+	 *
+	 * @param	capacity
+	 * 			Number of traces kept.
+	 */
+	public SlowQueryBuffer(int capacity) {
+
+		if(capacity < 1) {
+			throw new IllegalArgumentException("Capacity of slow query buffer must be positive : " + capacity);
+		}
+
+		this.traces = new AtomicReferenceArray<>(capacity);
+	}
+
+	/**
+	 * Add a trace, overwriting the oldest one when the buffer is full.
+	 *
+	 * @param	sqlTrace
+	 * 			Trace of a slow execution.
+	 */
+	public void add(SqlTrace sqlTrace) {
+		traces.set((int) (added.getAndIncrement() % traces.length()), sqlTrace);
+	}
+
+	/**
+	 * Fetch the traces in the buffer.
+	 *
+	 * @return	Traces, most recent first.
+	 */
+	public List<SqlTrace> recent() {
+
+		long end = added.get();
+		long start = Math.max(0, end - traces.length());
+		List<SqlTrace> recent = new ArrayList<>((int) (end - start));
+
+		for(long i = end - 1; i >= start; i--) {
+			SqlTrace sqlTrace = traces.get((int) (i % traces.length()));
+
+			if(sqlTrace != null) {
+				recent.add(sqlTrace);
+			}
+		}
+
+		return recent;
+	}
+
+	/**
+	 * @return	Number of traces ever added, including the overwritten ones.
+	 */
+	public long getAdded() {
+		return added.get();
+	}
+}
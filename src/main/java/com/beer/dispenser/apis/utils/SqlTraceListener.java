@@ -0,0 +1,273 @@
+package com.beer.dispenser.apis.utils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.beer.dispenser.apis.constants.MetricConstants;
+import com.beer.dispenser.apis.models.SqlTrace;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Listener of SQL executed through the data source, logging a sample of executions and every slow execution.
+ *
+ * <p>
+ * 	An execution taking at least {@code beer.dispenser.sql-trace.slow-threshold-ms} is always logged and kept in a {@code SlowQueryBuffer},
+ * 	any other execution is logged with probability {@code beer.dispenser.sql-trace.sample-rate}. Executions which are neither are not
+ * 	captured or queued by this listener, but they are not free : datasource-proxy has already recorded their bind parameters
+ * 	before the listener is called.
+ * </p>
+ *
+ * <p>
+ * 	Bind parameters are only captured with {@code beer.dispenser.sql-trace.log-parameters}, which is off by default
+ * 	since they include user names and password hashes.
+ * </p>
+ *
+ * <p>
+ * 	The executing thread only captures SQL, bind parameters and duration into a {@code SqlTrace} and queues it,
+ * 	traces are formatted and logged by a single background thread. When the queue is full the trace is dropped instead of
+ * 	blocking the executing thread, and counted as {@code beer.dispenser.sql.trace.dropped}.
+ * </p>
+ *
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.config.SqlTraceConfiguration
+ * @see		com.beer.dispenser.apis.utils.SlowQueryBuffer
+ * @since	17th October 2026
+ */
+@Component
+@ConditionalOnProperty(name = "beer.dispenser.sql-trace.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlTraceListener implements QueryExecutionListener, MeterBinder {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(SqlTraceListener.class);
+
+	@Value("${beer.dispenser.sql-trace.sample-rate:0.01}")
+	private double sampleRate;
+
+	@Value("${beer.dispenser.sql-trace.slow-threshold-ms:200}")
+	private long slowThresholdMillis;
+
+	@Value("${beer.dispenser.sql-trace.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${beer.dispenser.sql-trace.slow-buffer-size:100}")
+	private int slowBufferSize;
+
+	@Value("${beer.dispenser.sql-trace.log-parameters:false}")
+	private boolean logParameters;
+
+	@Value("${beer.dispenser.sql-trace.max-parameter-length:200}")
+	private int maxParameterLength;
+
+	private SlowQueryBuffer slowQueryBuffer;
+
+	private BlockingQueue<SqlTrace> queue;
+
+	private Thread writer;
+
+	private volatile Counter slowCounter;
+
+	private volatile Counter droppedCounter;
+
+	/**
+	 * Create the buffer of slow executions and the queue of traces, and start the thread logging them.
+	 */
+	@PostConstruct
+	public void init() {
+
+		slowQueryBuffer = new SlowQueryBuffer(slowBufferSize);
+		queue = new ArrayBlockingQueue<>(queueCapacity);
+
+		writer = new Thread(this::write, "sql-trace-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * Stop the thread logging traces, after it logged the queued ones.
+	 *
+	 * @throws	InterruptedException
+	 * 			If interrupted while waiting for the thread.
+	 */
+	@PreDestroy
+	public void destroy() throws InterruptedException {
+		writer.interrupt();
+		writer.join(1000);
+	}
+
+	/**
+	 * Register the counters of slow executions and dropped traces.
+	 * 
+	 * <p>
+	 * 	Bound by Spring Boot once the registry exists, since the registry itself depends on the data source this listener is attached to.
+	 * </p>
+	 *
+	 * @param	meterRegistry
+	 * 			Registry of the counters.
+	 */
+	@Override
+	public void bindTo(MeterRegistry meterRegistry) {
+		slowCounter = meterRegistry.counter(MetricConstants.SLOW_SQL_COUNTER);
+		droppedCounter = meterRegistry.counter(MetricConstants.SQL_TRACE_DROPPED_COUNTER);
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	/**
+	 * Capture and queue an execution when it is slow or sampled.
+	 *
+	 * @param	executionInfo
+	 * 			Duration and outcome of the execution.
+	 *
+	 * @param	queryInfoList
+	 * 			SQL and bind parameters of the execution.
+	 */
+	@Override
+	public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+
+		boolean slow = executionInfo.getElapsedTime() >= slowThresholdMillis;
+
+		if(!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+			return;
+		}
+
+		SqlTrace sqlTrace = this.capture(executionInfo, queryInfoList);
+
+		if(slow) {
+			slowQueryBuffer.add(sqlTrace);
+
+			if(slowCounter != null) {
+				slowCounter.increment();
+			}
+		}
+
+		if(!queue.offer(sqlTrace) && droppedCounter != null) {
+			droppedCounter.increment();
+		}
+	}
+
+	/**
+	 * Fetch the most recent slow executions.
+	 *
+	 * @return	Traces of slow executions, most recent first.
+	 */
+	public List<SqlTrace> getSlowQueries() {
+		return slowQueryBuffer.recent();
+	}
+
+	/**
+	 * Capture SQL, bind parameters and duration of an execution.
+	 *
+	 * @param	executionInfo
+	 * 			Duration and outcome of the execution.
+	 *
+	 * @param	queryInfoList
+	 * 			SQL and bind parameters of the execution.
+	 *
+	 * @return	Trace of the execution.
+	 */
+	private SqlTrace capture(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+
+		List<String> statements = new ArrayList<>(queryInfoList.size());
+		List<List<String>> parameters = new ArrayList<>();
+
+		for(QueryInfo queryInfo : queryInfoList) {
+			statements.add(queryInfo.getQuery());
+
+			if(logParameters) {
+				for(List<ParameterSetOperation> parameterSetOperations : queryInfo.getParametersList()) {
+					parameters.add(this.render(parameterSetOperations));
+				}
+			}
+		}
+
+		return new SqlTrace(LocalDateTime.now(), executionInfo.getElapsedTime(), executionInfo.getDataSourceName(),
+				Thread.currentThread().getName(), executionInfo.isSuccess(), executionInfo.isBatch(), statements, parameters);
+	}
+
+	/**
+	 * Render bind parameters of a statement, or of a row of a batch, in the order they are set.
+	 *
+	 * @param	parameterSetOperations
+	 * 			Calls setting the parameters.
+	 *
+	 * @return	Parameters as strings, truncated to {@code beer.dispenser.sql-trace.max-parameter-length}.
+	 */
+	private List<String> render(List<ParameterSetOperation> parameterSetOperations) {
+
+		List<String> parameters = new ArrayList<>(parameterSetOperations.size());
+
+		for(ParameterSetOperation parameterSetOperation : parameterSetOperations) {
+
+			if(ParameterSetOperation.isRegisterOutParameterOperation(parameterSetOperation)) {
+				continue;
+			}
+
+			Object[] args = parameterSetOperation.getArgs();
+			String parameter = ParameterSetOperation.isSetNullParameterOperation(parameterSetOperation) || args.length < 2
+					? "NULL" : String.valueOf(args[1]);
+
+			parameters.add(parameter.length() > maxParameterLength ? parameter.substring(0, maxParameterLength) + "..." : parameter);
+		}
+
+		return parameters;
+	}
+
+	/**
+	 * Log queued traces until interrupted, then log the traces still queued.
+	 */
+	private void write() {
+
+		try {
+			while(true) {
+				this.log(queue.take());
+			}
+		} catch (InterruptedException e) {
+			for(SqlTrace sqlTrace = queue.poll(); sqlTrace != null; sqlTrace = queue.poll()) {
+				this.log(sqlTrace);
+			}
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Log a trace, at warn level when it is slow and at info level when it is sampled.
+	 *
+	 * @param	sqlTrace
+	 * 			Trace of an execution.
+	 */
+	private void log(SqlTrace sqlTrace) {
+
+		try {
+			if(sqlTrace.getElapsedMillis() >= slowThresholdMillis) {
+				LOGGER.warn("Slow SQL took {} ms on {} in {}, success : {}, statements : {}, parameters : {}", sqlTrace.getElapsedMillis(),
+						sqlTrace.getDataSourceName(), sqlTrace.getThreadName(), sqlTrace.isSuccess(), sqlTrace.getStatements(), sqlTrace.getParameters());
+			} else {
+				LOGGER.info("SQL took {} ms on {} in {}, success : {}, statements : {}, parameters : {}", sqlTrace.getElapsedMillis(),
+						sqlTrace.getDataSourceName(), sqlTrace.getThreadName(), sqlTrace.isSuccess(), sqlTrace.getStatements(), sqlTrace.getParameters());
+			}
+		} catch (RuntimeException e) {
+			LOGGER.error("Unable to log SQL trace", e);
+		}
+	}
+}
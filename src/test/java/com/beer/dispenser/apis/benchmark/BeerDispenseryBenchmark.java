@@ -0,0 +1,169 @@
+package com.beer.dispenser.apis.benchmark;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.beer.dispenser.apis.BeerDispenserApiApplication;
+import com.beer.dispenser.apis.response.dto.BeerAndBeerUsageResponseDTO;
+import com.beer.dispenser.apis.service.BeerService;
+
+/**
+ * JMH benchmark of fetching spending of a beer dispensery through {@code BeerService}, on an in-memory H2 database.
+ * 
+ * <p>
+ * 	The application is started once per {@code usageCount} with H2 in MySQL mode in place of MySQL, 
+ * 	and a beer with {@code usageCount} closed beer usages and one open beer usage is inserted with JDBC batches. 
+ * 	{@code getBeerDispensery} loads, maps and prices the whole history, {@code getBeerDispenseryAmount} only reads the running total.
+ * </p>
+ * 
+ * <p>
+ * 	Run with: {@code mvn -Pbenchmark verify -Djmh.include=BeerDispenseryBenchmark}
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.BeerServiceImpl
+ * @since	17th October 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BeerDispenseryBenchmark {
+
+	private static final int INSERT_BATCH_SIZE = 10000;
+	
+	@Param({"10", "1000", "100000", "1000000"})
+	private int usageCount;
+	
+	private ConfigurableApplicationContext applicationContext;
+	
+	private BeerService beerService;
+	
+	private Long beerId;
+	
+	/**
+	 * Start the application on an empty in-memory database and insert the beer and its beer usages.
+	 */
+	@Setup
+	public void setUp() {
+		applicationContext = new SpringApplicationBuilder(BeerDispenserApiApplication.class)
+				.web(WebApplicationType.SERVLET)
+				.run("--server.port=0",
+					 "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+					 "--spring.datasource.username=sa",
+					 "--spring.datasource.password=",
+					 "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+					 "--spring.jpa.hibernate.ddl-auto=create-drop",
+					 "--spring.jpa.show-sql=false",
+					 "--spring.jpa.properties.hibernate.format_sql=false",
+					 "--beer.dispenser.security.bootstrap-user.user-name=",
+					 "--logging.level.root=WARN");
+		
+		beerService = applicationContext.getBean(BeerService.class);
+		beerId = this.insertBeer(applicationContext.getBean(JdbcTemplate.class));
+	}
+	
+	/**
+	 * Stop the application, which drops the in-memory database.
+	 */
+	@TearDown
+	public void tearDown() {
+		applicationContext.close();
+	}
+	
+	/**
+	 * Fetch spending with every beer usage.
+	 * 
+	 * @return	Spending of the beer dispensery.
+	 */
+	@Benchmark
+	public BeerAndBeerUsageResponseDTO getBeerDispensery() {
+		return beerService.getBeerDispensery(beerId);
+	}
+	
+	/**
+	 * Fetch only the amount of spending.
+	 * 
+	 * @return	Amount of the beer dispensery.
+	 */
+	@Benchmark
+	public BeerAndBeerUsageResponseDTO getBeerDispenseryAmount() {
+		return beerService.getBeerDispenseryAmount(beerId);
+	}
+	
+	/**
+	 * Insert a beer with {@code usageCount} closed beer usages and an open one, keeping its running total and open beer usage consistent.
+	 * 
+	 * @param	jdbcTemplate
+	 * 			Template of the in-memory database.
+	 * 
+	 * @return	Id of the beer.
+	 */
+	private Long insertBeer(JdbcTemplate jdbcTemplate) {
+		
+		BigDecimal totalSpent = new BigDecimal("9.80");
+		LocalDateTime openedAt = LocalDateTime.of(2022, 1, 1, 0, 0);
+		
+		jdbcTemplate.update("insert into beer (id, version, amount, flow_volume) values (1, 0, ?, 0.0653)", 
+				totalSpent.multiply(BigDecimal.valueOf(usageCount)));
+		
+		List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+		
+		for(long id = 1; id <= usageCount + 1; id++) {
+			LocalDateTime usageOpenedAt = openedAt.plusMinutes(id);
+			boolean open = id == usageCount + 1;
+			
+			batch.add(new Object[] {id, Timestamp.valueOf(usageOpenedAt), open ? null : Timestamp.valueOf(usageOpenedAt.plusSeconds(10)), 
+					open ? null : totalSpent});
+			
+			if(batch.size() == INSERT_BATCH_SIZE || open) {
+				jdbcTemplate.batchUpdate("insert into beer_usage (id, version, opened_at, closed_at, total_spent, beer_id) values (?, 0, ?, ?, ?, 1)", batch);
+				batch.clear();
+			}
+		}
+		
+		jdbcTemplate.update("update beer set open_beer_usage_id = ? where id = 1", usageCount + 1L);
+		
+		return 1L;
+	}
+	
+	/**
+	 * Run all the benchmarks of this class.
+	 * 
+	 * @param	args
+	 * 			Not used.
+	 * 
+	 * @throws	RunnerException
+	 * 			If benchmarks cannot be run.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(BeerDispenseryBenchmark.class.getSimpleName()).build()).run();
+	}
+}
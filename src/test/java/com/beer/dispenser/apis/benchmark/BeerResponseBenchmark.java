@@ -0,0 +1,130 @@
+package com.beer.dispenser.apis.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.beer.dispenser.apis.entity.Beer;
+import com.beer.dispenser.apis.entity.BeerUsage;
+import com.beer.dispenser.apis.mapper.BeerMapper;
+import com.beer.dispenser.apis.response.dto.BeerAndBeerUsageResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * JMH benchmark of building the response of spending of a beer dispensery, without database.
+ * 
+ * <p>
+ * 	Measures {@code BeerMapper.mapToBeerAndBeerUsage} of a beer and its beer usages, and Jackson serialization 
+ * 	of the mapped {@code BeerAndBeerUsageResponseDTO} with an {@code ObjectMapper} configured like the one of Spring Boot.
+ * </p>
+ * 
+ * <p>
+ * 	Run with: {@code mvn -Pbenchmark verify -Djmh.include=BeerResponseBenchmark}
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.mapper.BeerMapper
+ * @see		com.beer.dispenser.apis.response.dto.BeerAndBeerUsageResponseDTO
+ * @since	17th October 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BeerResponseBenchmark {
+
+	@Param({"10", "1000", "100000"})
+	private int usageCount;
+	
+	private BeerMapper beerMapper;
+	
+	private ObjectMapper objectMapper;
+	
+	private Beer beer;
+	
+	private List<BeerUsage> beerUsages;
+	
+	private BeerAndBeerUsageResponseDTO beerAndBeerUsageResponseDTO;
+	
+	/**
+	 * Create a beer with {@code usageCount} closed beer usages, and its mapped response.
+	 */
+	@Setup
+	public void setUp() {
+		beerMapper = BeerMapper.BEER;
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		
+		beer = new Beer();
+		beer.setId(1L);
+		beer.setFlow_volume(0.0653);
+		beer.setAmount(new BigDecimal("9.80").multiply(BigDecimal.valueOf(usageCount)));
+		
+		beerUsages = new ArrayList<>(usageCount);
+		LocalDateTime openedAt = LocalDateTime.of(2022, 1, 1, 0, 0);
+		
+		for(int i = 0; i < usageCount; i++) {
+			beerUsages.add(new BeerUsage((long) i, 0, openedAt.plusMinutes(i), openedAt.plusMinutes(i).plusSeconds(10), 
+					new BigDecimal("9.80"), beer));
+		}
+		
+		beerAndBeerUsageResponseDTO = beerMapper.mapToBeerAndBeerUsage(beer, beerUsages);
+	}
+	
+	/**
+	 * Map a beer and its beer usages to the response.
+	 * 
+	 * @return	Mapped response.
+	 */
+	@Benchmark
+	public BeerAndBeerUsageResponseDTO mapToBeerAndBeerUsage() {
+		return beerMapper.mapToBeerAndBeerUsage(beer, beerUsages);
+	}
+	
+	/**
+	 * Serialize a mapped response to JSON.
+	 * 
+	 * @return	JSON bytes.
+	 * 
+	 * @throws	JsonProcessingException
+	 * 			If response cannot be serialized.
+	 */
+	@Benchmark
+	public byte[] serializeBeerAndBeerUsageResponseDTO() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(beerAndBeerUsageResponseDTO);
+	}
+	
+	/**
+	 * Run all the benchmarks of this class.
+	 * 
+	 * @param	args
+	 * 			Not used.
+	 * 
+	 * @throws	RunnerException
+	 * 			If benchmarks cannot be run.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(BeerResponseBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,165 @@
+package com.beer.dispenser.apis.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.beer.dispenser.apis.constants.WebSecurityConstants;
+import com.beer.dispenser.apis.models.JwtPrincipal;
+import com.beer.dispenser.apis.utils.Hs256TokenVerifier;
+import com.beer.dispenser.apis.utils.Jwtauthorizationfilter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * JMH benchmark of validating the JWT of a request, as done by {@code JwtRequestFilter}.
+ * 
+ * <p>
+ * 	Compares the previous path, which parses and verifies the token three times through {@code extractClaim}, 
+ * 	with {@code parsePrincipal} when the token is not cached (one verification) and when it is cached (no verification).
+ * 	A single verification is also compared between jjwt and {@code Hs256TokenVerifier}, add {@code -prof gc} to compare allocation.
+ * </p>
+ * 
+ * <p>
+ * 	Run with: {@code mvn -Pbenchmark verify -Djmh.include=JwtValidationBenchmark}
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.Jwtauthorizationfilter
+ * @since	17th October 2026
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+	private Jwtauthorizationfilter uncachedJwtauthorizationfilter;
+	
+	private Jwtauthorizationfilter cachedJwtauthorizationfilter;
+	
+	private UserDetails userDetails;
+	
+	private String token;
+	
+	private Hs256TokenVerifier hs256TokenVerifier;
+	
+	/**
+	 * Create a token and filters with and without cache of verified tokens.
+	 */
+	@Setup
+	public void setUp() {
+		uncachedJwtauthorizationfilter = this.createJwtauthorizationfilter(0);
+		cachedJwtauthorizationfilter = this.createJwtauthorizationfilter(1000);
+		
+		userDetails = new User("Sanchay", "Sanchay@1234", new ArrayList<>());
+		token = cachedJwtauthorizationfilter.generateToken(userDetails);
+		hs256TokenVerifier = new Hs256TokenVerifier(WebSecurityConstants.SECRET_KEY);
+	}
+	
+	/**
+	 * Previous path : subject is extracted, then subject and expiry are extracted again to validate, every extraction is a full parse.
+	 * 
+	 * @return	Whether token is valid.
+	 */
+	@Benchmark
+	public boolean extractClaimThreeParses() {
+		String userName = this.parseClaims().getSubject();
+		
+		return userName != null 
+				&& this.parseClaims().getSubject().equals(userDetails.getUsername()) 
+				&& !this.parseClaims().getExpiration().before(new Date());
+	}
+	
+	/**
+	 * Single-pass path when the token is not cached, i.e. first request with a token.
+	 * 
+	 * @return	Whether token is valid.
+	 */
+	@Benchmark
+	public boolean parsePrincipalUncached() {
+		JwtPrincipal jwtPrincipal = uncachedJwtauthorizationfilter.parsePrincipal(token);
+		
+		return uncachedJwtauthorizationfilter.validatePrincipal(jwtPrincipal, userDetails);
+	}
+	
+	/**
+	 * Single-pass path when the token is cached, i.e. every later request with the same token.
+	 * 
+	 * @return	Whether token is valid.
+	 */
+	@Benchmark
+	public boolean parsePrincipalCached() {
+		JwtPrincipal jwtPrincipal = cachedJwtauthorizationfilter.parsePrincipal(token);
+		
+		return cachedJwtauthorizationfilter.validatePrincipal(jwtPrincipal, userDetails);
+	}
+	
+	/**
+	 * One verification of the token by jjwt, which derives the key and creates a {@code Mac} on every parse.
+	 * 
+	 * @return	Claims of token.
+	 */
+	@Benchmark
+	public Claims verifyJjwt() {
+		return this.parseClaims();
+	}
+	
+	/**
+	 * One verification of the token with the pre-derived key and thread-confined {@code Mac}.
+	 * 
+	 * @return	Claims of token.
+	 */
+	@Benchmark
+	public Claims verifyHs256TokenVerifier() {
+		return hs256TokenVerifier.verify(token);
+	}
+	
+	private Claims parseClaims() {
+		return Jwts.parser().setSigningKey(WebSecurityConstants.SECRET_KEY).parseClaimsJws(token).getBody();
+	}
+	
+	private Jwtauthorizationfilter createJwtauthorizationfilter(long claimsCacheMaximumSize) {
+		Jwtauthorizationfilter jwtauthorizationfilter = new Jwtauthorizationfilter();
+		ReflectionTestUtils.setField(jwtauthorizationfilter, "claimsCacheMaximumSize", claimsCacheMaximumSize);
+		ReflectionTestUtils.setField(jwtauthorizationfilter, "claimsCacheMaxTtlSeconds", 600L);
+		ReflectionTestUtils.setField(jwtauthorizationfilter, "accessTokenTtlSeconds", 900L);
+		jwtauthorizationfilter.init();
+		
+		return jwtauthorizationfilter;
+	}
+	
+	/**
+	 * Run all the benchmarks of this class.
+	 * 
+	 * @param	args
+	 * 			Not used.
+	 * 
+	 * @throws	RunnerException
+	 * 			If benchmarks cannot be run.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(JwtValidationBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,271 @@
+package com.beer.dispenser.apis.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.beer.dispenser.apis.utils.QueryBudget;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases asserting the query budget of
+ * {@link com.beer.dispenser.apis.controller.BeerController BeerController} endpoints.
+ *
+ * <p>
+ * 	Endpoints are called through {@code MockMvc} on an in-memory H2 database, including authentication of the JWT,
+ * 	and fail when they execute more statements than declared, e.g. when beer usage start being loaded one by one.
+ * 	Budgets don't depend on the number of beer usage of a dispensery.
+ * </p>
+ *
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.QueryBudget
+ * @since	17th October 2026
+ *
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.show-sql=false",
+		"beer.dispenser.security.bootstrap-user.password=Sanchay@1234"
+})
+@AutoConfigureMockMvc
+public class BeerControllerQueryBudgetTest {
+
+	private static final int USAGES = 10;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private String authorization;
+
+	/**
+	 * Authenticates the bootstrap user before each test case execution.
+	 *
+	 * @throws 	Exception
+	 * 			If an error occurs during execution
+	 */
+	@BeforeEach
+	void setUp() throws Exception {
+
+		MvcResult mvcResult = mockMvc.perform(post("/security/authenticate")
+											 .contentType(MediaType.APPLICATION_JSON)
+											 .content("{\"userName\":\"Sanchay\",\"password\":\"Sanchay@1234\"}"))
+									 .andExpect(status().isOk())
+									 .andReturn();
+
+		authorization = "Bearer " + objectMapper.readTree(mvcResult.getResponse().getContentAsString()).get("jsonWebToken").asText();
+	}
+
+	/**
+	 * Test case for the query budget of "create beer dispensery".
+	 */
+	@Test
+	void testCreateBeerDispensery_Query_Budget() throws Throwable {
+
+		QueryBudget.assertStatementsAtMost(2, () -> this.createBeerDispensery());
+	}
+
+	/**
+	 * Test case for the query budget of "update beer dispensery", opening and closing its tap.
+	 */
+	@Test
+	void testUpdateBeerDispensery_Query_Budget() throws Throwable {
+
+		long id = this.createBeerDispensery();
+
+		QueryBudget.assertStatementsAtMost(5, () -> mockMvc.perform(this.tapEvent(id, "open", "2022-01-01T02:00:00"))
+														   .andExpect(status().isAccepted()));
+		QueryBudget.assertStatementsAtMost(8, () -> mockMvc.perform(this.tapEvent(id, "close", "2022-01-01T02:00:50"))
+														   .andExpect(status().isAccepted()));
+	}
+
+	/**
+	 * Test case for the query budget of "update many beer dispenseries", which reads all the dispenseries at once.
+	 */
+	@Test
+	void testUpdateBeerDispenseries_Query_Budget() throws Throwable {
+
+		long first = this.createBeerDispensery();
+		long second = this.createBeerDispensery();
+		long third = this.createBeerDispensery();
+
+		String tapEvents = String.format("[%s,%s,%s]", this.tapEventJson(first, "open", "2022-01-01T02:00:00"),
+				this.tapEventJson(second, "open", "2022-01-01T02:00:00"), this.tapEventJson(third, "open", "2022-01-01T02:00:00"));
+
+		QueryBudget.assertStatementsAtMost(5, () -> mockMvc.perform(this.authorized(put("/dispenser/status"))
+														   .contentType(MediaType.APPLICATION_JSON)
+														   .content(tapEvents))
+														   .andExpect(status().isOk()));
+	}
+
+	/**
+	 * Test case for the query budget of "get beer dispensery", which must not load beer usage one by one.
+	 */
+	@Test
+	void testGetBeerDispensery_Query_Budget() throws Throwable {
+
+		long id = this.createBeerDispensery();
+
+		for(int i = 0; i < USAGES; i++) {
+			mockMvc.perform(this.tapEvent(id, "open", String.format("2022-01-01T%02d:00:00", i))).andExpect(status().isAccepted());
+			mockMvc.perform(this.tapEvent(id, "close", String.format("2022-01-01T%02d:00:10", i))).andExpect(status().isAccepted());
+		}
+
+		MvcResult mvcResult = QueryBudget.assertStatementsAtMost(3, () -> mockMvc.perform(this.authorized(get("/dispenser/" + id + "/spending")))
+																				 .andExpect(status().isOk())
+																				 .andReturn());
+
+		assertEquals(USAGES, objectMapper.readTree(mvcResult.getResponse().getContentAsString()).get("usages").size());
+
+		QueryBudget.assertStatementsAtMost(2, () -> mockMvc.perform(this.authorized(get("/dispenser/" + id + "/spending"))
+																	.param("includeUsages", "false"))
+														   .andExpect(status().isOk()));
+	}
+
+	/**
+	 * Test case for the query budget of "get many beer dispenseries", which reads all the dispenseries and their usages at once.
+	 */
+	@Test
+	void testGetBeerDispenseries_Query_Budget() throws Throwable {
+
+		long first = this.createBeerDispensery();
+		long second = this.createBeerDispensery();
+		long third = this.createBeerDispensery();
+
+		for(int i = 0; i < USAGES; i++) {
+			mockMvc.perform(this.tapEvent(first, "open", String.format("2022-01-01T%02d:00:00", i))).andExpect(status().isAccepted());
+			mockMvc.perform(this.tapEvent(first, "close", String.format("2022-01-01T%02d:00:10", i))).andExpect(status().isAccepted());
+		}
+		mockMvc.perform(this.tapEvent(second, "open", "2022-01-01T00:00:00")).andExpect(status().isAccepted());
+
+		String ids = String.format("%d,%d,%d", third, first, second);
+
+		MvcResult mvcResult = QueryBudget.assertStatementsAtMost(2, () -> mockMvc.perform(this.authorized(get("/dispenser/spending"))
+																					 .param("ids", ids)
+																					 .param("includeUsages", "true"))
+																					 .andExpect(status().isOk())
+																					 .andReturn());
+
+		JsonNode dispenseries = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+
+		assertEquals(third, dispenseries.get(0).get("id").asLong());
+		assertEquals(0, dispenseries.get(0).get("usages").size());
+		assertEquals(USAGES, dispenseries.get(1).get("usages").size());
+		assertEquals(1, dispenseries.get(2).get("usages").size());
+
+		QueryBudget.assertStatementsAtMost(2, () -> mockMvc.perform(this.authorized(get("/dispenser/spending"))
+																	.param("ids", ids))
+														   .andExpect(status().isOk()));
+	}
+
+	/**
+	 * Test case for the query budget of "get spending of beer dispensery in a range", which reads rollups only, 
+	 * and for a beer usage spanning two hours being split between them.
+	 */
+	@Test
+	void testGetSpending_Query_Budget() throws Throwable {
+
+		long id = this.createBeerDispensery();
+
+		for(int i = 0; i < USAGES; i++) {
+			mockMvc.perform(this.tapEvent(id, "open", String.format("2022-01-01T%02d:59:50", i))).andExpect(status().isAccepted());
+			mockMvc.perform(this.tapEvent(id, "close", String.format("2022-01-01T%02d:00:10", i + 1))).andExpect(status().isAccepted());
+		}
+
+		MvcResult mvcResult = QueryBudget.assertStatementsAtMost(3, () -> mockMvc.perform(this.authorized(get("/dispenser/" + id + "/spending"))
+																					 .param("from", "2022-01-01T00:00:00")
+																					 .param("to", "2022-01-02T00:00:00")
+																					 .param("granularity", "hour"))
+																					 .andExpect(status().isOk())
+																					 .andReturn());
+
+		JsonNode spending = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+		
+		assertEquals(24, spending.get("buckets").size());
+		assertEquals(10, spending.get("buckets").get(0).get("pourSeconds").asLong());
+		assertEquals(20, spending.get("buckets").get(1).get("pourSeconds").asLong());
+		assertEquals(20 * USAGES, spending.get("pourSeconds").asLong());
+
+		mvcResult = QueryBudget.assertStatementsAtMost(3, () -> mockMvc.perform(this.authorized(get("/dispenser/" + id + "/spending"))
+																		  .param("from", "2022-01-01T00:00:00")
+																		  .param("to", "2022-01-01T00:00:01")
+																		  .param("granularity", "day"))
+																		  .andExpect(status().isOk())
+																		  .andReturn());
+
+		assertEquals(spending.get("amount").decimalValue(), objectMapper.readTree(mvcResult.getResponse().getContentAsString()).get("amount").decimalValue());
+	}
+
+	/**
+	 * Test case for the query budget of "get top beer dispenseries", which is answered without reading beers.
+	 */
+	@Test
+	void testGetTopDispenseries_Query_Budget() throws Throwable {
+
+		long id = this.createBeerDispensery();
+
+		mockMvc.perform(this.tapEvent(id, "open", "2022-01-01T02:00:00")).andExpect(status().isAccepted());
+		mockMvc.perform(this.tapEvent(id, "close", "2022-01-01T12:00:00")).andExpect(status().isAccepted());
+
+		MvcResult mvcResult = QueryBudget.assertStatementsAtMost(1, () -> mockMvc.perform(this.authorized(get("/dispenser/top"))
+																					 .param("n", "5"))
+																					 .andExpect(status().isOk())
+																					 .andReturn());
+
+		assertEquals(id, objectMapper.readTree(mvcResult.getResponse().getContentAsString()).get(0).get("id").asLong());
+	}
+
+	/**
+	 * Creates a beer dispensery.
+	 *
+	 * @return	Id of the beer dispensery.
+	 */
+	private long createBeerDispensery() throws Exception {
+
+		MvcResult mvcResult = mockMvc.perform(this.authorized(post("/dispenser"))
+											 .contentType(MediaType.APPLICATION_JSON)
+											 .content("{\"flow_volume\":0.0653}"))
+									 .andExpect(status().isOk())
+									 .andReturn();
+
+		return objectMapper.readTree(mvcResult.getResponse().getContentAsString()).get("id").asLong();
+	}
+
+	/**
+	 * Builds a request opening/closing the tap of a beer dispensery.
+	 */
+	private MockHttpServletRequestBuilder tapEvent(long id, String status, String updatedAt) {
+
+		return this.authorized(put("/dispenser/" + id + "/status"))
+				   .contentType(MediaType.APPLICATION_JSON)
+				   .content(String.format("{\"status\":\"%s\",\"updated_at\":\"%s\"}", status, updatedAt));
+	}
+
+	private String tapEventJson(long id, String status, String updatedAt) {
+		return String.format("{\"dispenserId\":%d,\"status\":\"%s\",\"updated_at\":\"%s\"}", id, status, updatedAt);
+	}
+
+	private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder requestBuilder) {
+		return requestBuilder.header(HttpHeaders.AUTHORIZATION, authorization);
+	}
+}
@@ -0,0 +1,176 @@
+package com.beer.dispenser.apis.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.beer.dispenser.apis.entity.TapEventJournalPosition;
+import com.beer.dispenser.apis.repo.TapEventJournalPositionRepository;
+import com.beer.dispenser.apis.request.dto.TapEventRequestDTO;
+import com.beer.dispenser.apis.response.dto.TapEventResponseDTO;
+import com.beer.dispenser.apis.service.BeerService;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.journal.TapEventJournalFlusher TapEventJournalFlusher}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for applying events of the journal exactly once, 
+ * 	when the application stops between the transaction of a batch and the checkpoint of the journal, 
+ * 	and when journals of many instances store their applied positions in the same database.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.journal.TapEventJournalFlusher
+ * @since	17th October 2026
+ *
+ */
+public class TapEventJournalFlusherTest {
+
+	@TempDir
+	Path directory;
+	
+	@InjectMocks
+	private TapEventJournalFlusher tapEventJournalFlusher;
+	
+	@Mock
+	private BeerService beerService;
+	
+	@Mock
+	private TapEventJournalPositionRepository tapEventJournalPositionRepository;
+	
+	private final Map<String, TapEventJournalPosition> storedPositions = new ConcurrentHashMap<>();
+	
+	private final LocalDateTime updatedAt = LocalDateTime.of(2022, 12, 20, 20, 0, 0);
+	
+	/**
+	 * Used to initialize data before each test case execution.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(tapEventJournalFlusher, "batchSize", 10);
+		
+		when(beerService.updateBeerDispenseries(anyList(), any(Runnable.class))).thenAnswer(invocation -> {
+			List<TapEventRequestDTO> tapEventRequestDTOs = invocation.getArgument(0);
+			invocation.getArgument(1, Runnable.class).run();
+			return tapEventRequestDTOs.stream()
+					.map(event -> new TapEventResponseDTO(event.getDispenserId(), event.getStatus(), HttpStatus.ACCEPTED.value(), null))
+					.collect(Collectors.toList());
+		});
+		when(tapEventJournalPositionRepository.savePosition(anyString(), anyLong(), anyInt())).thenAnswer(invocation -> {
+			String journalId = invocation.getArgument(0);
+			storedPositions.put(journalId, new TapEventJournalPosition(journalId, invocation.getArgument(1), invocation.getArgument(2)));
+			return 1;
+		});
+		when(tapEventJournalPositionRepository.findById(anyString())).thenAnswer(invocation -> Optional.ofNullable(storedPositions.get(invocation.getArgument(0))));
+	}
+	
+	/**
+	 * Test case for testing "a batch committed to the database but not checkpointed in the journal is not applied again" functionality.
+	 */
+	@Test
+	void testFlush_Does_Not_Replay_Batch_Applied_Before_Checkpoint() throws IOException {
+		
+		TapEventJournal tapEventJournal = spy(new TapEventJournal(directory.toString(), 1024, true));
+		tapEventJournal.append(1L, "open", updatedAt);
+		tapEventJournal.append(1L, "close", updatedAt.plusSeconds(10));
+		doThrow(new IOException("crash before checkpoint")).when(tapEventJournal).commit(any());
+		ReflectionTestUtils.setField(tapEventJournalFlusher, "tapEventJournal", tapEventJournal);
+		
+		assertThrows(IOException.class, () -> tapEventJournalFlusher.flush());
+		tapEventJournal.close();
+		
+		TapEventJournal reopenedTapEventJournal = new TapEventJournal(directory.toString(), 1024, true);
+		assertEquals(tapEventJournal.getId(), reopenedTapEventJournal.getId());
+		TapEventJournalFlusher restartedTapEventJournalFlusher = this.createTapEventJournalFlusher(reopenedTapEventJournal);
+		
+		restartedTapEventJournalFlusher.flush();
+		
+		verify(beerService, times(1)).updateBeerDispenseries(anyList(), any(Runnable.class));
+		assertTrue(reopenedTapEventJournal.read(10).getEvents().isEmpty());
+		
+		reopenedTapEventJournal.append(2L, "open", updatedAt);
+		restartedTapEventJournalFlusher.flush();
+		
+		verify(beerService, times(2)).updateBeerDispenseries(anyList(), any(Runnable.class));
+		verify(tapEventJournalPositionRepository, times(2)).savePosition(eq(reopenedTapEventJournal.getId()), anyLong(), anyInt());
+	}
+	
+	/**
+	 * Test case for testing "journals of instances sharing a database don't skip events applied by each other" functionality.
+	 */
+	@Test
+	void testFlush_Keeps_Applied_Position_Per_Journal() throws IOException {
+		
+		TapEventJournal tapEventJournal = new TapEventJournal(directory.resolve("instance-1").toString(), 1024, true);
+		tapEventJournal.append(1L, "open", updatedAt);
+		tapEventJournal.append(1L, "close", updatedAt.plusSeconds(10));
+		
+		TapEventJournal otherTapEventJournal = new TapEventJournal(directory.resolve("instance-2").toString(), 1024, true);
+		otherTapEventJournal.append(2L, "open", updatedAt);
+		otherTapEventJournal.append(2L, "close", updatedAt.plusSeconds(10));
+		otherTapEventJournal.append(3L, "open", updatedAt);
+		assertNotEquals(tapEventJournal.getId(), otherTapEventJournal.getId());
+		
+		this.createTapEventJournalFlusher(tapEventJournal).flush();
+		this.createTapEventJournalFlusher(otherTapEventJournal).flush();
+		
+		ArgumentCaptor<List<TapEventRequestDTO>> tapEventRequestDTOs = ArgumentCaptor.forClass(List.class);
+		verify(beerService, times(2)).updateBeerDispenseries(tapEventRequestDTOs.capture(), any(Runnable.class));
+		assertEquals(2, tapEventRequestDTOs.getAllValues().get(0).size());
+		assertEquals(3, tapEventRequestDTOs.getAllValues().get(1).size());
+		assertEquals(2, storedPositions.size());
+		assertEquals(2 * TapEventJournal.RECORD_SIZE, storedPositions.get(tapEventJournal.getId()).getSegmentOffset());
+		assertEquals(3 * TapEventJournal.RECORD_SIZE, storedPositions.get(otherTapEventJournal.getId()).getSegmentOffset());
+	}
+	
+	/**
+	 * Create a flusher of a journal, as on startup of an instance, sharing the mocked service and repository.
+	 * 
+	 * @param	tapEventJournal
+	 * 			Journal to flush.
+	 * 
+	 * @return	{@code tapEventJournalFlusher}
+	 */
+	private TapEventJournalFlusher createTapEventJournalFlusher(TapEventJournal tapEventJournal) {
+		TapEventJournalFlusher tapEventJournalFlusher = new TapEventJournalFlusher();
+		ReflectionTestUtils.setField(tapEventJournalFlusher, "tapEventJournal", tapEventJournal);
+		ReflectionTestUtils.setField(tapEventJournalFlusher, "beerService", beerService);
+		ReflectionTestUtils.setField(tapEventJournalFlusher, "tapEventJournalPositionRepository", tapEventJournalPositionRepository);
+		ReflectionTestUtils.setField(tapEventJournalFlusher, "batchSize", 10);
+		
+		return tapEventJournalFlusher;
+	}
+}
@@ -0,0 +1,179 @@
+package com.beer.dispenser.apis.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.journal.TapEventJournal TapEventJournal}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for appending, reading, committing and replaying tap events of the journal.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.journal.TapEventJournal
+ * @since	17th October 2026
+ *
+ */
+public class TapEventJournalTest {
+
+	@TempDir
+	Path directory;
+	
+	private final LocalDateTime updatedAt = LocalDateTime.of(2022, 12, 20, 20, 0, 0, 123456789);
+	
+	/**
+	 * Test case for testing "events which are not committed are replayed after restart" functionality.
+	 */
+	@Test
+	void testRead_After_Restart_Replays_Uncommitted_Events() throws IOException {
+		
+		TapEventJournal tapEventJournal = new TapEventJournal(directory.toString(), 1024, false);
+		tapEventJournal.append(1L, "open", updatedAt);
+		tapEventJournal.append(1L, "close", updatedAt.plusSeconds(10));
+		tapEventJournal.append(2L, "pour", updatedAt);
+		
+		TapEventJournal.Batch batch = tapEventJournal.read(1);
+		assertEquals(1, batch.getEvents().size());
+		assertEquals(1L, batch.getEvents().get(0).getDispenserId());
+		assertEquals("open", batch.getEvents().get(0).getStatus());
+		assertEquals(updatedAt, batch.getEvents().get(0).getUpdated_at());
+		tapEventJournal.commit(batch);
+		tapEventJournal.close();
+		
+		TapEventJournal reopenedTapEventJournal = new TapEventJournal(directory.toString(), 1024, false);
+		batch = reopenedTapEventJournal.read(10);
+		
+		assertEquals(2, batch.getEvents().size());
+		assertEquals("close", batch.getEvents().get(0).getStatus());
+		assertEquals(updatedAt.plusSeconds(10), batch.getEvents().get(0).getUpdated_at());
+		assertNull(batch.getEvents().get(1).getStatus());
+		
+		reopenedTapEventJournal.commit(batch);
+		reopenedTapEventJournal.append(3L, "open", updatedAt);
+		assertEquals(3L, reopenedTapEventJournal.read(10).getEvents().get(0).getDispenserId());
+	}
+	
+	/**
+	 * Test case for testing "events span many segments and applied segments are deleted" functionality.
+	 */
+	@Test
+	void testCommit_Deletes_Applied_Segments() throws IOException {
+		
+		TapEventJournal tapEventJournal = new TapEventJournal(directory.toString(), TapEventJournal.RECORD_SIZE * 2, false);
+		for(long i=0;i<5;++i) {
+			tapEventJournal.append(i, "open", updatedAt);
+		}
+		assertEquals(3, this.countSegments());
+		
+		TapEventJournal.Batch batch = tapEventJournal.read(10);
+		assertEquals(5, batch.getEvents().size());
+		for(int i=0;i<5;++i) {
+			assertEquals(Long.valueOf(i), batch.getEvents().get(i).getDispenserId());
+		}
+		
+		tapEventJournal.commit(batch);
+		assertEquals(1, this.countSegments());
+		assertTrue(tapEventJournal.read(10).getEvents().isEmpty());
+	}
+	
+	/**
+	 * Test case for testing "a partly written record is not replayed and is overwritten" functionality.
+	 */
+	@Test
+	void testRead_Ignores_Torn_Record() throws IOException {
+		
+		TapEventJournal tapEventJournal = new TapEventJournal(directory.toString(), 1024, true);
+		tapEventJournal.append(1L, "open", updatedAt);
+		tapEventJournal.append(2L, "open", updatedAt);
+		tapEventJournal.close();
+		
+		try(Stream<Path> segments = Files.list(directory).filter(path -> path.getFileName().toString().startsWith("segment-"));
+			RandomAccessFile segment = new RandomAccessFile(segments.findFirst().get().toFile(), "rw")) {
+			segment.seek(TapEventJournal.RECORD_SIZE + 6);
+			segment.write(0x7f);
+		}
+		
+		TapEventJournal reopenedTapEventJournal = new TapEventJournal(directory.toString(), 1024, true);
+		assertEquals(1, reopenedTapEventJournal.read(10).getEvents().size());
+		
+		reopenedTapEventJournal.append(3L, "close", updatedAt);
+		TapEventJournal.Batch batch = reopenedTapEventJournal.read(10);
+		assertEquals(2, batch.getEvents().size());
+		assertEquals(3L, batch.getEvents().get(1).getDispenserId());
+	}
+	
+	/**
+	 * Test case for testing "a corrupted record of a segment before the last one is skipped" functionality.
+	 */
+	@Test
+	void testRead_Skips_Corrupted_Record_Of_Full_Segment() throws IOException {
+		
+		TapEventJournal tapEventJournal = new TapEventJournal(directory.toString(), TapEventJournal.RECORD_SIZE * 2, true);
+		for(long i=0;i<5;++i) {
+			tapEventJournal.append(i, "open", updatedAt);
+		}
+		tapEventJournal.close();
+		
+		try(Stream<Path> segments = Files.list(directory).filter(path -> path.getFileName().toString().startsWith("segment-")).sorted();
+			RandomAccessFile segment = new RandomAccessFile(segments.findFirst().get().toFile(), "rw")) {
+			segment.seek(TapEventJournal.RECORD_SIZE + 6);
+			segment.write(0x7f);
+		}
+		
+		TapEventJournal reopenedTapEventJournal = new TapEventJournal(directory.toString(), TapEventJournal.RECORD_SIZE * 2, true);
+		TapEventJournal.Batch batch = reopenedTapEventJournal.read(10);
+		
+		assertEquals(4, batch.getEvents().size());
+		assertEquals(0L, batch.getEvents().get(0).getDispenserId());
+		assertEquals(2L, batch.getEvents().get(1).getDispenserId());
+		assertEquals(4L, batch.getEvents().get(3).getDispenserId());
+	}
+	
+	/**
+	 * Test case for testing "events after a corrupted record of the last segment are not overwritten" functionality.
+	 */
+	@Test
+	void testAppend_After_Corrupted_Record_Keeps_Later_Events() throws IOException {
+		
+		TapEventJournal tapEventJournal = new TapEventJournal(directory.toString(), 1024, true);
+		for(long i=0;i<3;++i) {
+			tapEventJournal.append(i, "open", updatedAt);
+		}
+		tapEventJournal.close();
+		
+		try(Stream<Path> segments = Files.list(directory).filter(path -> path.getFileName().toString().startsWith("segment-"));
+			RandomAccessFile segment = new RandomAccessFile(segments.findFirst().get().toFile(), "rw")) {
+			segment.seek(TapEventJournal.RECORD_SIZE + 6);
+			segment.write(0x7f);
+		}
+		
+		TapEventJournal reopenedTapEventJournal = new TapEventJournal(directory.toString(), 1024, true);
+		reopenedTapEventJournal.append(3L, "close", updatedAt);
+		TapEventJournal.Batch batch = reopenedTapEventJournal.read(10);
+		
+		assertEquals(3, batch.getEvents().size());
+		assertEquals(0L, batch.getEvents().get(0).getDispenserId());
+		assertEquals(2L, batch.getEvents().get(1).getDispenserId());
+		assertEquals(3L, batch.getEvents().get(2).getDispenserId());
+	}
+	
+	private long countSegments() throws IOException {
+		
+		try(Stream<Path> paths = Files.list(directory)) {
+			return paths.filter(path -> path.getFileName().toString().startsWith("segment-")).count();
+		}
+	}
+}
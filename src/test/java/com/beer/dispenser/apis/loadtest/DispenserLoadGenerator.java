@@ -0,0 +1,547 @@
+package com.beer.dispenser.apis.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.beer.dispenser.apis.BeerDispenserApiApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Open-loop load generator of the beer dispensery endpoints, reporting latency percentiles per endpoint with HdrHistogram.
+ * 
+ * <p>
+ * 	Unless {@code loadtest.base-url} is set, the application is started on a random port with H2 in MySQL mode in place of MySQL. 
+ * 	A JWT is obtained from {@code /security/authenticate}, {@code loadtest.dispensers} beer dispenseries are created, 
+ * 	then requests are sent at {@code loadtest.rate} per second for {@code loadtest.duration-seconds}, 
+ * 	choosing between create, status update and spending with the weights of {@code loadtest.mix}.
+ * </p>
+ * 
+ * <p>
+ * 	Requests are scheduled at fixed intended times whatever the latency of earlier requests, and response time is measured 
+ * 	from the intended time, so a stalled server is charged for the requests it delayed (coordinated omission correction). 
+ * 	Service time, measured from when a request is actually sent, is reported too. Requests of the first 
+ * 	{@code loadtest.warmup-seconds} are not recorded. Percentile distributions are written to {@code loadtest.output-directory}.
+ * </p>
+ * 
+ * <p>
+ * 	Run with: {@code mvn -Ploadtest verify -Dloadtest.rate=500 -Dloadtest.mix=create=1,status=4,spending=5}
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.controller.BeerController
+ * @since	17th October 2026
+ *
+ */
+public class DispenserLoadGenerator {
+
+	private static final String CONTEXT_PATH = "/rviewer/beer-tap-dispenser/90004725";
+	
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+	
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+	
+	private static final DateTimeFormatter UPDATED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+	
+	/**
+	 * Endpoints driven by the load generator.
+	 */
+	enum Endpoint {
+		CREATE("POST /dispenser"),
+		STATUS("PUT /dispenser/{id}/status"),
+		SPENDING("GET /dispenser/{id}/spending");
+		
+		private final String description;
+		
+		Endpoint(String description) {
+			this.description = description;
+		}
+	}
+	
+	private final String baseUrl;
+	
+	private final Map<Endpoint, Integer> weights;
+	
+	private final int totalWeight;
+	
+	private final Map<Endpoint, EndpointStats> endpointStats = new EnumMap<>(Endpoint.class);
+	
+	private final List<Long> dispenserIds = new CopyOnWriteArrayList<>();
+	
+	private final Map<Long, AtomicBoolean> openDispensers = new ConcurrentHashMap<>();
+	
+	/**
+	 * Seconds added to a fixed start time for {@code updated_at} of status updates, so every update is later than the previous one.
+	 */
+	private final AtomicLong clock = new AtomicLong();
+	
+	private final LocalDateTime startTime = LocalDateTime.of(2022, 1, 1, 0, 0);
+	
+	private volatile String jsonWebToken;
+	
+	/**
+	 * Create a load generator.
+	 * 
+	 * @param	baseUrl
+	 * 			URL of the application, including its context path.
+	 * 
+	 * @param	weights
+	 * 			Weight of every endpoint in the mix of requests.
+	 */
+	DispenserLoadGenerator(String baseUrl, Map<Endpoint, Integer> weights) {
+		this.baseUrl = baseUrl;
+		this.weights = weights;
+		this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+		
+		for(Endpoint endpoint : Endpoint.values()) {
+			endpointStats.put(endpoint, new EndpointStats());
+		}
+	}
+	
+	/**
+	 * Start the application unless an external one is given, run the load and print the report.
+	 * 
+	 * @param	args
+	 * 			Not used, configuration is read from {@code loadtest.*} system properties.
+	 * 
+	 * @throws	Exception
+	 * 			If the application cannot be started or authenticated against.
+	 */
+	public static void main(String[] args) throws Exception {
+		
+		int rate = Integer.getInteger("loadtest.rate", 200);
+		int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+		int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+		int connections = Integer.getInteger("loadtest.connections", 64);
+		int dispensers = Integer.getInteger("loadtest.dispensers", 100);
+		String outputDirectory = System.getProperty("loadtest.output-directory", "target/loadtest");
+		String baseUrl = System.getProperty("loadtest.base-url");
+		String userName = System.getProperty("loadtest.user-name", "Sanchay");
+		String password = System.getProperty("loadtest.password", "Sanchay@1234");
+		
+		ConfigurableApplicationContext applicationContext = null;
+		
+		if(baseUrl == null || baseUrl.isEmpty()) {
+			applicationContext = startApplication(password);
+			baseUrl = "http://localhost:" + applicationContext.getEnvironment().getProperty("local.server.port") + CONTEXT_PATH;
+		}
+		
+		try {
+			DispenserLoadGenerator dispenserLoadGenerator = new DispenserLoadGenerator(baseUrl, parseMix(System.getProperty("loadtest.mix", "create=1,status=4,spending=5")));
+			
+			dispenserLoadGenerator.authenticate(userName, password);
+			
+			for(int i = 0; i < dispensers; i++) {
+				dispenserLoadGenerator.createDispenser();
+			}
+			
+			dispenserLoadGenerator.run(rate, warmupSeconds, durationSeconds, connections);
+			dispenserLoadGenerator.report(System.out, rate, durationSeconds, new File(outputDirectory));
+		} finally {
+			if(applicationContext != null) {
+				applicationContext.close();
+			}
+		}
+	}
+	
+	/**
+	 * Start the application on a random port with an in-memory database.
+	 * 
+	 * @param	password
+	 * 			Password of the bootstrap user account.
+	 * 
+	 * @return	Context of the started application.
+	 */
+	private static ConfigurableApplicationContext startApplication(String password) {
+		
+		// devtools would restart the application in another class loader, which is not wanted for a measurement
+		System.setProperty("spring.devtools.restart.enabled", "false");
+		
+		return new SpringApplicationBuilder(BeerDispenserApiApplication.class)
+				.web(WebApplicationType.SERVLET)
+				.run("--server.port=0",
+					 "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_ON_EXIT=FALSE",
+					 "--spring.datasource.username=sa",
+					 "--spring.datasource.password=",
+					 "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+					 "--spring.jpa.hibernate.ddl-auto=create-drop",
+					 "--spring.jpa.show-sql=false",
+					 "--spring.jpa.properties.hibernate.format_sql=false",
+					 "--beer.dispenser.jwt.access-token.ttl-seconds=86400",
+					 "--beer.dispenser.security.bootstrap-user.password=" + password,
+					 "--server.tomcat.threads.max=" + Integer.getInteger("loadtest.server-threads", 200),
+					 "--logging.level.root=WARN");
+	}
+	
+	/**
+	 * Parse weights of endpoints, e.g. {@code create=1,status=4,spending=5}.
+	 * 
+	 * @param	mix
+	 * 			Comma separated {@code endpoint=weight}.
+	 * 
+	 * @return	Weight by endpoint.
+	 */
+	static Map<Endpoint, Integer> parseMix(String mix) {
+		
+		Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+		
+		for(String entry : mix.split(",")) {
+			String[] endpointAndWeight = entry.trim().split("=");
+			weights.put(Endpoint.valueOf(endpointAndWeight[0].trim().toUpperCase()), Integer.parseInt(endpointAndWeight[1].trim()));
+		}
+		
+		return weights;
+	}
+	
+	/**
+	 * Send requests at {@code rate} per second until warmup and measured duration are over, and wait for the last responses.
+	 * 
+	 * @param	rate
+	 * 			Requests per second.
+	 * 
+	 * @param	warmupSeconds
+	 * 			Seconds during which requests are sent but not recorded.
+	 * 
+	 * @param	durationSeconds
+	 * 			Seconds during which requests are recorded.
+	 * 
+	 * @param	connections
+	 * 			Number of requests in flight at most, later requests wait and are charged for waiting.
+	 * 
+	 * @throws	InterruptedException
+	 * 			If interrupted while waiting for the last responses.
+	 */
+	void run(int rate, int warmupSeconds, int durationSeconds, int connections) throws InterruptedException {
+		
+		ExecutorService executorService = Executors.newFixedThreadPool(connections);
+		
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+		long start = System.nanoTime();
+		long recordFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+		long end = recordFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+		
+		for(long i = 0; ; i++) {
+			long intendedStart = start + i * intervalNanos;
+			
+			if(intendedStart >= end) {
+				break;
+			}
+			
+			long wait = intendedStart - System.nanoTime();
+			
+			if(wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			
+			Endpoint endpoint = this.nextEndpoint();
+			boolean recorded = intendedStart >= recordFrom;
+			
+			executorService.execute(() -> this.send(endpoint, intendedStart, recorded));
+		}
+		
+		executorService.shutdown();
+		executorService.awaitTermination(1, TimeUnit.MINUTES);
+	}
+	
+	/**
+	 * Choose the endpoint of the next request according to the weights.
+	 * 
+	 * @return	Endpoint.
+	 */
+	private Endpoint nextEndpoint() {
+		
+		int choice = ThreadLocalRandom.current().nextInt(totalWeight);
+		
+		for(Map.Entry<Endpoint, Integer> weight : weights.entrySet()) {
+			choice -= weight.getValue();
+			
+			if(choice < 0) {
+				return weight.getKey();
+			}
+		}
+		
+		throw new IllegalStateException("No endpoint has a weight");
+	}
+	
+	/**
+	 * Send a request to an endpoint and record its response time and service time.
+	 * 
+	 * @param	endpoint
+	 * 			Endpoint to send request to.
+	 * 
+	 * @param	intendedStart
+	 * 			Time the request was scheduled at, in {@code System.nanoTime()}.
+	 * 
+	 * @param	recorded
+	 * 			Whether the request is recorded, i.e. not sent during warmup.
+	 */
+	private void send(Endpoint endpoint, long intendedStart, boolean recorded) {
+		
+		long actualStart = System.nanoTime();
+		int statusCode;
+		
+		try {
+			switch(endpoint) {
+				case CREATE:
+					statusCode = this.createDispenser();
+					break;
+				case STATUS:
+					statusCode = this.updateStatus(this.randomDispenserId());
+					break;
+				default:
+					statusCode = this.request("GET", "/dispenser/" + this.randomDispenserId() + "/spending", null).statusCode;
+			}
+		} catch (IOException e) {
+			statusCode = -1;
+		}
+		
+		long finished = System.nanoTime();
+		
+		if(recorded) {
+			endpointStats.get(endpoint).record(statusCode, 
+					TimeUnit.NANOSECONDS.toMicros(finished - intendedStart), TimeUnit.NANOSECONDS.toMicros(finished - actualStart));
+		}
+	}
+	
+	/**
+	 * Get a JWT with credentials.
+	 * 
+	 * @param	userName
+	 * 			User name.
+	 * 
+	 * @param	password
+	 * 			Password.
+	 * 
+	 * @throws	IOException
+	 * 			If authentication fails.
+	 */
+	void authenticate(String userName, String password) throws IOException {
+		
+		Map<String, String> authenticationRequest = new HashMap<>();
+		authenticationRequest.put("userName", userName);
+		authenticationRequest.put("password", password);
+		
+		Response response = this.request("POST", "/security/authenticate", OBJECT_MAPPER.writeValueAsString(authenticationRequest));
+		
+		if(response.statusCode != 200) {
+			throw new IOException("Authentication failed with status " + response.statusCode + " : " + response.body);
+		}
+		
+		jsonWebToken = (String) OBJECT_MAPPER.readValue(response.body, Map.class).get("jsonWebToken");
+	}
+	
+	/**
+	 * Create a beer dispensery and remember its id.
+	 * 
+	 * @return	Status code.
+	 * 
+	 * @throws	IOException
+	 * 			If request fails.
+	 */
+	private int createDispenser() throws IOException {
+		
+		Response response = this.request("POST", "/dispenser", "{\"flow_volume\":0.0653}");
+		
+		if(response.statusCode == 200) {
+			Long id = ((Number) OBJECT_MAPPER.readValue(response.body, Map.class).get("id")).longValue();
+			openDispensers.put(id, new AtomicBoolean());
+			dispenserIds.add(id);
+		}
+		
+		return response.statusCode;
+	}
+	
+	/**
+	 * Open the tap of a closed beer dispensery or close the tap of an open one.
+	 * 
+	 * @param	id
+	 * 			Id of beer dispensery.
+	 * 
+	 * @return	Status code.
+	 * 
+	 * @throws	IOException
+	 * 			If request fails.
+	 */
+	private int updateStatus(Long id) throws IOException {
+		
+		AtomicBoolean open = openDispensers.get(id);
+		boolean opening = !open.get();
+		String updatedAt = UPDATED_AT_FORMATTER.format(startTime.plusSeconds(clock.incrementAndGet()));
+		
+		Response response = this.request("PUT", "/dispenser/" + id + "/status", 
+				"{\"status\":\"" + (opening ? "open" : "close") + "\",\"updated_at\":\"" + updatedAt + "\"}");
+		
+		if(response.statusCode == 202) {
+			open.set(opening);
+		}
+		
+		return response.statusCode;
+	}
+	
+	private Long randomDispenserId() {
+		return dispenserIds.get(ThreadLocalRandom.current().nextInt(dispenserIds.size()));
+	}
+	
+	/**
+	 * Send a request with the JWT and read the whole response, so the connection is reused.
+	 * 
+	 * @param	method
+	 * 			HTTP method.
+	 * 
+	 * @param	path
+	 * 			Path after the context path.
+	 * 
+	 * @param	body
+	 * 			JSON body, {@code null} for none.
+	 * 
+	 * @return	Status code and body.
+	 * 
+	 * @throws	IOException
+	 * 			If request fails.
+	 */
+	private Response request(String method, String path, String body) throws IOException {
+		
+		HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+		connection.setRequestMethod(method);
+		
+		if(jsonWebToken != null) {
+			connection.setRequestProperty("Authorization", "Bearer " + jsonWebToken);
+		}
+		
+		if(body != null) {
+			connection.setDoOutput(true);
+			connection.setRequestProperty("Content-Type", "application/json");
+			
+			try(OutputStream outputStream = connection.getOutputStream()) {
+				outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		
+		int statusCode = connection.getResponseCode();
+		InputStream inputStream = statusCode < 400 ? connection.getInputStream() : connection.getErrorStream();
+		ByteArrayOutputStream responseBody = new ByteArrayOutputStream();
+		
+		if(inputStream != null) {
+			try(InputStream in = inputStream) {
+				byte[] buffer = new byte[8192];
+				int read;
+				
+				while((read = in.read(buffer)) != -1) {
+					responseBody.write(buffer, 0, read);
+				}
+			}
+		}
+		
+		return new Response(statusCode, new String(responseBody.toByteArray(), StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Print percentiles of every endpoint, and write their percentile distributions.
+	 * 
+	 * @param	out
+	 * 			Stream of the report.
+	 * 
+	 * @param	rate
+	 * 			Requests per second.
+	 * 
+	 * @param	durationSeconds
+	 * 			Seconds during which requests were recorded.
+	 * 
+	 * @param	outputDirectory
+	 * 			Directory of the percentile distributions, one {@code .hgrm} file per endpoint and time.
+	 * 
+	 * @throws	IOException
+	 * 			If percentile distributions cannot be written.
+	 */
+	void report(PrintStream out, int rate, int durationSeconds, File outputDirectory) throws IOException {
+		
+		outputDirectory.mkdirs();
+		out.printf("%nTarget rate %d/s for %d s, latency in ms (response time includes waiting behind late requests, service time does not)%n", rate, durationSeconds);
+		out.printf("%-30s %-9s %8s %9s %9s %9s %9s %9s %9s  %s%n", "Endpoint", "Latency", "Count", "p50", "p90", "p99", "p99.9", "p99.99", "Max", "Status codes");
+		
+		for(Endpoint endpoint : Endpoint.values()) {
+			EndpointStats stats = endpointStats.get(endpoint);
+			
+			this.printPercentiles(out, endpoint.description, "response", stats.responseTime, stats.statusCodes.toString());
+			this.printPercentiles(out, "", "service", stats.serviceTime, "");
+			
+			this.writeDistribution(new File(outputDirectory, endpoint.name().toLowerCase() + "-response-time.hgrm"), stats.responseTime);
+			this.writeDistribution(new File(outputDirectory, endpoint.name().toLowerCase() + "-service-time.hgrm"), stats.serviceTime);
+		}
+	}
+	
+	private void printPercentiles(PrintStream out, String endpoint, String latency, Histogram histogram, String statusCodes) {
+		out.printf("%-30s %-9s %8d %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n", endpoint, latency, histogram.getTotalCount(),
+				histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0, 
+				histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0, 
+				histogram.getValueAtPercentile(99.99) / 1000.0, histogram.getMaxValue() / 1000.0, statusCodes);
+	}
+	
+	private void writeDistribution(File file, Histogram histogram) throws IOException {
+		try(PrintStream printStream = new PrintStream(new FileOutputStream(file), false, StandardCharsets.UTF_8.name())) {
+			histogram.outputPercentileDistribution(printStream, 1000.0);
+		}
+	}
+	
+	/**
+	 * Latencies in microseconds and number of responses by status code of an endpoint, {@code -1} for a failed request.
+	 */
+	private static class EndpointStats {
+		
+		private final Histogram responseTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+		
+		private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+		
+		private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+		
+		private void record(int statusCode, long responseTimeMicros, long serviceTimeMicros) {
+			responseTime.recordValue(Math.min(responseTimeMicros, HIGHEST_TRACKABLE_MICROS));
+			serviceTime.recordValue(Math.min(serviceTimeMicros, HIGHEST_TRACKABLE_MICROS));
+			statusCodes.computeIfAbsent(statusCode, key -> new LongAdder()).increment();
+		}
+	}
+	
+	/**
+	 * Status code and body of a response.
+	 */
+	private static class Response {
+		
+		private final int statusCode;
+		
+		private final String body;
+		
+		private Response(int statusCode, String body) {
+			this.statusCode = statusCode;
+			this.body = body;
+		}
+	}
+}
@@ -0,0 +1,164 @@
+package com.beer.dispenser.apis.service.impl.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.beer.dispenser.apis.entity.UserAccount;
+import com.beer.dispenser.apis.exception.BadRequestException;
+import com.beer.dispenser.apis.exception.EntityNotFoundException;
+import com.beer.dispenser.apis.models.AuthenticationResponse;
+import com.beer.dispenser.apis.models.JwtPrincipal;
+import com.beer.dispenser.apis.models.RefreshTokenGrant;
+import com.beer.dispenser.apis.models.RefreshTokenRequest;
+import com.beer.dispenser.apis.repo.UserAccountRepository;
+import com.beer.dispenser.apis.service.TokenRevocationService;
+import com.beer.dispenser.apis.service.impl.AuthServiceImpl;
+import com.beer.dispenser.apis.utils.Jwtauthorizationfilter;
+import com.beer.dispenser.apis.utils.RefreshTokenStore;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.service.impl.AuthServiceImpl AuthServiceImpl}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for refreshing and revoking a JWT and its family of refresh tokens.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.AuthServiceImpl
+ * @since	17th October 2026
+ *
+ */
+public class AuthServiceImplTest {
+
+	@InjectMocks
+	private AuthServiceImpl authService;
+	
+	@Mock
+	private Jwtauthorizationfilter jwtauthorizationfilter;
+	
+	@Mock
+	private RefreshTokenStore refreshTokenStore;
+	
+	@Mock
+	private TokenRevocationService tokenRevocationService;
+	
+	@Mock
+	private UserAccountRepository userAccountRepository;
+	
+	private RefreshTokenGrant refreshTokenGrant;
+	
+	private UserAccount userAccount;
+	
+	/**
+	 * Used to initialize data before each test case execution.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		
+		refreshTokenGrant = new RefreshTokenGrant("Sanchay", Collections.singletonList("ROLE_BARTENDER"), "family", Instant.now().plusSeconds(60));
+		
+		userAccount = new UserAccount();
+		userAccount.setUserName("Sanchay");
+		userAccount.setEnabled(true);
+		
+		when(refreshTokenStore.redeem("refresh-token")).thenReturn(refreshTokenGrant);
+		when(refreshTokenStore.issue(any(RefreshTokenGrant.class))).thenReturn("rotated-refresh-token");
+		when(jwtauthorizationfilter.generateToken(anyString(), anyList(), anyString())).thenReturn("json-web-token");
+		when(refreshTokenStore.getTtlSeconds()).thenReturn(60L);
+	}
+	
+	/**
+	 * Test case for testing that a refresh token of an enabled user is rotated within the same grant.
+	 */
+	@Test
+	void testRefreshAuthenticationToken() throws Exception {
+		
+		when(userAccountRepository.findByUserName("Sanchay")).thenReturn(Optional.of(userAccount));
+		
+		AuthenticationResponse authenticationResponse = authService.refreshAuthenticationToken(new RefreshTokenRequest("refresh-token"));
+		
+		assertEquals("json-web-token", authenticationResponse.getJsonWebToken());
+		assertEquals("rotated-refresh-token", authenticationResponse.getRefreshToken());
+		verify(refreshTokenStore).issue(refreshTokenGrant);
+		verify(jwtauthorizationfilter).generateToken("Sanchay", refreshTokenGrant.getAuthorities(), "family");
+	}
+	
+	/**
+	 * Test case for testing that a refresh token of a family revoked with one of its JWT is rejected.
+	 */
+	@Test
+	void testRefreshAuthenticationToken_When_Family_Is_Revoked() {
+		
+		when(userAccountRepository.findByUserName("Sanchay")).thenReturn(Optional.of(userAccount));
+		when(tokenRevocationService.isRevoked("family")).thenReturn(true);
+		
+		assertThrows(EntityNotFoundException.class, () -> authService.refreshAuthenticationToken(new RefreshTokenRequest("refresh-token")));
+		verify(refreshTokenStore, never()).issue(any(RefreshTokenGrant.class));
+	}
+	
+	/**
+	 * Test case for testing that a refresh token of a user disabled or deleted after login is rejected.
+	 */
+	@Test
+	void testRefreshAuthenticationToken_When_User_Is_Disabled() {
+		
+		userAccount.setEnabled(false);
+		when(userAccountRepository.findByUserName("Sanchay")).thenReturn(Optional.of(userAccount));
+		
+		assertThrows(EntityNotFoundException.class, () -> authService.refreshAuthenticationToken(new RefreshTokenRequest("refresh-token")));
+		
+		when(refreshTokenStore.redeem("deleted-user-refresh-token")).thenReturn(refreshTokenGrant);
+		when(userAccountRepository.findByUserName("Sanchay")).thenReturn(Optional.empty());
+		
+		assertThrows(EntityNotFoundException.class, () -> authService.refreshAuthenticationToken(new RefreshTokenRequest("deleted-user-refresh-token")));
+		verify(refreshTokenStore, never()).issue(any(RefreshTokenGrant.class));
+	}
+	
+	/**
+	 * Test case for testing that revoking a JWT which cannot be parsed is a bad request, not a server error.
+	 */
+	@Test
+	void testRevokeAuthenticationToken_When_Principal_Is_Missing() {
+		
+		when(jwtauthorizationfilter.parsePrincipal("json-web-token")).thenReturn(null);
+		
+		assertThrows(BadRequestException.class, () -> authService.revokeAuthenticationToken("json-web-token", null));
+		verify(tokenRevocationService, never()).revoke(any(JwtPrincipal.class));
+	}
+	
+	/**
+	 * Test case for testing that revoking a JWT revokes the family of refresh tokens it was issued with.
+	 */
+	@Test
+	void testRevokeAuthenticationToken_Revokes_Family() {
+		
+		JwtPrincipal jwtPrincipal = new JwtPrincipal("token", "Sanchay", new Date(System.currentTimeMillis() + 60000), 
+				Collections.emptyList(), "family");
+		when(jwtauthorizationfilter.parsePrincipal("json-web-token")).thenReturn(jwtPrincipal);
+		
+		authService.revokeAuthenticationToken("json-web-token", null);
+		
+		verify(tokenRevocationService).revoke(jwtPrincipal);
+		verify(tokenRevocationService).revoke(eq("family"), any(Date.class));
+	}
+}
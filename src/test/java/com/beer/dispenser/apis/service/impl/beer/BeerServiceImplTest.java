@@ -3,21 +3,32 @@ package com.beer.dispenser.apis.service.impl.beer;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,20 +36,47 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.context.MessageSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.beer.dispenser.apis.constants.BeerPriceConstants;
+import com.beer.dispenser.apis.constants.ErrorMessageConstants;
+import com.beer.dispenser.apis.constants.MetricConstants;
 import com.beer.dispenser.apis.entity.Beer;
+import com.beer.dispenser.apis.entity.BeerAmountBackfill;
 import com.beer.dispenser.apis.entity.BeerUsage;
+import com.beer.dispenser.apis.exception.BadRequestException;
 import com.beer.dispenser.apis.exception.ConflictException;
 import com.beer.dispenser.apis.exception.EntityNotFoundException;
 import com.beer.dispenser.apis.mapper.BeerMapper;
+import com.beer.dispenser.apis.models.DispenserMetadata;
+import com.beer.dispenser.apis.repo.BeerAmountBackfillRepository;
 import com.beer.dispenser.apis.repo.BeerRepository;
 import com.beer.dispenser.apis.repo.BeerUsageRepository;
 import com.beer.dispenser.apis.request.dto.BeerRequestDTO;
+import com.beer.dispenser.apis.request.dto.TapEventRequestDTO;
 import com.beer.dispenser.apis.request.dto.UpdateBeerRequestDTO;
 import com.beer.dispenser.apis.response.dto.BeerAndBeerUsageResponseDTO;
 import com.beer.dispenser.apis.response.dto.BeerResponseDTO;
+import com.beer.dispenser.apis.response.dto.DispenserSpendingResponseDTO;
+import com.beer.dispenser.apis.response.dto.TapEventResponseDTO;
 import com.beer.dispenser.apis.service.BeerService;
+import com.beer.dispenser.apis.service.DispenserRankingService;
+import com.beer.dispenser.apis.service.SpendingRollupService;
 import com.beer.dispenser.apis.service.impl.BeerServiceImpl;
+import com.beer.dispenser.apis.utils.DispenserLocks;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Class containing JUnit Jupiter/5 test cases for 
@@ -68,9 +106,56 @@ public class BeerServiceImplTest {
 	@Mock
 	private BeerUsageRepository beerUsageRepository;
 	
+	@Mock
+	private BeerAmountBackfillRepository beerAmountBackfillRepository;
+	
+	@Mock
+	private MessageSource messageSource;
+	
+	@Mock
+	private SpendingRollupService spendingRollupService;
+	
+	@Mock
+	private DispenserRankingService dispenserRankingService;
+	
 	@Spy
 	private BeerMapper beerMapper = BeerMapper.BEER;
 	
+	@Spy
+	private DispenserLocks dispenserLocks = new DispenserLocks(16);
+	
+	@Spy
+	private ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	
+	@Mock
+	private EntityManager entityManager;
+	
+	@Spy
+	private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	
+	@Spy
+	private TransactionTemplate transactionTemplate = new TransactionTemplate(new AbstractPlatformTransactionManager() {
+		
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	});
+	
 	private Beer beer;
 	
 	private BeerUsage beerUsage;
@@ -166,11 +251,9 @@ public class BeerServiceImplTest {
 		 UpdateBeerRequestDTO updateBeerRequestDTO = new UpdateBeerRequestDTO();
 		 updateBeerRequestDTO = this.updateBeerDispensers();
 		
-		 when(beerRepository.findById(anyLong()))
+		 when(beerRepository.findWithOpenBeerUsageById(anyLong()))
 						  .thenReturn(Optional.of(beer));
 		 List<BeerUsage> beerUsages = this.getBeerUsages();
-		 when(beerUsageRepository.findByBeer(any(Beer.class)))
-								.thenReturn(beerUsages);
 		 when(beerUsageRepository.save(any(BeerUsage.class)))
 								.thenReturn(beerUsages.get(0));
 		 
@@ -179,12 +262,13 @@ public class BeerServiceImplTest {
 		 assertDoesNotThrow(() -> new ConflictException());
 		 assertDoesNotThrow(() -> new Exception());
 
-		 assertEquals(beer, beerUsages.get(0).getBeer());
-		 assertNotNull(beerUsages.get(0).getOpenedAt());
-		 assertNotNull(beerUsages.get(0).getClosedAt());
-         assertNotNull(beerUsages.get(0).getId());
+		 assertNotNull(beer.getOpenBeerUsage());
+		 assertEquals(beer, beer.getOpenBeerUsage().getBeer());
+		 assertEquals(updateBeerRequestDTO.getUpdated_at(), beer.getOpenBeerUsage().getOpenedAt());
+		 assertNull(beer.getOpenBeerUsage().getClosedAt());
 		 
 		 verify(beerUsageRepository, times(1)).save(any(BeerUsage.class));		
+		 verify(beerUsageRepository, times(0)).findByBeer(any(Beer.class));
 	}
 
 	/**
@@ -201,7 +285,7 @@ public class BeerServiceImplTest {
 	void testUpdateBeerDispensery_When_Dispensery_Not_Exists() {
 	
 		 Long beerId = -1L;
-		 when(beerRepository.findById(anyLong()))
+		 when(beerRepository.findWithOpenBeerUsageById(anyLong()))
 							.thenReturn(Optional.empty());
 		
 		 UpdateBeerRequestDTO updateBeerRequestDTO = this.updateBeerDispensers();
@@ -226,14 +310,13 @@ public class BeerServiceImplTest {
 	void testUpdateBeerDispensery_When_Beer_Not_Exists_And_Status_Is_Close() {
 		 
 		 Long beerId = 2L;
-		 when(beerRepository.findById(anyLong()))
+		 when(beerRepository.findWithOpenBeerUsageById(anyLong()))
 							.thenReturn(Optional.of(beer));
 		
 		 UpdateBeerRequestDTO updateBeerRequestDTO = this.updateBeerDispensers();
 		 updateBeerRequestDTO.setStatus("close");
-		 List<BeerUsage> beerUsage = new ArrayList<>();
-		 when(beerUsageRepository.findByBeer(any(Beer.class)))
-		 						 .thenReturn(beerUsage);
+		 when(beerUsageRepository.existsByBeer(any(Beer.class)))
+		 						 .thenReturn(false);
 		 assertThrows(ConflictException.class,
 				 ()->beerService.updateBeerDispensery(anyLong(), updateBeerRequestDTO)
 				 );
@@ -255,14 +338,13 @@ public class BeerServiceImplTest {
 		
 		Long beerId = 2L;
 		
-		when(beerRepository.findById(anyLong()))
+		when(beerRepository.findWithOpenBeerUsageById(anyLong()))
 						   .thenReturn(Optional.of(beer));
 		UpdateBeerRequestDTO updateBeerRequestDTO = this.updateBeerDispensers();
-		 List<BeerUsage> beerUsages = this.getBeerUsages();
+		 this.getBeerUsages();
 
 		 beerUsage.setClosedAt(null);
-		when(beerUsageRepository.findByBeer(any(Beer.class)))
-								.thenReturn(beerUsages);
+		 beer.setOpenBeerUsage(beerUsage);
 		assertThrows(ConflictException.class,
 				 ()->beerService.updateBeerDispensery(anyLong(), updateBeerRequestDTO)
 				 );
@@ -270,6 +352,34 @@ public class BeerServiceImplTest {
 
 	}
 	
+	/**
+	 * Test case for testing "rejected update of a beer dispensery is counted by its error message key" functionality.
+	 *
+	 * <p>
+	 * 	This test case is for testing the conflict counter recorded when status of beer tap is same as previous status.
+	 *
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#updateBeerDispensery updateBeerDispensery}. 
+	 * </p>
+	 */
+	@Test
+	void testUpdateBeerDispensery_Counts_Conflict_By_Error_Key() {
+		
+		when(beerRepository.findWithOpenBeerUsageById(anyLong()))
+						   .thenReturn(Optional.of(beer));
+		UpdateBeerRequestDTO updateBeerRequestDTO = this.updateBeerDispensers();
+		
+		beerUsage.setClosedAt(null);
+		beer.setOpenBeerUsage(beerUsage);
+		
+		assertThrows(ConflictException.class, () -> beerService.updateBeerDispensery(1L, updateBeerRequestDTO));
+		assertThrows(ConflictException.class, () -> beerService.updateBeerDispensery(1L, updateBeerRequestDTO));
+		
+		assertEquals(2, meterRegistry.get(MetricConstants.CONFLICT_COUNTER)
+									 .tag(MetricConstants.TAG_ERROR, ErrorMessageConstants.ERROR_DISPENSER_SAME_AS_PREVOUS_STATUS)
+									 .counter().count());
+	}
+	
 	/**
 	 * Test case for testing "update a beer dispensery when beer dispensery have same status of beer tap like previous status of tap on same beer id" functionality.
 	 *
@@ -285,17 +395,15 @@ public class BeerServiceImplTest {
 		
 		 Long beerId = 2L;
 		
-		 when(beerRepository.findById(anyLong()))
+		 when(beerRepository.findWithOpenBeerUsageById(anyLong()))
 						   .thenReturn(Optional.of(beer));
 		 UpdateBeerRequestDTO updateBeerRequestDTO = this.updateBeerDispensers();
 		 List<BeerUsage> beerUsages = this.getBeerUsages();
 
-		 when(beerUsageRepository.findById(anyLong()))
-		 						 .thenReturn(Optional.of(beerUsage));
 		 beerUsage.setClosedAt(null);
+		 beer.setOpenBeerUsage(beerUsage);
 		 updateBeerRequestDTO.setStatus("close");
-		 when(beerUsageRepository.findByBeer(any(Beer.class)))
-								.thenReturn(beerUsages);
+		 updateBeerRequestDTO.setUpdated_at(beerUsage.getOpenedAt().plusSeconds(10));
 		 
 		 beerService.updateBeerDispensery(beerId, updateBeerRequestDTO);
 		 assertDoesNotThrow(() -> new EntityNotFoundException());
@@ -306,8 +414,50 @@ public class BeerServiceImplTest {
 		 assertNotNull(beerUsages.get(0).getOpenedAt());
 		 assertNotNull(beerUsages.get(0).getClosedAt());
          assertNotNull(beerUsages.get(0).getId());
+         assertEquals(BigDecimal.valueOf(10*12.25*beer.getFlow_volume()), beerUsages.get(0).getTotalSpent());
+         assertNull(beer.getOpenBeerUsage());
 		 
 		 verify(beerUsageRepository, times(1)).save(any(BeerUsage.class));		
+		 verify(beerRepository, times(1)).addToAmount(eq(beer.getId()), eq(beerUsages.get(0).getTotalSpent()));
+		 verify(spendingRollupService, times(1)).addUsages(eq(Collections.singletonList(beerUsage)));
+		 verify(dispenserRankingService, times(1)).updateAmount(eq(beer.getId()));
+	}
+	
+	/**
+	 * Test case for testing "update a beer dispensery when closing time of beer tap is before opening time" functionality.
+	 *
+	 * <p>
+	 * 	This test case is for testing the business logic of update a beer dispensery when closing time of beer tap is before opening time.
+	 *
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#updateBeerDispensery updateBeerDispensery}. 
+	 * </p>
+	 */
+	@Test
+	void testUpdateBeerDispensery_When_ClosedAt_Is_Before_Than_OpenedAt() {
+		
+		 Long beerId = 2L;
+		
+		 when(beerRepository.findWithOpenBeerUsageById(anyLong()))
+						   .thenReturn(Optional.of(beer));
+		 UpdateBeerRequestDTO updateBeerRequestDTO = this.updateBeerDispensers();
+		 this.getBeerUsages();
+
+		 LocalDateTime fromDate = LocalDateTime.of(2021, 12, 31, 0, 0, 0);
+		 LocalDateTime toDate = LocalDateTime.of(2021, 12, 20, 0, 0, 0);
+		 
+		 beerUsage.setOpenedAt(fromDate);
+		 beerUsage.setClosedAt(null);
+		 beer.setOpenBeerUsage(beerUsage);
+		 updateBeerRequestDTO.setStatus("close");
+		 updateBeerRequestDTO.setUpdated_at(toDate);
+		 
+		 assertThrows(ConflictException.class,
+				 ()->beerService.updateBeerDispensery(beerId, updateBeerRequestDTO)
+				 );
+		 verify(beerUsageRepository, times(0)).save(any(BeerUsage.class));
+		 verify(beerRepository, times(0)).addToAmount(anyLong(), any(BigDecimal.class));
+		 verify(dispenserRankingService, times(0)).updateAmount(anyLong());
 	}
 	
 	/**
@@ -326,14 +476,13 @@ public class BeerServiceImplTest {
 		
 		 Long beerId = 2L;
 		
-		 when(beerRepository.findById(anyLong()))
+		 when(beerRepository.findWithOpenBeerUsageById(anyLong()))
 						   .thenReturn(Optional.of(beer));
 		 UpdateBeerRequestDTO updateBeerRequestDTO = this.updateBeerDispensers();
-		 List<BeerUsage> beerUsages = this.getBeerUsages();
+		 this.getBeerUsages();
 
-		 when(beerUsageRepository.findById(anyLong()))
-		 						 .thenReturn(Optional.of(beerUsage));
-		 beerUsage.setClosedAt(null);
+		 when(beerUsageRepository.existsByBeer(any(Beer.class)))
+		 						 .thenReturn(true);
 		 updateBeerRequestDTO.setStatus("close");
 		
 		 assertThrows(ConflictException.class,
@@ -343,6 +492,138 @@ public class BeerServiceImplTest {
 
 	}
 	
+	/**
+	 * Test case for testing "update a beer dispensery when it is changed concurrently" functionality.
+	 *
+	 * <p>
+	 * 	This test case is for testing the business logic of retrying update of a beer dispensery when its version is changed by another transaction.
+	 *
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#updateBeerDispensery updateBeerDispensery}. 
+	 * </p>
+	 */
+	@Test
+	void testUpdateBeerDispensery_When_Beer_Is_Changed_Concurrently() {
+		
+		 Long beerId = 2L;
+		 
+		 UpdateBeerRequestDTO updateBeerRequestDTO = this.updateBeerDispensers();
+		 when(beerRepository.findWithOpenBeerUsageById(anyLong()))
+		 				   .thenThrow(new ObjectOptimisticLockingFailureException(Beer.class, beerId))
+						   .thenReturn(Optional.of(beer));
+		 
+		 beerService.updateBeerDispensery(beerId, updateBeerRequestDTO);
+		 
+		 assertNotNull(beer.getOpenBeerUsage());
+		 verify(beerRepository, times(2)).findWithOpenBeerUsageById(anyLong());
+		 verify(beerUsageRepository, times(1)).save(any(BeerUsage.class));
+	}
+	
+	/**
+	 * Test case for testing "update a beer dispensery when it keeps changing concurrently" functionality.
+	 *
+	 * <p>
+	 * 	This test case is for testing the business logic of giving up update of a beer dispensery after all attempts fail.
+	 *
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#updateBeerDispensery updateBeerDispensery}. 
+	 * </p>
+	 */
+	@Test
+	void testUpdateBeerDispensery_When_Beer_Keeps_Changing_Concurrently() {
+		
+		 Long beerId = 2L;
+		 
+		 UpdateBeerRequestDTO updateBeerRequestDTO = this.updateBeerDispensers();
+		 when(beerRepository.findWithOpenBeerUsageById(anyLong()))
+		 				   .thenThrow(new ObjectOptimisticLockingFailureException(Beer.class, beerId));
+		 
+		 assertThrows(ConflictException.class,
+				 ()->beerService.updateBeerDispensery(beerId, updateBeerRequestDTO)
+				 );
+		 verify(beerRepository, times(3)).findWithOpenBeerUsageById(anyLong());
+		 verify(beerUsageRepository, times(0)).save(any(BeerUsage.class));
+	}
+	
+	/**
+	 * Test case for testing "update many beer dispenseries from tap events" functionality.
+	 *
+	 * <p>
+	 * 	This test case is for testing the business logic of applying an ordered list of tap events, 
+	 * 	where some events are rejected and others are applied.
+	 *
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#updateBeerDispenseries updateBeerDispenseries}. 
+	 * </p>
+	 */
+	@Test
+	void testUpdateBeerDispenseries() {
+		
+		 LocalDateTime openedAt = LocalDateTime.of(2022, 12, 20, 20, 0, 0);
+		 List<TapEventRequestDTO> tapEventRequestDTOs = new ArrayList<>();
+		 tapEventRequestDTOs.add(new TapEventRequestDTO(1L, "close", openedAt.minusSeconds(5)));
+		 tapEventRequestDTOs.add(new TapEventRequestDTO(1L, "open", openedAt));
+		 tapEventRequestDTOs.add(new TapEventRequestDTO(1L, "open", openedAt.plusSeconds(5)));
+		 tapEventRequestDTOs.add(new TapEventRequestDTO(1L, "close", openedAt.plusSeconds(10)));
+		 tapEventRequestDTOs.add(new TapEventRequestDTO(99L, "open", openedAt));
+		 tapEventRequestDTOs.add(new TapEventRequestDTO(1L, "pour", openedAt));
+		 
+		 List<Beer> beers = new ArrayList<>();
+		 beers.add(beer);
+		 when(beerRepository.findWithOpenBeerUsageByIdIn(any()))
+		 				   .thenReturn(beers);
+		 when(messageSource.getMessage(anyString(), any(), any(Locale.class)))
+		 				   .thenReturn("%s");
+		 
+		 List<TapEventResponseDTO> tapEventResponseDTOs = beerService.updateBeerDispenseries(tapEventRequestDTOs);
+		 
+		 assertEquals(tapEventRequestDTOs.size(), tapEventResponseDTOs.size());
+		 assertEquals(409, tapEventResponseDTOs.get(0).getStatusCode());
+		 assertEquals(202, tapEventResponseDTOs.get(1).getStatusCode());
+		 assertEquals(409, tapEventResponseDTOs.get(2).getStatusCode());
+		 assertEquals(202, tapEventResponseDTOs.get(3).getStatusCode());
+		 assertEquals(404, tapEventResponseDTOs.get(4).getStatusCode());
+		 assertEquals(400, tapEventResponseDTOs.get(5).getStatusCode());
+		 assertNull(tapEventResponseDTOs.get(1).getErrorMessage());
+		 assertNotNull(tapEventResponseDTOs.get(2).getErrorMessage());
+		 assertNull(beer.getOpenBeerUsage());
+		 
+		 verify(beerRepository, times(1)).findWithOpenBeerUsageByIdIn(any());
+		 verify(beerUsageRepository, times(1)).findBeerIdsWithBeerUsage(any());
+		 verify(beerUsageRepository, never()).existsByBeer(any(Beer.class));
+		 verify(beerUsageRepository, times(2)).save(any(BeerUsage.class));
+		 verify(beerRepository, times(1)).addToAmount(eq(beer.getId()), eq(BigDecimal.valueOf(10*12.25*beer.getFlow_volume())));
+		 verify(spendingRollupService, times(1)).addUsages(anyList());
+	}
+	
+	/**
+	 * Test case for testing "update beer dispenseries" functionality.
+	 * 
+	 * <p>
+	 * 	This test case is for testing that an empty or oversized list of tap events is rejected before any lock is taken or beer is read.
+	 *
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#updateBeerDispenseries updateBeerDispenseries}. 
+	 * </p>
+	 */
+	@Test
+	void testUpdateBeerDispenseries_With_Wrong_Number_Of_Events() {
+		
+		 List<TapEventRequestDTO> tapEventRequestDTOs = new ArrayList<>();
+		 for(int i=0;i<501;++i) {
+			 tapEventRequestDTOs.add(new TapEventRequestDTO((long) i, "open", LocalDateTime.of(2022, 12, 20, 20, 0, 0)));
+		 }
+		 
+		 BadRequestException badRequestException = assertThrows(BadRequestException.class, () -> beerService.updateBeerDispenseries(tapEventRequestDTOs));
+		 assertEquals(ErrorMessageConstants.ERROR_INVALID_TAP_EVENT_COUNT, badRequestException.getMessage());
+		 assertEquals(Arrays.asList("501", "500"), badRequestException.getErrorParameters());
+		 
+		 assertThrows(BadRequestException.class, () -> beerService.updateBeerDispenseries(new ArrayList<>()));
+		 
+		 verify(dispenserLocks, never()).getAll(any());
+		 verify(beerRepository, never()).findWithOpenBeerUsageByIdIn(any());
+	}
+	
 	/**
 	 * Test case for testing "fetch beer dispensery details" functionality.
 	 * 
@@ -375,22 +656,22 @@ public class BeerServiceImplTest {
 		assertEquals(beerAndBeerUsageResponseDTO.getUsages().get(0).getOpenedAt(), beerUsage.getOpenedAt());
 		assertEquals(beerAndBeerUsageResponseDTO.getUsages().get(0).getTotalSpent(), beerUsage.getTotalSpent());
 
-		verify(beerRepository, times(1)).save(any(Beer.class));
-		verify(beerUsageRepository, times(1)).saveAll(any(List.class));
+		verify(beerRepository, times(0)).save(any(Beer.class));
+		verify(beerUsageRepository, times(0)).saveAll(any(List.class));
 	}
 	
 	/**
-	 * Test case for testing "when open time is greater than close time" functionality.
+	 * Test case for testing "fetch beer dispensery details when tap is still open" functionality.
 	 * 
 	 * <p>
-	 * 	This test case is for testing the business logic when open time is greater than close time.
+	 * 	This test case is for testing the business logic of fetching beer dispensery details when last beer usage is not closed yet.
 	 * 	
 	 * 	For service layer logic please refer to:
 	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#getBeerDispensery getBeerDispensery}. 
 	 * </p>
 	 */
 	@Test
-	void testGetBeerDispensery_When_OpenedAt_Is_Before_Than_ClosedAt() {
+	void testGetBeerDispensery_When_Tap_Is_Open() {
 		
 		Long beerDispenseryId = 1L;
 		
@@ -398,22 +679,247 @@ public class BeerServiceImplTest {
 						   .thenReturn(Optional.of(beer));
 		 List<BeerUsage> beerUsages = this.getBeerUsages();
 
-		 LocalDateTime fromDate = LocalDateTime.of(2021, 12, 31, 0, 0, 0);
-		 LocalDateTime toDate = LocalDateTime.of(2021, 12, 20, 0, 0, 0);
-		
-		 beerUsage.setOpenedAt(fromDate);
-		 beerUsage.setClosedAt(toDate);
+		 beerUsage.setClosedAt(null);
+		 beerUsage.setTotalSpent(null);
 		 when(beerUsageRepository.findByBeer(any(Beer.class)))
 								.thenReturn(beerUsages);
 
-		assertThrows(EntityNotFoundException.class,
-				     () -> beerService.getBeerDispensery(beerDispenseryId)
-					);
+		BeerAndBeerUsageResponseDTO beerAndBeerUsageResponseDTO = beerService.getBeerDispensery(beerDispenseryId);
+		
+		assertEquals(beer.getAmount().add(BigDecimal.valueOf(1.23)), beerAndBeerUsageResponseDTO.getAmount());
+		assertEquals(BigDecimal.valueOf(1.23), beerAndBeerUsageResponseDTO.getUsages().get(0).getTotalSpent());
+		assertEquals(null, beerUsage.getTotalSpent());
 		
 		verify(beerRepository, times(0)).save(any(Beer.class));
 		verify(beerUsageRepository, times(0)).saveAll(any(List.class));
 	}
 	
+	/**
+	 * Test case for testing "fetch attributes of beer dispensery" functionality.
+	 * 
+	 * <p>
+	 * 	This test case is for testing that attributes of an existing beer dispensery are returned 
+	 * 	and a beer dispensery which doesn't exists is not found.
+	 * 	
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#findMetadataById findMetadataById}. 
+	 * </p>
+	 */
+	@Test
+	void testFindMetadataById() {
+		
+		when(beerRepository.findMetadataById(1L))
+						   .thenReturn(Optional.of(new DispenserMetadata(1L, beer.getFlow_volume())));
+		when(beerRepository.findMetadataById(2L))
+						   .thenReturn(Optional.empty());
+		
+		DispenserMetadata dispenserMetadata = beerService.findMetadataById(1L);
+		
+		assertEquals(beer.getFlow_volume(), dispenserMetadata.getFlowVolume());
+		assertThrows(EntityNotFoundException.class, () -> beerService.findMetadataById(2L));
+		verify(beerRepository, times(0)).findById(anyLong());
+	}
+	
+	/**
+	 * Test case for testing "fetch amount of beer dispensery" functionality.
+	 * 
+	 * <p>
+	 * 	This test case is for testing that amount is returned from the running total and open beer usage of beer, 
+	 * 	without loading any beer usage.
+	 * 	
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#getBeerDispenseryAmount getBeerDispenseryAmount}. 
+	 * </p>
+	 */
+	@Test
+	void testGetBeerDispenseryAmount() {
+		
+		when(beerRepository.findById(anyLong()))
+						   .thenReturn(Optional.of(beer));
+		beer.setOpenBeerUsage(beerUsage);
+		
+		BeerAndBeerUsageResponseDTO beerAndBeerUsageResponseDTO = beerService.getBeerDispenseryAmount(1L);
+		
+		assertEquals(beer.getAmount().add(BigDecimal.valueOf(1.23)), beerAndBeerUsageResponseDTO.getAmount());
+		assertNull(beerAndBeerUsageResponseDTO.getUsages());
+		verify(beerUsageRepository, times(0)).findByBeer(any(Beer.class));
+	}
+	
+	/**
+	 * Test case for testing "fetch many beer dispenseries" functionality.
+	 * 
+	 * <p>
+	 * 	This test case is for testing that beers and their beer usage are read with one query and grouped by beer, 
+	 * 	in the order of requested ids, and that ids which doesn't exists are reported together.
+	 * 	
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#getBeerDispenseries getBeerDispenseries}. 
+	 * </p>
+	 */
+	@Test
+	void testGetBeerDispenseries() {
+		
+		Beer other = new Beer();
+		other.setId(3L);
+		other.setFlow_volume(0.0653);
+		
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(new Object[] {beer, beerUsage});
+		rows.add(new Object[] {other, null});
+		when(beerRepository.findWithBeerUsagesByIdIn(any(), any(Pageable.class)))
+						   .thenReturn(rows);
+		
+		List<DispenserSpendingResponseDTO> dispenserSpendingResponseDTOs = beerService.getBeerDispenseries(Arrays.asList(3L, 1L, 3L), true);
+		
+		assertEquals(2, dispenserSpendingResponseDTOs.size());
+		assertEquals(3L, dispenserSpendingResponseDTOs.get(0).getId());
+		assertEquals(BigDecimal.ZERO, dispenserSpendingResponseDTOs.get(0).getAmount());
+		assertEquals(0, dispenserSpendingResponseDTOs.get(0).getUsages().size());
+		assertEquals(beer.getAmount(), dispenserSpendingResponseDTOs.get(1).getAmount());
+		assertEquals(beerUsage.getTotalSpent(), dispenserSpendingResponseDTOs.get(1).getUsages().get(0).getTotalSpent());
+		
+		EntityNotFoundException entityNotFoundException = assertThrows(EntityNotFoundException.class, 
+				() -> beerService.getBeerDispenseries(Arrays.asList(1L, 7L, 3L, 9L), true));
+		assertEquals(Collections.singletonList("7, 9"), entityNotFoundException.getErrorParameters());
+		assertThrows(BadRequestException.class, () -> beerService.getBeerDispenseries(new ArrayList<>(), false));
+		
+		verify(beerRepository, times(1)).findWithBeerUsagesByIdIn(any(), eq(PageRequest.of(0, 503)));
+		verify(beerRepository, times(1)).findWithBeerUsagesByIdIn(any(), eq(PageRequest.of(0, 505)));
+		verify(beerRepository, times(0)).findById(anyLong());
+		verify(beerUsageRepository, times(0)).findByBeer(any(Beer.class));
+	}
+	
+	/**
+	 * Test case for testing "fetch many beer dispenseries" functionality.
+	 * 
+	 * <p>
+	 * 	This test case is for testing that usages of many beer dispenseries are rejected once they are more than a page in all.
+	 * 	
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#getBeerDispenseries getBeerDispenseries}. 
+	 * </p>
+	 */
+	@Test
+	void testGetBeerDispenseries_With_Too_Many_Usages() {
+		
+		List<Object[]> rows = new ArrayList<>();
+		for(int i=0;i<501;++i) {
+			rows.add(new Object[] {beer, beerUsage});
+		}
+		when(beerRepository.findWithBeerUsagesByIdIn(any(), any(Pageable.class)))
+						   .thenReturn(rows);
+		
+		BadRequestException badRequestException = assertThrows(BadRequestException.class, 
+				() -> beerService.getBeerDispenseries(Arrays.asList(1L, 3L), true));
+		
+		assertEquals(ErrorMessageConstants.ERROR_TOO_MANY_DISPENSER_USAGES, badRequestException.getMessage());
+		verify(beerRepository, times(1)).findWithBeerUsagesByIdIn(any(), eq(PageRequest.of(0, 503)));
+	}
+	
+	/**
+	 * Test case for testing "fetch a page of beer dispensery details" functionality.
+	 * 
+	 * <p>
+	 * 	This test case is for testing the business logic of fetching a page of beer usage along with cursor of the next page, 
+	 * 	and then fetching the next page with that cursor.
+	 * 	
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#getBeerDispensery getBeerDispensery}. 
+	 * </p>
+	 */
+	@Test
+	void testGetBeerDispensery_With_Page() {
+		
+		Long beerDispenseryId = 1L;
+		when(beerRepository.findById(anyLong()))
+						   .thenReturn(Optional.of(beer));
+		
+		List<BeerUsage> beerUsages = this.getBeerUsages();
+		BeerUsage openBeerUsage = new BeerUsage();
+		openBeerUsage.setId(3L);
+		openBeerUsage.setOpenedAt(beerUsage.getOpenedAt().plusMinutes(1));
+		openBeerUsage.setBeer(beer);
+		beerUsages.add(openBeerUsage);
+		beer.setOpenBeerUsage(openBeerUsage);
+		
+		when(beerUsageRepository.findByBeerOrderByOpenedAtAscIdAsc(any(Beer.class), any(Pageable.class)))
+								.thenReturn(beerUsages);
+		
+		BeerAndBeerUsageResponseDTO firstPage = beerService.getBeerDispensery(beerDispenseryId, null, 1);
+		
+		assertEquals(1, firstPage.getUsages().size());
+		assertEquals(beerUsage.getTotalSpent(), firstPage.getUsages().get(0).getTotalSpent());
+		assertEquals(beer.getAmount().add(BigDecimal.valueOf(1.23)), firstPage.getAmount());
+		assertNotNull(firstPage.getNextCursor());
+		
+		when(beerUsageRepository.findByBeerAfter(any(Beer.class), eq(beerUsage.getOpenedAt()), eq(beerUsage.getId()), any(Pageable.class)))
+								.thenReturn(beerUsages.subList(1, 2));
+		
+		BeerAndBeerUsageResponseDTO secondPage = beerService.getBeerDispensery(beerDispenseryId, firstPage.getNextCursor(), 1);
+		
+		assertEquals(1, secondPage.getUsages().size());
+		assertEquals(BigDecimal.valueOf(1.23), secondPage.getUsages().get(0).getTotalSpent());
+		assertNull(secondPage.getNextCursor());
+		verify(beerUsageRepository, times(0)).findByBeer(any(Beer.class));
+	}
+	
+	/**
+	 * Test case for testing "fetch a page of beer dispensery details with wrong cursor or limit" functionality.
+	 * 
+	 * <p>
+	 * 	This test case is for testing that a cursor which is not returned by a previous page or a limit out of range is rejected.
+	 * 	
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#getBeerDispensery getBeerDispensery}. 
+	 * </p>
+	 */
+	@Test
+	void testGetBeerDispensery_With_Wrong_Page() {
+		
+		when(beerRepository.findById(anyLong()))
+						   .thenReturn(Optional.of(beer));
+		
+		assertThrows(BadRequestException.class, () -> beerService.getBeerDispensery(1L, "not-a-cursor", 10));
+		assertThrows(BadRequestException.class, () -> beerService.getBeerDispensery(1L, null, 0));
+		assertThrows(BadRequestException.class, () -> beerService.getBeerDispensery(1L, null, 501));
+	}
+	
+	/**
+	 * Test case for testing "stream beer dispensery details" functionality.
+	 * 
+	 * <p>
+	 * 	This test case is for testing that streamed JSON has every beer usage and their amount, every written beer usage is detached and the beer is not read.
+	 * 	
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#writeBeerDispensery writeBeerDispensery}. 
+	 * </p>
+	 * 
+	 * @throws 	Exception
+	 * 			If an error occurs during execution
+	 */
+	@Test
+	void testWriteBeerDispensery() throws Exception {
+		
+		when(beerRepository.findMetadataById(anyLong()))
+						   .thenReturn(Optional.of(new DispenserMetadata(1L, beer.getFlow_volume())));
+		when(entityManager.getReference(Beer.class, 1L))
+						  .thenReturn(beer);
+		List<BeerUsage> beerUsages = this.getBeerUsages();
+		when(beerUsageRepository.streamByBeer(beer))
+								.thenReturn(beerUsages.stream());
+		
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		beerService.writeBeerDispensery(1L, outputStream);
+		
+		JsonNode jsonNode = objectMapper.readTree(outputStream.toByteArray());
+		assertEquals(beerUsage.getTotalSpent(), jsonNode.get("amount").decimalValue());
+		assertEquals(beerUsages.size(), jsonNode.get("usages").size());
+		assertEquals(beerUsage.getTotalSpent(), jsonNode.get("usages").get(0).get("totalSpent").decimalValue());
+		assertEquals(beer.getFlow_volume(), jsonNode.get("usages").get(0).get("flow_volume").doubleValue());
+		verify(entityManager, times(beerUsages.size())).detach(any(BeerUsage.class));
+		verify(beerRepository, times(0)).findById(anyLong());
+	}
+	
 	/**
 	 * Create a data for update beer dispenser.
 	 * 
@@ -438,6 +944,47 @@ public class BeerServiceImplTest {
 		return beerRequestDTO;
 	}
 
+	/**
+	 * Test case for testing "backfill amounts" functionality.
+	 * 
+	 * <p>
+	 * 	This test case is for testing that beer usage closed without total spent are priced, the beer usage of a tap left open 
+	 * 	is recorded on the beer, amount of the beer is replaced by the sum of its closed beer usage, and nothing is done once completed.
+	 * 
+	 * 	For service layer logic please refer to:
+	 * 	{@linkcom.beer.dispenser.apis.service.impl.BeerServiceImpl#backfillAmounts backfillAmounts}. 
+	 * </p>
+	 */
+	@Test
+	void testBackfillAmounts() {
+		
+		 LocalDateTime openedAt = LocalDateTime.of(2022, 12, 20, 20, 0, 0);
+		 BeerUsage unpriced = new BeerUsage(3L, 1, openedAt, openedAt.plusSeconds(10), null, beer);
+		 BeerUsage priced = new BeerUsage(4L, 1, openedAt.plusMinutes(1), openedAt.plusMinutes(1).plusSeconds(20), new BigDecimal("20.43"), beer);
+		 BeerUsage open = new BeerUsage(5L, 1, openedAt.plusMinutes(2), null, BeerPriceConstants.OPEN_USAGE_SPENT, beer);
+		 
+		 when(beerAmountBackfillRepository.existsById(1L)).thenReturn(false);
+		 when(beerUsageRepository.findBeerIdsWithAnyBeerUsage()).thenReturn(Arrays.asList(1L, 2L));
+		 when(beerRepository.findForUpdateById(1L)).thenReturn(Optional.of(beer));
+		 when(beerRepository.findForUpdateById(2L)).thenReturn(Optional.empty());
+		 when(beerUsageRepository.streamByBeer(beer)).thenReturn(Stream.of(unpriced, priced, open));
+		 
+		 beerService.backfillAmounts();
+		 
+		 verify(beerUsageRepository, times(1)).setTotalSpent(3L, new BigDecimal("10.22"));
+		 verify(beerUsageRepository, never()).setTotalSpent(eq(4L), any(BigDecimal.class));
+		 verify(beerRepository, times(1)).setAmount(1L, new BigDecimal("30.65"));
+		 verify(beerRepository, never()).setAmount(eq(2L), any(BigDecimal.class));
+		 verify(dispenserRankingService, times(1)).resetAmount(1L);
+		 verify(beerAmountBackfillRepository, times(1)).save(any(BeerAmountBackfill.class));
+		 assertEquals(open, beer.getOpenBeerUsage());
+		 
+		 when(beerAmountBackfillRepository.existsById(1L)).thenReturn(true);
+		 beerService.backfillAmounts();
+		 
+		 verify(beerUsageRepository, times(1)).findBeerIdsWithAnyBeerUsage();
+	}
+
 	/**
 	 * Fetches beer usage of a beer.
 	 * 
@@ -0,0 +1,239 @@
+package com.beer.dispenser.apis.service.impl.rollup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.beer.dispenser.apis.constants.ErrorMessageConstants;
+import com.beer.dispenser.apis.entity.Beer;
+import com.beer.dispenser.apis.entity.BeerUsage;
+import com.beer.dispenser.apis.entity.SpendingRollup;
+import com.beer.dispenser.apis.entity.SpendingRollupBackfill;
+import com.beer.dispenser.apis.exception.BadRequestException;
+import com.beer.dispenser.apis.models.DispenserMetadata;
+import com.beer.dispenser.apis.models.SpendingGranularity;
+import com.beer.dispenser.apis.repo.BeerAmountBackfillRepository;
+import com.beer.dispenser.apis.repo.BeerRepository;
+import com.beer.dispenser.apis.repo.BeerUsageRepository;
+import com.beer.dispenser.apis.repo.SpendingRollupBackfillRepository;
+import com.beer.dispenser.apis.repo.SpendingRollupRepository;
+import com.beer.dispenser.apis.response.dto.SpendingResponseDTO;
+import com.beer.dispenser.apis.service.impl.SpendingRollupServiceImpl;
+import com.beer.dispenser.apis.utils.DispenserLocks;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.service.impl.SpendingRollupServiceImpl SpendingRollupServiceImpl}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for splitting closed beer usage between hours and days, 
+ * 	for answering spending of a range from the rollups, and for backfilling rollups from existing beer usage.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.service.impl.SpendingRollupServiceImpl
+ * @since	17th October 2026
+ *
+ */
+public class SpendingRollupServiceImplTest {
+
+	@InjectMocks
+	private SpendingRollupServiceImpl spendingRollupService;
+	
+	@Mock
+	private SpendingRollupRepository spendingRollupRepository;
+	
+	@Mock
+	private BeerRepository beerRepository;
+	
+	@Mock
+	private BeerUsageRepository beerUsageRepository;
+	
+	@Mock
+	private SpendingRollupBackfillRepository spendingRollupBackfillRepository;
+	
+	@Mock
+	private BeerAmountBackfillRepository beerAmountBackfillRepository;
+	
+	@Mock
+	private TransactionTemplate transactionTemplate;
+	
+	@Spy
+	private DispenserLocks dispenserLocks = new DispenserLocks(4);
+	
+	private Beer beer;
+	
+	/**
+	 * Used to initialize data before each test case execution.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		
+		beer = new Beer();
+		beer.setId(1L);
+		beer.setFlow_volume(0.0653);
+	}
+	
+	/**
+	 * Test case for testing that a beer usage open across midnight is split between its hours and days in proportion of seconds, 
+	 * and that the parts add up to its total spent.
+	 */
+	@Test
+	void testAddUsages_Splits_Proportionally_Across_Buckets() {
+		
+		BeerUsage beerUsage = new BeerUsage();
+		beerUsage.setBeer(beer);
+		beerUsage.setOpenedAt(LocalDateTime.of(2022, 1, 1, 22, 30, 0));
+		beerUsage.setClosedAt(LocalDateTime.of(2022, 1, 2, 1, 15, 0, 999));
+		beerUsage.setTotalSpent(BigDecimal.valueOf(100));
+		
+		spendingRollupService.addUsages(Collections.singletonList(beerUsage));
+		
+		InOrder inOrder = inOrder(spendingRollupRepository);
+		inOrder.verify(spendingRollupRepository).addToRollup(1L, "HOUR", LocalDateTime.of(2022, 1, 1, 22, 0), new BigDecimal("18.18"), 1800);
+		inOrder.verify(spendingRollupRepository).addToRollup(1L, "HOUR", LocalDateTime.of(2022, 1, 1, 23, 0), new BigDecimal("36.37"), 3600);
+		inOrder.verify(spendingRollupRepository).addToRollup(1L, "HOUR", LocalDateTime.of(2022, 1, 2, 0, 0), new BigDecimal("36.36"), 3600);
+		inOrder.verify(spendingRollupRepository).addToRollup(1L, "HOUR", LocalDateTime.of(2022, 1, 2, 1, 0), new BigDecimal("9.09"), 900);
+		inOrder.verify(spendingRollupRepository).addToRollup(1L, "DAY", LocalDateTime.of(2022, 1, 1, 0, 0), new BigDecimal("54.55"), 5400);
+		inOrder.verify(spendingRollupRepository).addToRollup(1L, "DAY", LocalDateTime.of(2022, 1, 2, 0, 0), new BigDecimal("45.45"), 4500);
+		inOrder.verifyNoMoreInteractions();
+	}
+	
+	/**
+	 * Test case for testing that the backfill replaces rollups of every beer with closed beer usage, 
+	 * from all its beer usage, and is recorded so it is not done again.
+	 */
+	@Test
+	void testBackfill_Rebuilds_Rollups_Once() {
+		
+		BeerUsage closed = new BeerUsage(1L, 1, LocalDateTime.of(2022, 1, 1, 10, 0, 0), LocalDateTime.of(2022, 1, 1, 10, 0, 10), new BigDecimal("8.00"), beer);
+		BeerUsage open = new BeerUsage(2L, 0, LocalDateTime.of(2022, 1, 1, 11, 0, 0), null, null, beer);
+		
+		when(spendingRollupBackfillRepository.existsById(1L)).thenReturn(false);
+		when(beerAmountBackfillRepository.existsById(1L)).thenReturn(true);
+		when(beerUsageRepository.findBeerIdsWithClosedBeerUsage()).thenReturn(Arrays.asList(1L, 2L));
+		when(beerRepository.findForUpdateById(1L)).thenReturn(Optional.of(beer));
+		when(beerRepository.findForUpdateById(2L)).thenReturn(Optional.empty());
+		when(beerUsageRepository.streamByBeer(beer)).thenReturn(Stream.of(closed, open));
+		when(transactionTemplate.execute(any())).thenAnswer(invocation -> invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+		
+		spendingRollupService.backfill();
+		
+		InOrder inOrder = inOrder(spendingRollupRepository, spendingRollupBackfillRepository);
+		inOrder.verify(spendingRollupRepository).deleteByBeerId(1L);
+		inOrder.verify(spendingRollupRepository).addToRollup(1L, "HOUR", LocalDateTime.of(2022, 1, 1, 10, 0), new BigDecimal("8.00"), 10);
+		inOrder.verify(spendingRollupRepository).addToRollup(1L, "DAY", LocalDateTime.of(2022, 1, 1, 0, 0), new BigDecimal("8.00"), 10);
+		inOrder.verify(spendingRollupBackfillRepository).save(any(SpendingRollupBackfill.class));
+		verify(spendingRollupRepository, never()).deleteByBeerId(2L);
+		
+		when(spendingRollupBackfillRepository.existsById(1L)).thenReturn(true);
+		spendingRollupService.backfill();
+		
+		verify(beerUsageRepository).findBeerIdsWithClosedBeerUsage();
+	}
+	
+	/**
+	 * Test case for testing that the backfill waits for total spent of beer usage to be backfilled, and is not recorded meanwhile.
+	 */
+	@Test
+	void testBackfill_Waits_For_Amount_Backfill() {
+		
+		when(spendingRollupBackfillRepository.existsById(1L)).thenReturn(false);
+		when(beerAmountBackfillRepository.existsById(1L)).thenReturn(false);
+		
+		spendingRollupService.backfill();
+		
+		verify(beerUsageRepository, never()).findBeerIdsWithClosedBeerUsage();
+		verify(spendingRollupBackfillRepository, never()).save(any(SpendingRollupBackfill.class));
+	}
+	
+	/**
+	 * Test case for testing that beer usage in the same hour are added with a single statement 
+	 * and that beer usage closed in the second they are opened are left out.
+	 */
+	@Test
+	void testAddUsages_Merges_Usages_Of_Same_Bucket() {
+		
+		BeerUsage first = new BeerUsage(1L, 1, LocalDateTime.of(2022, 1, 1, 10, 0, 0), LocalDateTime.of(2022, 1, 1, 10, 0, 10), new BigDecimal("8.00"), beer);
+		BeerUsage second = new BeerUsage(2L, 1, LocalDateTime.of(2022, 1, 1, 10, 30, 0), LocalDateTime.of(2022, 1, 1, 10, 30, 5), new BigDecimal("4.004"), beer);
+		BeerUsage empty = new BeerUsage(3L, 1, LocalDateTime.of(2022, 1, 1, 11, 0, 0), LocalDateTime.of(2022, 1, 1, 11, 0, 0), BigDecimal.ZERO, beer);
+		
+		spendingRollupService.addUsages(Arrays.asList(first, second, empty));
+		
+		InOrder inOrder = inOrder(spendingRollupRepository);
+		inOrder.verify(spendingRollupRepository).addToRollup(1L, "HOUR", LocalDateTime.of(2022, 1, 1, 10, 0), new BigDecimal("12.00"), 15);
+		inOrder.verify(spendingRollupRepository).addToRollup(1L, "DAY", LocalDateTime.of(2022, 1, 1, 0, 0), new BigDecimal("12.00"), 15);
+		inOrder.verifyNoMoreInteractions();
+	}
+	
+	/**
+	 * Test case for testing that the range is widened to whole buckets and every bucket of the range is returned.
+	 */
+	@Test
+	void testGetSpending() {
+		
+		when(beerRepository.findMetadataById(1L))
+						   .thenReturn(Optional.of(new DispenserMetadata(1L, 0.0653)));
+		when(spendingRollupRepository.findInRange(1L, SpendingGranularity.HOUR, LocalDateTime.of(2022, 1, 1, 10, 0), LocalDateTime.of(2022, 1, 1, 13, 0)))
+								  .thenReturn(Collections.singletonList(new SpendingRollup(1L, SpendingGranularity.HOUR, LocalDateTime.of(2022, 1, 1, 11, 0), new BigDecimal("7.25"), 9)));
+		
+		SpendingResponseDTO spendingResponseDTO = spendingRollupService.getSpending(1L, LocalDateTime.of(2022, 1, 1, 10, 20), LocalDateTime.of(2022, 1, 1, 12, 1), "Hour");
+		
+		assertEquals("HOUR", spendingResponseDTO.getGranularity());
+		assertEquals(LocalDateTime.of(2022, 1, 1, 10, 0), spendingResponseDTO.getFrom());
+		assertEquals(LocalDateTime.of(2022, 1, 1, 13, 0), spendingResponseDTO.getTo());
+		assertEquals(new BigDecimal("7.25"), spendingResponseDTO.getAmount());
+		assertEquals(9, spendingResponseDTO.getPourSeconds());
+		assertEquals(3, spendingResponseDTO.getBuckets().size());
+		assertEquals(new BigDecimal("0.00"), spendingResponseDTO.getBuckets().get(0).getAmount());
+		assertEquals(new BigDecimal("7.25"), spendingResponseDTO.getBuckets().get(1).getAmount());
+		assertEquals(LocalDateTime.of(2022, 1, 1, 12, 0), spendingResponseDTO.getBuckets().get(2).getStart());
+	}
+	
+	/**
+	 * Test case for testing that an unknown granularity, an empty range and a too long range are rejected without reading the database.
+	 */
+	@Test
+	void testGetSpending_With_Wrong_Range() {
+		
+		LocalDateTime from = LocalDateTime.of(2022, 1, 1, 0, 0);
+		
+		BadRequestException badRequestException = assertThrows(BadRequestException.class, 
+				() -> spendingRollupService.getSpending(1L, from, from.plusDays(1), "week"));
+		assertEquals(ErrorMessageConstants.ERROR_INVALID_SPENDING_GRANULARITY, badRequestException.getMessage());
+		
+		badRequestException = assertThrows(BadRequestException.class, 
+				() -> spendingRollupService.getSpending(1L, from, from, "day"));
+		assertEquals(ErrorMessageConstants.ERROR_INVALID_SPENDING_RANGE, badRequestException.getMessage());
+		
+		badRequestException = assertThrows(BadRequestException.class, 
+				() -> spendingRollupService.getSpending(1L, from, from.plusDays(32), "hour"));
+		assertEquals(ErrorMessageConstants.ERROR_INVALID_SPENDING_RANGE, badRequestException.getMessage());
+		
+		verify(beerRepository, never()).findMetadataById(anyLong());
+		verify(spendingRollupRepository, never()).findInRange(anyLong(), any(), any(), any());
+	}
+}
@@ -0,0 +1,55 @@
+package com.beer.dispenser.apis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.utils.BloomFilter BloomFilter}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for never missing an added string and rarely reporting a string which was not added.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.BloomFilter
+ * @since	17th October 2026
+ *
+ */
+public class BloomFilterTest {
+
+	/**
+	 * Test case for testing that every added string is found, and strings which were not added are found about as often as expected.
+	 */
+	@Test
+	void testMightContain() {
+		
+		BloomFilter bloomFilter = new BloomFilter(10000, 0.01);
+		String[] added = new String[10000];
+		
+		assertFalse(bloomFilter.mightContain(UUID.randomUUID().toString()));
+		
+		for(int i = 0; i < added.length; i++) {
+			added[i] = UUID.randomUUID().toString();
+			bloomFilter.put(added[i]);
+		}
+		
+		for(String tokenId : added) {
+			assertTrue(bloomFilter.mightContain(tokenId));
+		}
+		
+		int falsePositives = 0;
+		
+		for(int i = 0; i < 100000; i++) {
+			if(bloomFilter.mightContain(UUID.randomUUID().toString())) {
+				falsePositives++;
+			}
+		}
+		
+		assertTrue(falsePositives < 2000, "False positives : " + falsePositives);
+	}
+}
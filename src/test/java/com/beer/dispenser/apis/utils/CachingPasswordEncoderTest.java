@@ -0,0 +1,75 @@
+package com.beer.dispenser.apis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.utils.CachingPasswordEncoder CachingPasswordEncoder}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for caching successful password verifications only.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.CachingPasswordEncoder
+ * @since	17th October 2026
+ *
+ */
+public class CachingPasswordEncoderTest {
+
+	private PasswordEncoder bCryptPasswordEncoder;
+	
+	private CachingPasswordEncoder cachingPasswordEncoder;
+	
+	/**
+	 * Used to initialize data before each test case execution.
+	 */
+	@BeforeEach
+	void setUp() {
+		bCryptPasswordEncoder = spy(new BCryptPasswordEncoder(4));
+		cachingPasswordEncoder = new CachingPasswordEncoder(bCryptPasswordEncoder, 100, 60);
+	}
+	
+	/**
+	 * Test case for testing that a successful verification is done by BCrypt once and then cached.
+	 */
+	@Test
+	void testMatches_Caches_Successful_Verification() {
+		
+		String encodedPassword = cachingPasswordEncoder.encode("Sanchay@1234");
+		
+		assertTrue(cachingPasswordEncoder.matches("Sanchay@1234", encodedPassword));
+		assertTrue(cachingPasswordEncoder.matches("Sanchay@1234", encodedPassword));
+		
+		verify(bCryptPasswordEncoder, times(1)).matches(any(), anyString());
+		assertEquals(1, cachingPasswordEncoder.getVerifications().stats().hitCount());
+	}
+	
+	/**
+	 * Test case for testing that a wrong password and a changed password are always verified by BCrypt.
+	 */
+	@Test
+	void testMatches_Does_Not_Cache_Failed_Or_Changed_Password() {
+		
+		String encodedPassword = cachingPasswordEncoder.encode("Sanchay@1234");
+		
+		assertFalse(cachingPasswordEncoder.matches("wrong", encodedPassword));
+		assertFalse(cachingPasswordEncoder.matches("wrong", encodedPassword));
+		assertTrue(cachingPasswordEncoder.matches("Sanchay@1234", encodedPassword));
+		assertFalse(cachingPasswordEncoder.matches("Sanchay@1234", cachingPasswordEncoder.encode("Changed@1234")));
+		
+		verify(bCryptPasswordEncoder, times(4)).matches(any(), anyString());
+	}
+}
@@ -0,0 +1,97 @@
+package com.beer.dispenser.apis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.beer.dispenser.apis.models.DispenserAmount;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.utils.DispenserLeaderboard DispenserLeaderboard}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for keeping dispenseries ordered by amount while their amount is set.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.DispenserLeaderboard
+ * @since	17th October 2026
+ *
+ */
+public class DispenserLeaderboardTest {
+
+	/**
+	 * Test case for testing that the top dispenseries are ordered by amount then id, and move up when their amount is set.
+	 */
+	@Test
+	void testTop() {
+		
+		DispenserLeaderboard dispenserLeaderboard = new DispenserLeaderboard();
+		dispenserLeaderboard.setAmount(1L, new BigDecimal("10.00"));
+		dispenserLeaderboard.setAmount(2L, new BigDecimal("30.00"));
+		dispenserLeaderboard.setAmount(3L, new BigDecimal("10.00"));
+		dispenserLeaderboard.setAmount(4L, new BigDecimal("5.50"));
+		
+		List<DispenserAmount> top = dispenserLeaderboard.top(3);
+		
+		assertEquals(3, top.size());
+		assertEquals(2L, top.get(0).getId());
+		assertEquals(1L, top.get(1).getId());
+		assertEquals(3L, top.get(2).getId());
+		
+		dispenserLeaderboard.setAmount(4L, new BigDecimal("30.01"));
+		top = dispenserLeaderboard.top(10);
+		
+		assertEquals(4, top.size());
+		assertEquals(4, dispenserLeaderboard.size());
+		assertEquals(4L, top.get(0).getId());
+		assertEquals(new BigDecimal("30.01"), top.get(0).getAmount());
+		assertEquals(2L, top.get(1).getId());
+	}
+	
+	/**
+	 * Test case for testing that setting a stale or the same amount again, e.g. by a refresh racing a commit, changes nothing.
+	 */
+	@Test
+	void testSetAmount_Ignores_Stale_And_Repeated_Amount() {
+		
+		DispenserLeaderboard dispenserLeaderboard = new DispenserLeaderboard();
+		dispenserLeaderboard.setAmount(1L, new BigDecimal("20.00"));
+		dispenserLeaderboard.setAmount(2L, new BigDecimal("15.00"));
+		
+		dispenserLeaderboard.setAmount(1L, new BigDecimal("12.00"));
+		dispenserLeaderboard.setAmount(2L, new BigDecimal("15.00"));
+		
+		List<DispenserAmount> top = dispenserLeaderboard.top(10);
+		
+		assertEquals(2, top.size());
+		assertEquals(1L, top.get(0).getId());
+		assertEquals(new BigDecimal("20.00"), top.get(0).getAmount());
+		assertEquals(2L, top.get(1).getId());
+		assertEquals(new BigDecimal("15.00"), top.get(1).getAmount());
+	}
+	
+	/**
+	 * Test case for testing that a recomputed amount replaces a higher one, and a dispensery without amount is removed.
+	 */
+	@Test
+	void testResetAmount() {
+		
+		DispenserLeaderboard dispenserLeaderboard = new DispenserLeaderboard();
+		dispenserLeaderboard.setAmount(1L, new BigDecimal("20.00"));
+		dispenserLeaderboard.setAmount(2L, new BigDecimal("15.00"));
+		
+		dispenserLeaderboard.resetAmount(1L, new BigDecimal("12.00"));
+		dispenserLeaderboard.resetAmount(2L, BigDecimal.ZERO);
+		
+		List<DispenserAmount> top = dispenserLeaderboard.top(10);
+		
+		assertEquals(1, top.size());
+		assertEquals(1, dispenserLeaderboard.size());
+		assertEquals(new BigDecimal("12.00"), top.get(0).getAmount());
+	}
+}
@@ -0,0 +1,104 @@
+package com.beer.dispenser.apis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.beer.dispenser.apis.constants.WebSecurityConstants;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.UnsupportedJwtException;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.utils.Hs256TokenVerifier Hs256TokenVerifier}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for verifying tokens the same way as jjwt.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.Hs256TokenVerifier
+ * @since	17th October 2026
+ *
+ */
+public class Hs256TokenVerifierTest {
+
+	private Hs256TokenVerifier hs256TokenVerifier;
+	
+	/**
+	 * Used to initialize data before each test case execution.
+	 */
+	@BeforeEach
+	void setUp() {
+		hs256TokenVerifier = new Hs256TokenVerifier(WebSecurityConstants.SECRET_KEY);
+	}
+	
+	/**
+	 * Test case for testing that claims of a token signed by jjwt are read, also with a non canonical header.
+	 */
+	@Test
+	void testVerify_Token_Signed_By_Jjwt() {
+		
+		Date expiration = new Date((System.currentTimeMillis() / 1000 + 60) * 1000);
+		
+		Claims claims = hs256TokenVerifier.verify(this.createToken("Sanchay", expiration));
+		
+		assertEquals("Sanchay", claims.getSubject());
+		assertEquals(expiration, claims.getExpiration());
+		
+		String typedToken = Jwts.builder().setHeaderParam("typ", "JWT").setSubject("Sanchay").setExpiration(expiration)
+				.signWith(SignatureAlgorithm.HS256, WebSecurityConstants.SECRET_KEY).compact();
+		
+		assertEquals("Sanchay", hs256TokenVerifier.verify(typedToken).getSubject());
+	}
+	
+	/**
+	 * Test case for testing that tokens with a tampered payload, another key or another algorithm are rejected.
+	 */
+	@Test
+	void testVerify_Rejects_Tampered_Tokens() {
+		
+		Date expiration = new Date(System.currentTimeMillis() + 60000);
+		String token = this.createToken("Sanchay", expiration);
+		String otherToken = this.createToken("Someone", expiration);
+		
+		String tamperedToken = token.substring(0, token.indexOf('.')) + otherToken.substring(otherToken.indexOf('.'), otherToken.lastIndexOf('.')) 
+				+ token.substring(token.lastIndexOf('.'));
+		String otherKeyToken = Jwts.builder().setSubject("Sanchay").setExpiration(expiration)
+				.signWith(SignatureAlgorithm.HS256, "b3RoZXJTZWNyZXRLZXk=").compact();
+		String unsignedToken = Jwts.builder().setSubject("Sanchay").setExpiration(expiration).compact();
+		String hs512Token = Jwts.builder().setSubject("Sanchay").setExpiration(expiration)
+				.signWith(SignatureAlgorithm.HS512, WebSecurityConstants.SECRET_KEY).compact();
+		
+		assertThrows(SignatureException.class, () -> hs256TokenVerifier.verify(tamperedToken));
+		assertThrows(SignatureException.class, () -> hs256TokenVerifier.verify(otherKeyToken));
+		assertThrows(UnsupportedJwtException.class, () -> hs256TokenVerifier.verify(unsignedToken));
+		assertThrows(UnsupportedJwtException.class, () -> hs256TokenVerifier.verify(hs512Token));
+	}
+	
+	/**
+	 * Test case for testing that an expired token is rejected after its signature is verified.
+	 */
+	@Test
+	void testVerify_Expired_Token() {
+		
+		String token = this.createToken("Sanchay", new Date(System.currentTimeMillis() - 60000));
+		
+		ExpiredJwtException expiredJwtException = assertThrows(ExpiredJwtException.class, () -> hs256TokenVerifier.verify(token));
+		
+		assertEquals("Sanchay", expiredJwtException.getClaims().getSubject());
+	}
+	
+	private String createToken(String subject, Date expiration) {
+		return Jwts.builder().setSubject(subject).setExpiration(expiration).signWith(SignatureAlgorithm.HS256, WebSecurityConstants.SECRET_KEY).compact();
+	}
+}
@@ -0,0 +1,197 @@
+package com.beer.dispenser.apis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.beer.dispenser.apis.constants.WebSecurityConstants;
+import com.beer.dispenser.apis.models.JwtPrincipal;
+import com.beer.dispenser.apis.service.TokenRevocationService;
+import com.beer.dispenser.apis.service.impl.MyUserDetailsService;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.utils.JwtRequestFilter JwtRequestFilter}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for authenticating a request from the user store or from the claims of its token.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.JwtRequestFilter
+ * @since	17th October 2026
+ *
+ */
+public class JwtRequestFilterTest {
+
+	@InjectMocks
+	private JwtRequestFilter jwtRequestFilter;
+	
+	@Mock
+	private MyUserDetailsService myUserDetailsService;
+	
+	@Mock
+	private TokenRevocationService tokenRevocationService;
+	
+	@Spy
+	private Jwtauthorizationfilter jwtauthorizationfilter = new Jwtauthorizationfilter();
+	
+	private UserDetails userDetails;
+	
+	private String token;
+	
+	/**
+	 * Used to initialize data before each test case execution.
+	 * 
+	 * @throws 	Exception
+	 * 			If an error occurs during execution
+	 */
+	@BeforeEach
+	void setUp() throws Exception {
+		MockitoAnnotations.openMocks(this);
+		
+		ReflectionTestUtils.setField(jwtauthorizationfilter, "claimsCacheMaximumSize", 100L);
+		ReflectionTestUtils.setField(jwtauthorizationfilter, "claimsCacheMaxTtlSeconds", 600L);
+		ReflectionTestUtils.setField(jwtauthorizationfilter, "accessTokenTtlSeconds", 900L);
+		jwtauthorizationfilter.init();
+		
+		userDetails = new User("Sanchay", "Sanchay@1234", Collections.singletonList(new SimpleGrantedAuthority("ROLE_BARTENDER")));
+		token = jwtauthorizationfilter.generateToken(userDetails);
+		when(myUserDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
+		
+		ReflectionTestUtils.setField(jwtRequestFilter, "userStateCheckTtlSeconds", 60L);
+		ReflectionTestUtils.setField(jwtRequestFilter, "userStateCheckMaximumSize", 100L);
+	}
+	
+	/**
+	 * Clear authentication of the previous request.
+	 */
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+	
+	/**
+	 * Test case for testing that user store is read on every request when principal is taken from user details.
+	 * 
+	 * @throws 	Exception
+	 * 			If an error occurs during execution
+	 */
+	@Test
+	void testDoFilter_With_User_Details() throws Exception {
+		
+		ReflectionTestUtils.setField(jwtRequestFilter, "principalSource", WebSecurityConstants.PRINCIPAL_SOURCE_USER_DETAILS);
+		jwtRequestFilter.init();
+		
+		this.doFilter();
+		this.doFilter();
+		
+		verify(myUserDetailsService, times(2)).loadUserByUsername("Sanchay");
+	}
+	
+	/**
+	 * Test case for testing that identity and authorities are taken from the token without reading user store.
+	 * 
+	 * @throws 	Exception
+	 * 			If an error occurs during execution
+	 */
+	@Test
+	void testDoFilter_With_Claims() throws Exception {
+		
+		ReflectionTestUtils.setField(jwtRequestFilter, "principalSource", WebSecurityConstants.PRINCIPAL_SOURCE_CLAIMS);
+		jwtRequestFilter.init();
+		
+		Authentication authentication = this.doFilter();
+		
+		assertNotNull(authentication);
+		assertEquals("Sanchay", authentication.getPrincipal());
+		assertEquals("ROLE_BARTENDER", authentication.getAuthorities().iterator().next().getAuthority());
+		verify(myUserDetailsService, times(0)).loadUserByUsername(anyString());
+	}
+	
+	/**
+	 * Test case for testing that user state is read once and cached, and an inactive user is not authenticated.
+	 * 
+	 * @throws 	Exception
+	 * 			If an error occurs during execution
+	 */
+	@Test
+	void testDoFilter_With_Claims_And_User_State_Check() throws Exception {
+		
+		ReflectionTestUtils.setField(jwtRequestFilter, "principalSource", WebSecurityConstants.PRINCIPAL_SOURCE_CLAIMS);
+		ReflectionTestUtils.setField(jwtRequestFilter, "userStateCheckEnabled", true);
+		jwtRequestFilter.init();
+		
+		assertNotNull(this.doFilter());
+		assertNotNull(this.doFilter());
+		verify(myUserDetailsService, times(1)).loadUserByUsername("Sanchay");
+		
+		UserDetails lockedUserDetails = User.withUsername("Locked").password("Locked@1234").authorities("ROLE_BARTENDER").accountLocked(true).build();
+		when(myUserDetailsService.loadUserByUsername("Locked")).thenReturn(lockedUserDetails);
+		token = jwtauthorizationfilter.generateToken(lockedUserDetails);
+		
+		assertNull(this.doFilter());
+	}
+	
+	/**
+	 * Test case for testing that a revoked token is not authenticated.
+	 * 
+	 * @throws 	Exception
+	 * 			If an error occurs during execution
+	 */
+	@Test
+	void testDoFilter_With_Revoked_Token() throws Exception {
+		
+		ReflectionTestUtils.setField(jwtRequestFilter, "principalSource", WebSecurityConstants.PRINCIPAL_SOURCE_CLAIMS);
+		jwtRequestFilter.init();
+		
+		assertNotNull(this.doFilter());
+		
+		when(tokenRevocationService.isRevoked(any(JwtPrincipal.class))).thenReturn(true);
+		
+		assertNull(this.doFilter());
+	}
+	
+	/**
+	 * Run the filter for a request carrying the token.
+	 * 
+	 * @return	Authentication of the request, {@code null} when not authenticated.
+	 * 
+	 * @throws 	Exception
+	 * 			If an error occurs during execution
+	 */
+	private Authentication doFilter() throws Exception {
+		
+		SecurityContextHolder.clearContext();
+		
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer " + token);
+		jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+}
@@ -0,0 +1,115 @@
+package com.beer.dispenser.apis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.beer.dispenser.apis.constants.WebSecurityConstants;
+import com.beer.dispenser.apis.models.JwtPrincipal;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.utils.Jwtauthorizationfilter Jwtauthorizationfilter}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for verifying a JWT once into a principal and reusing the cached principal.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.Jwtauthorizationfilter
+ * @since	17th October 2026
+ *
+ */
+public class JwtauthorizationfilterTest {
+
+	private Jwtauthorizationfilter jwtauthorizationfilter;
+	
+	private UserDetails userDetails;
+	
+	/**
+	 * Used to initialize data before each test case execution.
+	 */
+	@BeforeEach
+	void setUp() {
+		jwtauthorizationfilter = new Jwtauthorizationfilter();
+		ReflectionTestUtils.setField(jwtauthorizationfilter, "claimsCacheMaximumSize", 100L);
+		ReflectionTestUtils.setField(jwtauthorizationfilter, "claimsCacheMaxTtlSeconds", 600L);
+		ReflectionTestUtils.setField(jwtauthorizationfilter, "accessTokenTtlSeconds", 900L);
+		jwtauthorizationfilter.init();
+		
+		userDetails = new User("Sanchay", "Sanchay@1234", new ArrayList<>());
+	}
+	
+	/**
+	 * Test case for testing that a token is verified once into a principal and the principal is reused afterwards.
+	 */
+	@Test
+	void testParsePrincipal_Reuses_Verified_Claims() {
+		
+		String token = jwtauthorizationfilter.generateToken(userDetails);
+		
+		JwtPrincipal jwtPrincipal = jwtauthorizationfilter.parsePrincipal(token);
+		
+		assertEquals(userDetails.getUsername(), jwtPrincipal.getSubject());
+		assertTrue(jwtPrincipal.getExpiration().after(new Date()));
+		assertTrue(jwtPrincipal.getAuthorities().isEmpty());
+		assertTrue(jwtauthorizationfilter.validatePrincipal(jwtPrincipal, userDetails));
+		assertTrue(jwtauthorizationfilter.validateToken(token, userDetails));
+		assertSame(jwtPrincipal, jwtauthorizationfilter.parsePrincipal(token));
+		
+		Cache<?, ?> claimsCache = (Cache<?, ?>) ReflectionTestUtils.getField(jwtauthorizationfilter, "claimsCache");
+		assertEquals(1, claimsCache.stats().missCount());
+		assertEquals(2, claimsCache.stats().hitCount());
+	}
+	
+	/**
+	 * Test case for testing that a principal issued to another user is not valid for the user.
+	 */
+	@Test
+	void testValidatePrincipal_Of_Another_User() {
+		
+		JwtPrincipal jwtPrincipal = jwtauthorizationfilter.parsePrincipal(jwtauthorizationfilter.generateToken(userDetails));
+		
+		assertFalse(jwtauthorizationfilter.validatePrincipal(jwtPrincipal, new User("Other", "Other@1234", new ArrayList<>())));
+	}
+	
+	/**
+	 * Test case for testing that a token with a wrong signature or an expired token is rejected and not cached.
+	 */
+	@Test
+	void testExtractUsername_Rejects_Wrong_Signature_And_Expired_Token() {
+		
+		String token = jwtauthorizationfilter.generateToken(userDetails);
+		String forgedToken = Jwts.builder().setSubject("Sanchay")
+										   .setExpiration(new Date(System.currentTimeMillis() + 60000))
+										   .signWith(SignatureAlgorithm.HS256, "not-the-secret").compact();
+		String expiredToken = Jwts.builder().setSubject("Sanchay")
+											.setExpiration(new Date(System.currentTimeMillis() - 60000))
+											.signWith(SignatureAlgorithm.HS256, WebSecurityConstants.SECRET_KEY).compact();
+		
+		jwtauthorizationfilter.extractUsername(token);
+		
+		assertThrows(SignatureException.class, () -> jwtauthorizationfilter.extractUsername(forgedToken));
+		assertThrows(ExpiredJwtException.class, () -> jwtauthorizationfilter.extractUsername(expiredToken));
+		
+		Cache<?, ?> claimsCache = (Cache<?, ?>) ReflectionTestUtils.getField(jwtauthorizationfilter, "claimsCache");
+		assertEquals(1, claimsCache.estimatedSize());
+	}
+}
@@ -0,0 +1,84 @@
+package com.beer.dispenser.apis.utils;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+/**
+ * Assertion failing a test when code executes more SQL statements than its declared budget.
+ *
+ * <p>
+ * 	Statements are counted by {@code QueryStatistics}, so only the statements Hibernate executes on the test thread are counted,
+ * 	which includes a request performed with {@code MockMvc}. The failure message lists the SQL of every statement,
+ * 	so an N+1, e.g. beer usage loaded one by one, is visible in the test report.
+ * </p>
+ *
+ * @author	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.QueryStatistics
+ * @since	17th October 2026
+ */
+public final class QueryBudget {
+
+	private QueryBudget() {
+	}
+
+	/**
+	 * Execute {@code action} and fail when it executes more than {@code maxStatements} statements.
+	 *
+	 * @param	<T>
+	 * 			Result type of the action.
+	 *
+	 * @param	maxStatements
+	 * 			Budget of statements.
+	 *
+	 * @param	action
+	 * 			Code to execute, e.g. a request performed with {@code MockMvc}.
+	 *
+	 * @return	Result of the action.
+	 *
+	 * @throws	Throwable
+	 * 			If action throws.
+	 */
+	public static <T> T assertStatementsAtMost(int maxStatements, ThrowingSupplier<T> action) throws Throwable {
+
+		try(QueryStatistics queryStatistics = QueryStatistics.open(true)) {
+
+			T result = action.get();
+
+			if(queryStatistics.getStatementCount() > maxStatements) {
+				fail(describe(maxStatements, queryStatistics));
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * Describe statements exceeding a budget.
+	 *
+	 * @param	maxStatements
+	 * 			Budget of statements.
+	 *
+	 * @param	queryStatistics
+	 * 			Counts and SQL of the statements.
+	 *
+	 * @return	Failure message.
+	 */
+	private static String describe(int maxStatements, QueryStatistics queryStatistics) {
+
+		StringBuilder message = new StringBuilder()
+				.append("Expected at most ").append(maxStatements).append(" statements but ")
+				.append(queryStatistics.getStatementCount()).append(" were executed, loading ")
+				.append(queryStatistics.getEntityLoadCount()).append(" entities:");
+
+		List<String> statements = queryStatistics.getStatements();
+
+		for(int i = 0; i < statements.size(); i++) {
+			message.append(System.lineSeparator()).append(i + 1).append(". ").append(statements.get(i));
+		}
+
+		return message.toString();
+	}
+}
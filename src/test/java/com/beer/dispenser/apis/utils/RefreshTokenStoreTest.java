@@ -0,0 +1,86 @@
+package com.beer.dispenser.apis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.beer.dispenser.apis.models.RefreshTokenGrant;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for 
+ * {@link com.beer.dispenser.apis.utils.RefreshTokenStore RefreshTokenStore}.
+ * 
+ * <p>
+ * 	This class contains the Junit test cases for issuing and redeeming single use refresh tokens.
+ * </p>
+ * 
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.RefreshTokenStore
+ * @since	17th October 2026
+ *
+ */
+public class RefreshTokenStoreTest {
+
+	private RefreshTokenStore refreshTokenStore;
+	
+	/**
+	 * Used to initialize data before each test case execution.
+	 */
+	@BeforeEach
+	void setUp() {
+		refreshTokenStore = new RefreshTokenStore();
+		ReflectionTestUtils.setField(refreshTokenStore, "maximumSize", 100L);
+		ReflectionTestUtils.setField(refreshTokenStore, "ttlSeconds", 60L);
+		refreshTokenStore.init();
+	}
+	
+	/**
+	 * Test case for testing that a refresh token is redeemed once only, and a new one is different.
+	 */
+	@Test
+	void testRedeem_Refresh_Token_Once() {
+		
+		String refreshToken = refreshTokenStore.issue(refreshTokenStore.createGrant("Sanchay", Collections.singletonList("ROLE_BARTENDER")));
+		String otherRefreshToken = refreshTokenStore.issue(refreshTokenStore.createGrant("Sanchay", Collections.emptyList()));
+		
+		RefreshTokenGrant refreshTokenGrant = refreshTokenStore.redeem(refreshToken);
+		
+		assertNotEquals(refreshToken, otherRefreshToken);
+		assertEquals("Sanchay", refreshTokenGrant.getUserName());
+		assertEquals(Collections.singletonList("ROLE_BARTENDER"), refreshTokenGrant.getAuthorities());
+		assertNull(refreshTokenStore.redeem(refreshToken));
+		assertEquals("Sanchay", refreshTokenStore.redeem(otherRefreshToken).getUserName());
+	}
+	
+	/**
+	 * Test case for testing that a rotated refresh token keeps the family and expiry of the login, and is not redeemed once it passed.
+	 */
+	@Test
+	void testRedeem_Rotated_Refresh_Token_Expires_With_Login() {
+		
+		RefreshTokenGrant refreshTokenGrant = refreshTokenStore.createGrant("Sanchay", Collections.emptyList());
+		RefreshTokenGrant rotatedRefreshTokenGrant = refreshTokenStore.redeem(refreshTokenStore.issue(refreshTokenGrant));
+		
+		assertEquals(refreshTokenGrant.getExpiresAt(), rotatedRefreshTokenGrant.getExpiresAt());
+		assertEquals(refreshTokenGrant.getFamilyId(), rotatedRefreshTokenGrant.getFamilyId());
+		
+		String expiredRefreshToken = refreshTokenStore.issue(new RefreshTokenGrant("Sanchay", Collections.emptyList(), "family", Instant.now().minusSeconds(1)));
+		assertNull(refreshTokenStore.redeem(expiredRefreshToken));
+	}
+	
+	/**
+	 * Test case for testing that an unknown refresh token is not redeemed.
+	 */
+	@Test
+	void testRedeem_Unknown_Refresh_Token() {
+		
+		assertNull(refreshTokenStore.redeem("unknown"));
+	}
+}
@@ -0,0 +1,102 @@
+package com.beer.dispenser.apis.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.beer.dispenser.apis.models.SqlTrace;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Class containing JUnit Jupiter/5 test cases for
+ * {@link com.beer.dispenser.apis.utils.SqlTraceListener SqlTraceListener}.
+ *
+ * <p>
+ * 	This class contains the Junit test cases for keeping slow SQL executions, with their bind parameters, in the ring buffer.
+ * </p>
+ *
+ * @author 	Sanchay Yadav
+ * @see		com.beer.dispenser.apis.utils.SqlTraceListener
+ * @since	17th October 2026
+ *
+ */
+public class SqlTraceListenerTest {
+
+	private SqlTraceListener sqlTraceListener;
+
+	/**
+	 * Used to initialize data before each test case execution.
+	 */
+	@BeforeEach
+	void setUp() {
+		sqlTraceListener = new SqlTraceListener();
+		ReflectionTestUtils.setField(sqlTraceListener, "sampleRate", 0.0);
+		ReflectionTestUtils.setField(sqlTraceListener, "slowThresholdMillis", 100L);
+		ReflectionTestUtils.setField(sqlTraceListener, "queueCapacity", 10);
+		ReflectionTestUtils.setField(sqlTraceListener, "slowBufferSize", 2);
+		ReflectionTestUtils.setField(sqlTraceListener, "logParameters", true);
+		ReflectionTestUtils.setField(sqlTraceListener, "maxParameterLength", 5);
+		sqlTraceListener.init();
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		sqlTraceListener.destroy();
+	}
+
+	/**
+	 * Test case for testing that only slow executions are kept, most recent first and at most the size of the buffer.
+	 */
+	@Test
+	void testAfterQuery_Keeps_Latest_Slow_Queries() throws Exception {
+
+		sqlTraceListener.afterQuery(this.executionInfo(150), this.queryInfo("select 1", "short"));
+		sqlTraceListener.afterQuery(this.executionInfo(10), this.queryInfo("select 2", "short"));
+		sqlTraceListener.afterQuery(this.executionInfo(100), this.queryInfo("select 3", "too long"));
+		sqlTraceListener.afterQuery(this.executionInfo(300), this.queryInfo("select 4", null));
+
+		List<SqlTrace> slowQueries = sqlTraceListener.getSlowQueries();
+
+		assertEquals(2, slowQueries.size());
+		assertEquals(Collections.singletonList("select 4"), slowQueries.get(0).getStatements());
+		assertEquals(300, slowQueries.get(0).getElapsedMillis());
+		assertEquals(Collections.singletonList(Collections.singletonList("NULL")), slowQueries.get(0).getParameters());
+		assertEquals(Collections.singletonList("select 3"), slowQueries.get(1).getStatements());
+		assertEquals(Collections.singletonList(Collections.singletonList("too l...")), slowQueries.get(1).getParameters());
+		assertTrue(slowQueries.get(1).isSuccess());
+	}
+
+	private ExecutionInfo executionInfo(long elapsedMillis) {
+
+		ExecutionInfo executionInfo = new ExecutionInfo();
+		executionInfo.setElapsedTime(elapsedMillis);
+		executionInfo.setSuccess(true);
+		executionInfo.setDataSourceName("dataSource");
+
+		return executionInfo;
+	}
+
+	private List<QueryInfo> queryInfo(String query, String parameter) throws Exception {
+
+		ParameterSetOperation parameterSetOperation = parameter == null
+				? new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class), new Object[] {1, java.sql.Types.VARCHAR})
+				: new ParameterSetOperation(PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[] {1, parameter});
+
+		QueryInfo queryInfo = new QueryInfo(query);
+		queryInfo.getParametersList().add(Arrays.asList(parameterSetOperation));
+
+		return Collections.singletonList(queryInfo);
+	}
+}